@@ -1,5 +1,7 @@
 package com.study.grpc.client.common;
 
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,9 +19,31 @@ public class GlobalExceptionHandler {
 
     /**
      * RuntimeException 처리
+     *
+     * 원인이 gRPC 상태 예외이면 상태 코드에 맞는 HTTP 상태로 응답한다.
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
+        StatusRuntimeException statusException = findStatusException(e);
+        if (statusException != null) {
+            HttpStatus httpStatus = toHttpStatus(statusException.getStatus().getCode());
+            if (httpStatus.is4xxClientError()) {
+                log.warn("gRPC 요청 거부: status={}, description={}",
+                    statusException.getStatus().getCode(), statusException.getStatus().getDescription());
+
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(httpStatus.value())
+                    .error(httpStatus.getReasonPhrase())
+                    .message(statusException.getStatus().getDescription())
+                    .build();
+
+                return ResponseEntity
+                    .status(httpStatus)
+                    .body(errorResponse);
+            }
+        }
+
         log.error("RuntimeException 발생", e);
 
         ErrorResponse errorResponse = ErrorResponse.builder()
@@ -53,6 +77,25 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
 
+    private static StatusRuntimeException findStatusException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatusRuntimeException statusException) {
+                return statusException;
+            }
+        }
+        return null;
+    }
+
+    private static HttpStatus toHttpStatus(Status.Code code) {
+        return switch (code) {
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case ALREADY_EXISTS, ABORTED -> HttpStatus.CONFLICT;
+            case FAILED_PRECONDITION -> HttpStatus.PRECONDITION_FAILED;
+            case INVALID_ARGUMENT -> HttpStatus.BAD_REQUEST;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+    }
+
     /**
      * 에러 응답 DTO
      */
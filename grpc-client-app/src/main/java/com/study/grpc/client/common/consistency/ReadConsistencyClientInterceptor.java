@@ -0,0 +1,48 @@
+package com.study.grpc.client.common.consistency;
+
+import io.grpc.*;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 일관성 메타데이터 클라이언트 인터셉터
+ *
+ * 현재 gRPC Context 가 primary 읽기를 요구하면 x-read-consistency: primary 헤더를 붙인다.
+ * 서버는 이 헤더가 있는 호출의 읽기를 replica 대신 primary 에서 처리한다 (read-your-writes).
+ */
+@Component
+@GrpcGlobalClientInterceptor
+public class ReadConsistencyClientInterceptor implements ClientInterceptor {
+
+    public static final Metadata.Key<String> READ_CONSISTENCY_HEADER =
+        Metadata.Key.of("x-read-consistency", Metadata.ASCII_STRING_MARSHALLER);
+
+    public static final String PRIMARY = "primary";
+
+    private static final Context.Key<Boolean> PRIMARY_READS = Context.key("read-consistency-primary");
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+
+        ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        if (!Boolean.TRUE.equals(PRIMARY_READS.get())) {
+            return call;
+        }
+
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                headers.put(READ_CONSISTENCY_HEADER, PRIMARY);
+                super.start(responseListener, headers);
+            }
+        };
+    }
+
+    /**
+     * 이 Context 에서 보내는 gRPC 호출은 primary 에서 읽도록 요청
+     */
+    public static Context primaryReads() {
+        return Context.current().withValue(PRIMARY_READS, true);
+    }
+}
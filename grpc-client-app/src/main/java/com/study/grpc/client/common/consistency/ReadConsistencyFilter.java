@@ -0,0 +1,40 @@
+package com.study.grpc.client.common.consistency;
+
+import io.grpc.Context;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * REST 요청의 읽기 일관성 헤더 처리
+ *
+ * X-Read-Consistency: primary 로 요청하면 이 요청에서 나가는 gRPC 호출에 primary 읽기를 요청한다.
+ * 방금 쓴 데이터를 바로 다시 읽어야 하는 화면(생성 후 상세 조회 등)에서 사용한다.
+ */
+@Component
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    static final String READ_CONSISTENCY_HEADER = "X-Read-Consistency";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!ReadConsistencyClientInterceptor.PRIMARY.equalsIgnoreCase(request.getHeader(READ_CONSISTENCY_HEADER))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Context context = ReadConsistencyClientInterceptor.primaryReads();
+        Context previous = context.attach();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            context.detach(previous);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.study.grpc.client.common.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 출력 스트림에 UTF-8 JSON 을 직접 쓰는 최소 writer
+ *
+ * 중간 문자열/트리 없이 바이트 버퍼에 바로 인코딩하고, 버퍼가 차면 출력 스트림으로 내보낸다.
+ * 버퍼는 풀에서 빌려 close() 시 반납하므로 응답마다 새로 할당하지 않는다.
+ * 이스케이프 규칙은 Jackson 기본 출력과 같다 (제어 문자만 이스케이프, 비 ASCII 는 그대로 UTF-8).
+ *
+ * 쉼표는 writer 가 관리한다: name()/값 쓰기 전에 필요하면 자동으로 붙는다.
+ */
+public final class JsonByteWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final ArrayBlockingQueue<byte[]> BUFFER_POOL = new ArrayBlockingQueue<>(32);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+    private boolean needsComma;
+
+    private JsonByteWriter(OutputStream out, byte[] buffer) {
+        this.out = out;
+        this.buffer = buffer;
+    }
+
+    public static JsonByteWriter open(OutputStream out) {
+        byte[] buffer = BUFFER_POOL.poll();
+        return new JsonByteWriter(out, buffer != null ? buffer : new byte[BUFFER_SIZE]);
+    }
+
+    public JsonByteWriter beginObject() throws IOException {
+        separate();
+        writeByte('{');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonByteWriter endObject() throws IOException {
+        writeByte('}');
+        needsComma = true;
+        return this;
+    }
+
+    public JsonByteWriter beginArray() throws IOException {
+        separate();
+        writeByte('[');
+        needsComma = false;
+        return this;
+    }
+
+    public JsonByteWriter endArray() throws IOException {
+        writeByte(']');
+        needsComma = true;
+        return this;
+    }
+
+    /**
+     * 필드 이름 쓰기 (이름은 이스케이프가 필요 없는 ASCII 여야 함)
+     */
+    public JsonByteWriter name(String asciiName) throws IOException {
+        separate();
+        ensure(asciiName.length() + 3);
+        buffer[position++] = '"';
+        for (int i = 0; i < asciiName.length(); i++) {
+            buffer[position++] = (byte) asciiName.charAt(i);
+        }
+        buffer[position++] = '"';
+        buffer[position++] = ':';
+        needsComma = false;
+        return this;
+    }
+
+    public JsonByteWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            writeBytes(NULL);
+        } else {
+            writeByte('"');
+            writeEscaped(value);
+            writeByte('"');
+        }
+        needsComma = true;
+        return this;
+    }
+
+    public JsonByteWriter value(long value) throws IOException {
+        separate();
+        if (value == Long.MIN_VALUE) {
+            writeBytes(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            writeLong(value);
+        }
+        needsComma = true;
+        return this;
+    }
+
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    /**
+     * 남은 내용을 내보내고 버퍼 반납 (출력 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        } finally {
+            BUFFER_POOL.offer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void separate() throws IOException {
+        if (needsComma) {
+            writeByte(',');
+            needsComma = false;
+        }
+    }
+
+    private void writeLong(long value) throws IOException {
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+        // 역순으로 쓴 숫자 뒤집기
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    ensure(2);
+                    buffer[position++] = '\\';
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 짝이 없는 서로게이트는 String.getBytes(UTF_8) 와 같이 '?' 로 대체
+                writeByte('?');
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeControl(char c) throws IOException {
+        ensure(6);
+        buffer[position++] = '\\';
+        switch (c) {
+            case '\n' -> buffer[position++] = 'n';
+            case '\r' -> buffer[position++] = 'r';
+            case '\t' -> buffer[position++] = 't';
+            case '\b' -> buffer[position++] = 'b';
+            case '\f' -> buffer[position++] = 'f';
+            default -> {
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (position + bytes > buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.study.grpc.client.common.timing;
+
+import io.grpc.*;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 서버 구간별 소요 시간 표본 수집 클라이언트 인터셉터
+ *
+ * sample-rate 비율의 호출에 x-rpc-timing 헤더를 붙여 서버에 구간별 시간을 요청하고,
+ * 응답 trailer(queue=..;db=..;mapping=..;serialization=..;other=..;total=.., 마이크로초)를
+ * 클라이언트에서 잰 전체 시간과 함께 기록한다. 서버 total 과 클라이언트 시간의 차이가 네트워크/클라이언트 구간이다.
+ */
+@Slf4j
+@Component
+@GrpcGlobalClientInterceptor
+public class RpcTimingClientInterceptor implements ClientInterceptor {
+
+    public static final Metadata.Key<String> RPC_TIMING_KEY =
+        Metadata.Key.of("x-rpc-timing", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final double sampleRate;
+
+    public RpcTimingClientInterceptor(@Value("${user.rpc-timing.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+
+        ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return call;
+        }
+
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                headers.put(RPC_TIMING_KEY, "1");
+                long startedAt = System.nanoTime();
+
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        String breakdown = trailers.get(RPC_TIMING_KEY);
+                        if (breakdown != null) {
+                            log.info("gRPC Client: Phase timing - method={}, status={}, client={}us, server=[{}]",
+                                method.getBareMethodName(), status.getCode(),
+                                (System.nanoTime() - startedAt) / 1_000, breakdown);
+                        }
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+}
@@ -0,0 +1,70 @@
+package com.study.grpc.client.common.transport;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전송 프로필 1개의 이벤트 루프와 채널 빌더 설정
+ *
+ * 이벤트 루프는 모든 채널이 함께 쓰고, 채널이 모두 닫힌 뒤 close() 에서 정리한다.
+ */
+@Slf4j
+final class NettyChannelTransport implements AutoCloseable {
+
+    private final String name;
+    private final TransportProfile profile;
+    private final boolean epoll;
+    private final EventLoopGroup eventLoopGroup;
+
+    NettyChannelTransport(String name, TransportProfile profile) {
+        this.name = name;
+        this.profile = profile;
+        this.epoll = profile.nativeTransport() && Epoll.isAvailable();
+        if (profile.nativeTransport() && !epoll) {
+            log.warn("epoll 을 사용할 수 없어 NIO 로 대체: profile={}, cause={}", name,
+                String.valueOf(Epoll.unavailabilityCause()));
+        }
+
+        int threads = Math.max(0, profile.workerThreads());
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory("grpc-client-" + name, true);
+        this.eventLoopGroup = epoll
+            ? new EpollEventLoopGroup(threads, threadFactory)
+            : new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    void apply(NettyChannelBuilder builder, String channelName) {
+        builder.eventLoopGroup(eventLoopGroup)
+            .channelType(epoll ? EpollSocketChannel.class : NioSocketChannel.class)
+            .maxInboundMessageSize((int) profile.maxInboundMessageSize().toBytes())
+            .maxInboundMetadataSize((int) profile.maxInboundMetadataSize().toBytes());
+
+        int window = (int) profile.flowControlWindow().toBytes();
+        if (profile.autoTuneFlowControl()) {
+            builder.initialFlowControlWindow(window);
+        } else {
+            builder.flowControlWindow(window);
+        }
+
+        log.info("gRPC Client: Transport profile applied - channel={}, profile={}, transport={}, worker={}, window={}{}",
+            channelName, name, epoll ? "epoll" : "nio", profile.workerThreads(), profile.flowControlWindow(),
+            profile.autoTuneFlowControl() ? " (auto)" : "");
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        eventLoopGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+    }
+}
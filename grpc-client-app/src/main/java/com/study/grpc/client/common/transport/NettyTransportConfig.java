@@ -0,0 +1,45 @@
+package com.study.grpc.client.common.transport;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * gRPC 클라이언트 Netty 전송 프로필 선택
+ *
+ * user.transport.profile 에 user.transport.profiles 아래 이름을 지정하면 모든 채널에
+ * 그 프로필의 전송 방식(epoll/NIO), 이벤트 루프 크기, HTTP/2 흐름 제어 창, 수신 크기 제한을 적용한다.
+ * none 이면 grpc-netty 기본값을 그대로 쓴다. 서버의 같은 이름 프로필과 짝을 맞춰 쓰는 것을 전제로 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${user.transport.profile:none}' != 'none'")
+public class NettyTransportConfig {
+
+    @Bean
+    NettyChannelTransport nettyChannelTransport(Environment environment,
+                                                @Value("${user.transport.profile}") String profileName) {
+        TransportProfile profile = Binder.get(environment)
+            .bind("user.transport.profiles." + profileName, TransportProfile.class)
+            .orElseThrow(() -> new IllegalStateException("정의되지 않은 전송 프로필입니다: " + profileName));
+        return new NettyChannelTransport(profileName, profile);
+    }
+
+    @Bean
+    public GrpcChannelConfigurer transportChannelConfigurer(NettyChannelTransport transport) {
+        return (channelBuilder, name) -> {
+            if (channelBuilder instanceof NettyChannelBuilder nettyChannelBuilder) {
+                transport.apply(nettyChannelBuilder, name);
+            } else {
+                log.warn("gRPC Client: Not a Netty channel, transport profile skipped - channel={}, profile={}",
+                    name, transport.getName());
+            }
+        };
+    }
+}
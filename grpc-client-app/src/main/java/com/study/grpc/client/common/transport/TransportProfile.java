@@ -0,0 +1,23 @@
+package com.study.grpc.client.common.transport;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * gRPC 클라이언트 Netty 전송 프로필 (user.transport.profiles.{이름})
+ *
+ * @param nativeTransport        epoll 사용 (리눅스에서 사용할 수 없으면 NIO 로 대체)
+ * @param workerThreads          채널 이벤트 루프 스레드 수 (0 이면 Netty 기본값 = 코어 수 × 2)
+ * @param flowControlWindow      HTTP/2 스트림 흐름 제어 창 크기
+ * @param autoTuneFlowControl    true 면 flowControlWindow 를 초기값으로 두고 BDP 측정으로 자동 조정, false 면 고정
+ * @param maxInboundMessageSize  수신 메시지 최대 크기
+ * @param maxInboundMetadataSize 수신 메타데이터(헤더/trailer) 최대 크기
+ */
+public record TransportProfile(
+        @DefaultValue("true") boolean nativeTransport,
+        @DefaultValue("0") int workerThreads,
+        @DefaultValue("1MB") DataSize flowControlWindow,
+        @DefaultValue("true") boolean autoTuneFlowControl,
+        @DefaultValue("4MB") DataSize maxInboundMessageSize,
+        @DefaultValue("8KB") DataSize maxInboundMetadataSize) {
+}
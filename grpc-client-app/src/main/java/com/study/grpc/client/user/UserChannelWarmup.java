@@ -0,0 +1,228 @@
+package com.study.grpc.client.user;
+
+import com.study.grpc.client.user.shard.UserShardIds;
+import com.study.grpc.client.user.shard.UserShardRegistry;
+import com.study.grpc.proto.*;
+import io.grpc.ConnectivityState;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.channelfactory.GrpcChannelFactory;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * user-service 채널 워밍업 및 readiness 게이트
+ *
+ * 시작 직후 백그라운드에서 채널을 연결하고 메서드별 워밍업 RPC 를 보내
+ * 연결 수립, 스텁 초기화, protobuf 경로 JIT 비용을 첫 사용자 요청 전에 치른다.
+ * 채널이 READY 이고 워밍업 지연(GetUserStats p99)이 목표 이하가 될 때까지 readiness 를 REFUSING_TRAFFIC 으로 유지하고,
+ * 목표에 못 미치면 retry-interval 후 다시 시도한다.
+ *
+ * 샤딩을 쓰면 모든 샤드에 같은 워밍업을 보낸다.
+ * 워밍업 RPC 는 데이터를 바꾸지 않는 요청만 보낸다.
+ * (CreateUser 는 제외, BatchCreateUsers/SyncUsers/SyncUsersBatched 는 빈 스트림)
+ */
+@Slf4j
+@Component
+public class UserChannelWarmup implements ApplicationRunner {
+
+    private static final String CLIENT_NAME = "user-service";
+
+    @GrpcClient(CLIENT_NAME)
+    private UserServiceGrpc.UserServiceBlockingStub blockingStub;
+
+    @GrpcClient(CLIENT_NAME)
+    private UserServiceGrpc.UserServiceStub asyncStub;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final GrpcChannelFactory channelFactory;
+    private final UserShardRegistry shardRegistry;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration latencyTarget;
+    private final Duration rpcTimeout;
+    private final Duration retryInterval;
+
+    private boolean warmedUp;
+
+    public UserChannelWarmup(
+            ApplicationEventPublisher eventPublisher,
+            GrpcChannelFactory channelFactory,
+            UserShardRegistry shardRegistry,
+            @Value("${user.warmup.enabled:true}") boolean enabled,
+            @Value("${user.warmup.iterations:50}") int iterations,
+            @Value("${user.warmup.latency-target:20ms}") Duration latencyTarget,
+            @Value("${user.warmup.rpc-timeout:2s}") Duration rpcTimeout,
+            @Value("${user.warmup.retry-interval:2s}") Duration retryInterval) {
+        this.eventPublisher = eventPublisher;
+        this.channelFactory = channelFactory;
+        this.shardRegistry = shardRegistry;
+        this.enabled = enabled;
+        this.iterations = Math.max(1, iterations);
+        this.latencyTarget = latencyTarget;
+        this.rpcTimeout = rpcTimeout;
+        this.retryInterval = retryInterval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            markWarmedUp();
+            return;
+        }
+        Thread.ofPlatform()
+            .name("user-channel-warmup")
+            .daemon()
+            .start(this::warmUpUntilReady);
+    }
+
+    /**
+     * 워밍업이 끝나기 전에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌면 되돌림
+     * (Spring Boot 는 시작 완료 시점에 ACCEPTING_TRAFFIC 을 발행한다)
+     */
+    @EventListener
+    public synchronized void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && !warmedUp) {
+            log.info("채널 워밍업 전이므로 readiness 를 REFUSING_TRAFFIC 으로 유지");
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    private synchronized void markWarmedUp() {
+        warmedUp = true;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private void warmUpUntilReady() {
+        long startedAt = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long p99Nanos = warmUp();
+                ConnectivityState state = channelFactory.getConnectivityState().get(CLIENT_NAME);
+                boolean channelReady = state == null || state == ConnectivityState.READY;
+
+                if (channelReady && p99Nanos <= latencyTarget.toNanos()) {
+                    log.info("gRPC Client: Warm-up completed - attempt={}, p99={}us, elapsed={}ms",
+                        attempt, p99Nanos / 1_000, (System.nanoTime() - startedAt) / 1_000_000);
+                    markWarmedUp();
+                    return;
+                }
+                log.info("gRPC Client: Warm-up target not met - attempt={}, state={}, p99={}us, target={}ms",
+                    attempt, state, p99Nanos / 1_000, latencyTarget.toMillis());
+
+            } catch (StatusRuntimeException e) {
+                log.warn("gRPC Client: Warm-up failed - attempt={}, status={}", attempt, e.getStatus());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                Thread.sleep(retryInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 메서드별 워밍업 RPC 1회 라운드
+     *
+     * @return GetUserStats 지연 p99 (나노초)
+     */
+    private long warmUp() throws InterruptedException {
+        List<Integer> shardKeys = shardRegistry.routingKeys();
+        long[] latencies = new long[iterations * shardKeys.size()];
+        int measured = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            for (int shardKey : shardKeys) {
+                long startedAt = System.nanoTime();
+                stub(shardKey).getUserStats(GetUserStatsRequest.getDefaultInstance());
+                latencies[measured++] = System.nanoTime() - startedAt;
+
+                // 존재하지 않는 ID 조회 (NOT_FOUND 경로)
+                try {
+                    stub(shardKey).getUser(GetUserRequest.newBuilder().setId(0).build());
+                } catch (StatusRuntimeException e) {
+                    log.trace("Warm-up GetUser: {}", e.getStatus().getCode());
+                }
+                stub(shardKey).batchGetUsers(BatchGetUsersRequest.newBuilder()
+                    .addUsers(UserVersionCheck.newBuilder().setId(0))
+                    .build());
+                // 결과가 없는 페이지를 요청해 서버의 스트리밍 지연 없이 조회 경로만 실행
+                stub(shardKey).getUsers(GetUsersRequest.newBuilder().setPage(1_000_000).setSize(1).build())
+                    .forEachRemaining(response -> { });
+                stub(shardKey).getUsersChangedSince(GetUsersChangedSinceRequest.newBuilder().setLimit(1).build())
+                    .forEachRemaining(response -> { });
+            }
+        }
+
+        for (int shardKey : shardKeys) {
+            emptyStream(observer -> asyncStub(shardKey).batchCreateUsers(observer));
+            emptyStream(observer -> asyncStub(shardKey).syncUsers(observer));
+            emptyStream(observer -> asyncStub(shardKey).syncUsersBatched(observer));
+        }
+
+        Arrays.sort(latencies);
+        return latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+    }
+
+    /**
+     * 요청 없이 바로 닫는 클라이언트/양방향 스트림 (데이터 변경 없음)
+     */
+    private <Req, Res> void emptyStream(Function<StreamObserver<Res>, StreamObserver<Req>> call)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<Req> requests = call.apply(new StreamObserver<>() {
+            @Override
+            public void onNext(Res value) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Warm-up stream failed", t);
+                done.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                done.countDown();
+            }
+        });
+        requests.onCompleted();
+        done.await(rpcTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 채널이 연결될 때까지 기다리는(wait-for-ready) 스텁
+     */
+    private UserServiceGrpc.UserServiceBlockingStub stub(int shardKey) {
+        UserServiceGrpc.UserServiceBlockingStub stub = blockingStub.withWaitForReady()
+            .withDeadlineAfter(rpcTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return shardKey == 0 ? stub : stub.withOption(UserShardIds.SHARD_KEY, shardKey);
+    }
+
+    private UserServiceGrpc.UserServiceStub asyncStub(int shardKey) {
+        UserServiceGrpc.UserServiceStub stub = asyncStub.withWaitForReady()
+            .withDeadlineAfter(rpcTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return shardKey == 0 ? stub : stub.withOption(UserShardIds.SHARD_KEY, shardKey);
+    }
+}
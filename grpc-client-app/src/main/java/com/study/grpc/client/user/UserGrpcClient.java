@@ -1,44 +1,113 @@
 package com.study.grpc.client.user;
 
+import com.google.protobuf.FieldMask;
+import com.study.grpc.client.user.shard.UserShardIds;
+import com.study.grpc.client.user.shard.UserShardRegistry;
 import com.study.grpc.proto.*;
+import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
 
 /**
  * User gRPC 클라이언트
  *
  * gRPC를 통한 User 서비스 호출
+ *
+ * 샤딩(user.sharding.enabled)을 켜면
+ * - 생성은 이메일 consistent hash 로 정한 샤드로, 회원 ID 요청은 ID 에 기록된 샤드로 보낸다
+ *   (멤버십 교체 후에는 이전 소유 샤드에서도 이메일 중복을 확인하고, 이미 있으면 생성하지 않는다)
+ * - 목록/통계는 모든 샤드에 보내고 결과를 합친다
+ * - 응답의 회원 ID 는 샤드 키를 붙인 전역 ID 로 바꿔 반환한다 (UserShardIds)
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class UserGrpcClient {
 
+    private final UserShardRegistry shardRegistry;
+
     @GrpcClient("user-service")
     private UserServiceGrpc.UserServiceBlockingStub blockingStub;
 
     @GrpcClient("user-service")
     private UserServiceGrpc.UserServiceStub asyncStub;
 
+    @Value("${user.fan-out.parallelism:4}")
+    private int fanOutParallelism;
+
+    @Value("${user.fan-out.page-size:500}")
+    private int fanOutPageSize;
+
+    @Value("${user.fan-out.prefetch:64}")
+    private int fanOutPrefetch;
+
     /**
      * 사용자 생성 (Unary RPC)
      */
     public CreateUserResponse createUser(String email, String name, String phoneNumber) {
+        return createUser(email, name, phoneNumber, null);
+    }
+
+    /**
+     * 사용자 생성 (Unary RPC, 멱등 키 지정)
+     *
+     * 같은 멱등 키로 재시도하면 서버는 최초 생성 결과를 그대로 반환한다.
+     */
+    public CreateUserResponse createUser(String email, String name, String phoneNumber, String idempotencyKey) {
         log.info("gRPC Client: Creating user - email={}", email);
 
-        CreateUserRequest request = CreateUserRequest.newBuilder()
+        CreateUserRequest.Builder builder = CreateUserRequest.newBuilder()
             .setEmail(email)
             .setName(name)
-            .setPhoneNumber(phoneNumber)
-            .build();
+            .setPhoneNumber(phoneNumber);
+
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            builder.setIdempotencyKey(idempotencyKey);
+        }
+
+        CreateUserRequest request = builder.build();
 
-        CreateUserResponse response = blockingStub.createUser(request);
-        log.info("gRPC Client: User created - id={}", response.getId());
+        int shardKey = shardRegistry.shardKeyForEmail(email);
+        if (!takenOnPreviousShards(List.of(email)).isEmpty()) {
+            throw Status.ALREADY_EXISTS
+                .withDescription("이미 사용 중인 이메일입니다 (이전 소유 샤드): " + email)
+                .asRuntimeException();
+        }
+        CreateUserResponse response = blockingStub(shardKey).createUser(request);
+        if (shardKey != 0) {
+            response = response.toBuilder()
+                .setId(UserShardIds.globalId(shardKey, response.getId()))
+                .build();
+        }
+        log.info("gRPC Client: User created - id={}, shard={}", response.getId(), shardKey);
 
         return response;
     }
@@ -47,28 +116,221 @@ public class UserGrpcClient {
      * 사용자 조회 (Unary RPC)
      */
     public GetUserResponse getUser(long userId) {
-        log.info("gRPC Client: Getting user - id={}", userId);
+        return getUser(userId, List.of());
+    }
 
-        GetUserRequest request = GetUserRequest.newBuilder()
-            .setId(userId)
-            .build();
+    /**
+     * 사용자 조회 (Unary RPC, 응답 필드 지정)
+     *
+     * @param fields 응답에 채울 proto 필드명 (비어 있으면 전체)
+     */
+    public GetUserResponse getUser(long userId, List<String> fields) {
+        return getUser(userId, fields, null);
+    }
+
+    /**
+     * 사용자 조회 (Unary RPC, 조건부)
+     *
+     * @param fields    응답에 채울 proto 필드명 (비어 있으면 전체)
+     * @param ifVersion 이미 가진 버전 (같으면 not_modified 응답, null 이면 항상 전체 응답)
+     */
+    public GetUserResponse getUser(long userId, List<String> fields, Long ifVersion) {
+        log.info("gRPC Client: Getting user - id={}, fields={}, ifVersion={}", userId, fields, ifVersion);
+
+        int shardKey = shardRegistry.shardKeyForUser(userId);
+        GetUserRequest.Builder builder = GetUserRequest.newBuilder()
+            .setId(localId(shardKey, userId))
+            .setFieldMask(FieldMask.newBuilder().addAllPaths(fields));
+
+        if (ifVersion != null) {
+            builder.setIfVersion(ifVersion);
+        }
 
-        GetUserResponse response = blockingStub.getUser(request);
-        log.info("gRPC Client: User retrieved - email={}", response.getEmail());
+        GetUserResponse response = blockingStub(shardKey).getUser(builder.build());
+        if (shardKey != 0) {
+            response = response.toBuilder().setId(userId).build();
+        }
+        if (response.getNotModified()) {
+            log.info("gRPC Client: User not modified - id={}, version={}", userId, response.getVersion());
+        } else {
+            log.info("gRPC Client: User retrieved - email={}", response.getEmail());
+        }
 
         return response;
     }
 
+    /**
+     * 사용자 일괄 조회 (Unary RPC, 조건부)
+     *
+     * @param knownVersions 회원 ID별 이미 가진 버전 (값이 null 이면 항상 전체 응답)
+     */
+    public BatchGetUsersResponse batchGetUsers(Map<Long, Long> knownVersions, List<String> fields) {
+        log.info("gRPC Client: Batch getting users - count={}", knownVersions.size());
+
+        if (!shardRegistry.isEnabled()) {
+            BatchGetUsersRequest.Builder builder = BatchGetUsersRequest.newBuilder()
+                .setFieldMask(FieldMask.newBuilder().addAllPaths(fields));
+            knownVersions.forEach((id, version) -> builder.addUsers(versionCheck(id, version)));
+
+            BatchGetUsersResponse response = blockingStub.batchGetUsers(builder.build());
+            log.info("gRPC Client: Batch get users completed - returned={}", response.getUsersCount());
+            return response;
+        }
+
+        // 샤드별 요청 (샤드 내 ID → 요청한 ID)
+        Map<Integer, BatchGetUsersRequest.Builder> requests = new LinkedHashMap<>();
+        Map<Integer, Map<Long, Long>> requestedIds = new HashMap<>();
+        knownVersions.forEach((id, version) -> {
+            int shardKey = shardRegistry.shardKeyForUser(id);
+            long localId = localId(shardKey, id);
+            requests.computeIfAbsent(shardKey, key -> BatchGetUsersRequest.newBuilder()
+                    .setFieldMask(FieldMask.newBuilder().addAllPaths(fields)))
+                .addUsers(versionCheck(localId, version));
+            requestedIds.computeIfAbsent(shardKey, key -> new HashMap<>()).put(localId, id);
+        });
+
+        Map<Long, GetUserResponse> found = new HashMap<>();
+        requests.forEach((shardKey, request) -> {
+            Map<Long, Long> ids = requestedIds.get(shardKey);
+            for (GetUserResponse user : blockingStub(shardKey).batchGetUsers(request.build()).getUsersList()) {
+                Long id = ids.get(user.getId());
+                if (id != null) {
+                    found.put(id, user.toBuilder().setId(id).build());
+                }
+            }
+        });
+
+        // 요청 순서 유지
+        BatchGetUsersResponse.Builder response = BatchGetUsersResponse.newBuilder();
+        for (Long id : knownVersions.keySet()) {
+            GetUserResponse user = found.get(id);
+            if (user != null) {
+                response.addUsers(user);
+            }
+        }
+        log.info("gRPC Client: Batch get users completed - returned={}, shards={}",
+            response.getUsersCount(), requests.size());
+        return response.build();
+    }
+
+    /**
+     * 사용자 통계 조회 (Unary RPC)
+     */
+    public GetUserStatsResponse getUserStats() {
+        log.debug("gRPC Client: Getting user stats");
+
+        if (!shardRegistry.isEnabled()) {
+            return blockingStub.getUserStats(GetUserStatsRequest.getDefaultInstance());
+        }
+
+        // 샤드별 통계 합산 (대사 시각은 가장 오래된 샤드 기준)
+        GetUserStatsResponse.Builder merged = GetUserStatsResponse.newBuilder();
+        long reconciledAt = Long.MAX_VALUE;
+        for (int shardKey : shardRegistry.routingKeys()) {
+            GetUserStatsResponse stats = blockingStub(shardKey).getUserStats(GetUserStatsRequest.getDefaultInstance());
+            merged.setTotalCount(merged.getTotalCount() + stats.getTotalCount());
+            stats.getStatusCountsMap().forEach((status, count) ->
+                merged.putStatusCounts(status, merged.getStatusCountsOrDefault(status, 0L) + count));
+            reconciledAt = Math.min(reconciledAt, stats.getReconciledAt());
+        }
+        return merged.setReconciledAt(reconciledAt == Long.MAX_VALUE ? 0 : reconciledAt).build();
+    }
+
+    /**
+     * 사용자 상태 일괄 변경 (Unary RPC, ID 목록)
+     *
+     * 샤딩 시 ID 를 샤드별로 나눠 보내고 결과를 합산한다.
+     */
+    public BulkUpdateUserStatusResponse bulkUpdateUserStatus(List<Long> userIds, String targetStatus) {
+        log.info("gRPC Client: Bulk updating user status - count={}, targetStatus={}", userIds.size(), targetStatus);
+
+        Map<Integer, UserIdList.Builder> idsByShard = new LinkedHashMap<>();
+        for (long id : userIds) {
+            int shardKey = shardRegistry.shardKeyForUser(id);
+            idsByShard.computeIfAbsent(shardKey, key -> UserIdList.newBuilder()).addIds(localId(shardKey, id));
+        }
+
+        BulkUpdateUserStatusResponse.Builder merged = BulkUpdateUserStatusResponse.newBuilder();
+        idsByShard.forEach((shardKey, ids) -> mergeBulkUpdate(merged, blockingStub(shardKey).bulkUpdateUserStatus(
+            BulkUpdateUserStatusRequest.newBuilder()
+                .setIds(ids)
+                .setTargetStatus(targetStatus)
+                .build())));
+
+        log.info("gRPC Client: Bulk update user status completed - matched={}, updated={}",
+            merged.getMatchedCount(), merged.getUpdatedCount());
+        return merged.build();
+    }
+
+    /**
+     * 사용자 상태 일괄 변경 (Unary RPC, 조건)
+     *
+     * @param updatedBefore epoch seconds, 0 이면 조건 없음
+     */
+    public BulkUpdateUserStatusResponse bulkUpdateUserStatus(String currentStatus, long updatedBefore,
+                                                             String targetStatus) {
+        log.info("gRPC Client: Bulk updating user status - currentStatus={}, updatedBefore={}, targetStatus={}",
+            currentStatus, updatedBefore, targetStatus);
+
+        BulkUpdateUserStatusRequest request = BulkUpdateUserStatusRequest.newBuilder()
+            .setFilter(UserStatusFilter.newBuilder()
+                .setStatus(currentStatus)
+                .setUpdatedBefore(updatedBefore))
+            .setTargetStatus(targetStatus)
+            .build();
+
+        BulkUpdateUserStatusResponse.Builder merged = BulkUpdateUserStatusResponse.newBuilder();
+        for (int shardKey : shardRegistry.routingKeys()) {
+            mergeBulkUpdate(merged, blockingStub(shardKey).bulkUpdateUserStatus(request));
+        }
+
+        log.info("gRPC Client: Bulk update user status completed - matched={}, updated={}",
+            merged.getMatchedCount(), merged.getUpdatedCount());
+        return merged.build();
+    }
+
+    private static void mergeBulkUpdate(BulkUpdateUserStatusResponse.Builder merged,
+                                        BulkUpdateUserStatusResponse response) {
+        merged.setMatchedCount(merged.getMatchedCount() + response.getMatchedCount());
+        merged.setUpdatedCount(merged.getUpdatedCount() + response.getUpdatedCount());
+        response.getPreviousStatusCountsMap().forEach((status, count) -> merged.putPreviousStatusCounts(
+            status, merged.getPreviousStatusCountsOrDefault(status, 0L) + count));
+    }
+
     /**
      * 사용자 목록 조회 (Server Streaming RPC)
      */
     public void getUsers(int page, int size) {
-        log.info("gRPC Client: Getting users - page={}, size={}", page, size);
+        getUsers(page, size, null, UserSort.ID_ASC);
+    }
 
-        GetUsersRequest request = GetUsersRequest.newBuilder()
-            .setPage(page)
-            .setSize(size)
-            .build();
+    /**
+     * 사용자 목록 조회 (Server Streaming RPC, 상태 필터/정렬 지정)
+     */
+    public void getUsers(int page, int size, String status, UserSort sort) {
+        getUsers(page, size, status, sort, List.of());
+    }
+
+    /**
+     * 사용자 목록 조회 (Server Streaming RPC, 응답 필드 지정)
+     *
+     * 목록 화면처럼 일부 필드만 필요하면 fields 를 지정해 전송량을 줄인다.
+     */
+    public void getUsers(int page, int size, String status, UserSort sort, List<String> fields) {
+        log.info("gRPC Client: Getting users - page={}, size={}, status={}, sort={}, fields={}",
+            page, size, status, sort, fields);
+
+        if (shardRegistry.isEnabled()) {
+            scatterUsers(page, size, status, sort, fields)
+                .forEach(response ->
+                    log.info("gRPC Client: Received user - id={}, email={}",
+                        response.getId(), response.getEmail())
+                );
+            log.info("gRPC Client: Get users completed");
+            return;
+        }
+
+        GetUsersRequest request = usersRequest(page, size, status, sort, fields);
 
         blockingStub.getUsers(request)
             .forEachRemaining(response ->
@@ -79,6 +341,305 @@ public class UserGrpcClient {
         log.info("gRPC Client: Get users completed");
     }
 
+    /**
+     * 변경분 조회 (Server Streaming RPC)
+     *
+     * 마지막으로 받은 워터마크를 다음 요청에 그대로 넘기면 이어서 변경분을 받을 수 있다.
+     *
+     * @param updatedAfter 이전 워터마크의 updated_after (epoch 마이크로초, 최초 0)
+     * @param cursor       이전 워터마크의 cursor (최초 0)
+     * @return 다음 요청에 사용할 워터마크
+     */
+    public ChangeWatermark getUsersChangedSince(long updatedAfter, long cursor, int limit) {
+        if (shardRegistry.isEnabled()) {
+            throw new IllegalStateException("샤딩 사용 중에는 샤드별로 변경분을 조회해야 합니다");
+        }
+        return getUsersChangedSince(0, updatedAfter, cursor, limit);
+    }
+
+    /**
+     * 샤드 1개의 변경분 조회 (Server Streaming RPC)
+     *
+     * 워터마크 커서는 샤드 내 ID 기준이므로 샤드마다 따로 보관한다. 응답 회원 ID 는 전역 ID 로 기록한다.
+     *
+     * @param shardKey 샤드 키 (샤딩을 쓰지 않으면 0)
+     */
+    public ChangeWatermark getUsersChangedSince(int shardKey, long updatedAfter, long cursor, int limit) {
+        log.info("gRPC Client: Getting changed users - shard={}, updatedAfter={}, cursor={}, limit={}",
+            shardKey, updatedAfter, cursor, limit);
+
+        GetUsersChangedSinceRequest request = GetUsersChangedSinceRequest.newBuilder()
+            .setUpdatedAfter(updatedAfter)
+            .setCursor(cursor)
+            .setLimit(limit)
+            .build();
+
+        ChangeWatermark watermark = ChangeWatermark.newBuilder()
+            .setUpdatedAfter(updatedAfter)
+            .setCursor(cursor)
+            .build();
+
+        var responses = blockingStub(shardKey).getUsersChangedSince(request);
+        while (responses.hasNext()) {
+            GetUsersChangedSinceResponse response = responses.next();
+            if (response.hasWatermark()) {
+                watermark = response.getWatermark();
+            } else {
+                log.info("gRPC Client: Received changed user - id={}, status={}",
+                    UserShardIds.globalId(shardKey, response.getUser().getId()), response.getUser().getStatus());
+            }
+        }
+
+        log.info("gRPC Client: Get changed users completed - watermark=({}, {}), hasMore={}",
+            watermark.getUpdatedAfter(), watermark.getCursor(), watermark.getHasMore());
+        return watermark;
+    }
+
+    /**
+     * 사용자 목록 조회 (Server Streaming RPC, 받은 메시지를 목록으로 반환)
+     */
+    public List<GetUsersResponse> listUsers(int page, int size, String status, UserSort sort, List<String> fields) {
+        log.info("gRPC Client: Listing users - page={}, size={}, status={}, sort={}, fields={}",
+            page, size, status, sort, fields);
+
+        List<GetUsersResponse> users;
+        if (shardRegistry.isEnabled()) {
+            users = scatterUsers(page, size, status, sort, fields);
+        } else {
+            users = new ArrayList<>(Math.min(size, 1_000));
+            blockingStub.getUsers(usersRequest(page, size, status, sort, fields)).forEachRemaining(users::add);
+        }
+
+        log.info("gRPC Client: List users completed - count={}", users.size());
+        return users;
+    }
+
+    /**
+     * 사용자 목록 병렬 조회 (Server Streaming RPC 여러 개를 동시에 열어 Stream 하나로 병합)
+     *
+     * 큰 범위를 user.fan-out.page-size 단위 페이지로 나눠 최대 user.fan-out.parallelism 개의 GetUsers 스트림을
+     * 비동기 스텁으로 동시에 읽는다. 반환된 Stream 은 소비한 만큼만 서버에 더 요청한다 (백프레셔).
+     * 끝까지 읽지 않으면 close 해야 남은 스트림이 취소된다 (try-with-resources 권장).
+     *
+     * @param limit   최대 행 수 (0 이하면 전체)
+     * @param ordered true 면 정렬 기준 순서, false 면 도착 순서 (더 빠름)
+     */
+    public Stream<GetUsersResponse> streamUsers(String status, UserSort sort, List<String> fields,
+                                                long limit, boolean ordered) {
+        return streamUsers(status, sort, fields, limit, ordered, fanOutParallelism);
+    }
+
+    /**
+     * 사용자 목록 병렬 조회 (동시 스트림 수 지정)
+     *
+     * 완료 로그의 rowsPerSec 를 parallelism 별로 비교하면 fan-out 정도에 따른 처리량을 잴 수 있다.
+     */
+    public Stream<GetUsersResponse> streamUsers(String status, UserSort sort, List<String> fields,
+                                                long limit, boolean ordered, int parallelism) {
+        log.info("gRPC Client: Streaming users - status={}, sort={}, fields={}, limit={}, ordered={}, parallelism={}",
+            status, sort, fields, limit, ordered, parallelism);
+
+        boolean merge = ordered && shardRegistry.isEnabled();
+        UserPageFanOut fanOut = new UserPageFanOut(
+            this::asyncStub,
+            shardRegistry.routingKeys(),
+            usersRequest(0, fanOutPageSize, status, sort, merge ? mergeFields(fields) : fields),
+            parallelism,
+            fanOutPrefetch,
+            ordered,
+            limit,
+            usersOrder(sort));
+
+        int characteristics = ordered ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(fanOut, characteristics), false)
+            .onClose(fanOut::close);
+    }
+
+    /**
+     * 모든 샤드에 목록을 요청하고 정렬 순서대로 병합
+     *
+     * 각 샤드에 0 ~ (page + 1) * size 범위를 요청해 정렬 병합한 뒤 page * size 만큼 건너뛴다.
+     * 병합 기준이 되는 id, created_at 은 필드 마스크에 없으면 추가한다.
+     * 필요한 만큼 받으면 나머지 샤드 스트림은 취소한다.
+     */
+    private List<GetUsersResponse> scatterUsers(int page, int size, String status, UserSort sort, List<String> fields) {
+        int window = (int) Math.min(Integer.MAX_VALUE, ((long) page + 1) * size);
+        GetUsersRequest request = usersRequest(0, window, status, sort, mergeFields(fields));
+        Comparator<GetUsersResponse> order = usersOrder(sort);
+
+        Context.CancellableContext scatter = Context.current().withCancellation();
+        try {
+            return scatter.call(() -> {
+                // 샤드 스트림을 모두 연 뒤 (서버는 동시에 처리) 각 스트림의 선두를 우선순위 큐로 병합
+                List<ShardStream> streams = new ArrayList<>();
+                for (int shardKey : shardRegistry.routingKeys()) {
+                    streams.add(new ShardStream(shardKey, blockingStub(shardKey).getUsers(request)));
+                }
+
+                PriorityQueue<ShardStream> heads = new PriorityQueue<>(
+                    Math.max(1, streams.size()), Comparator.comparing(ShardStream::head, order));
+                for (ShardStream stream : streams) {
+                    if (stream.advance()) {
+                        heads.add(stream);
+                    }
+                }
+
+                long skip = (long) page * size;
+                List<GetUsersResponse> users = new ArrayList<>(Math.min(size, 1_000));
+                while (users.size() < size && !heads.isEmpty()) {
+                    ShardStream stream = heads.poll();
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        users.add(stream.head());
+                    }
+                    if (stream.advance()) {
+                        heads.add(stream);
+                    }
+                }
+                return users;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            scatter.cancel(null);
+        }
+    }
+
+    /**
+     * 샤드 병합 기준 필드 (id, created_at) 가 필드 마스크에 없으면 추가
+     */
+    private static List<String> mergeFields(List<String> fields) {
+        if (fields.isEmpty()) {
+            return fields;
+        }
+        List<String> mergeFields = new ArrayList<>(fields);
+        if (!mergeFields.contains("id")) {
+            mergeFields.add("id");
+        }
+        if (!mergeFields.contains("created_at")) {
+            mergeFields.add("created_at");
+        }
+        return mergeFields;
+    }
+
+    /**
+     * 목록 정렬 기준과 같은 순서의 비교자 (같은 값이면 ID 순)
+     */
+    private static Comparator<GetUsersResponse> usersOrder(UserSort sort) {
+        Comparator<GetUsersResponse> byId = Comparator.comparingLong(GetUsersResponse::getId);
+        return switch (sort) {
+            case CREATED_AT_ASC -> Comparator.comparingLong(GetUsersResponse::getCreatedAt).thenComparing(byId);
+            case CREATED_AT_DESC -> Comparator.comparingLong(GetUsersResponse::getCreatedAt).thenComparing(byId).reversed();
+            default -> byId;
+        };
+    }
+
+    private static GetUsersRequest usersRequest(int page, int size, String status, UserSort sort, List<String> fields) {
+        GetUsersRequest.Builder builder = GetUsersRequest.newBuilder()
+            .setPage(page)
+            .setSize(size)
+            .setSort(sort)
+            .setFieldMask(FieldMask.newBuilder().addAllPaths(fields));
+
+        if (status != null && !status.isBlank()) {
+            builder.setStatus(status);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 전체 사용자 내보내기 (Server Streaming RPC, 압축 블록)
+     *
+     * 받은 블록을 압축 해제하지 않고 length-delimited ExportUsersChunk 로 out 에 이어 쓴다.
+     * 블록은 decodeExportChunk 로 각각(병렬로) 해제할 수 있다.
+     *
+     * @param afterId 이어받기 시작 ID (처음이면 0, 중단되었으면 마지막으로 쓴 블록의 last_id)
+     * @return 마지막으로 받은 사용자 ID
+     */
+    public long exportUsers(OutputStream out, String status, long afterId) throws IOException {
+        if (shardRegistry.isEnabled()) {
+            throw new IllegalStateException("샤딩 사용 중에는 샤드별로 내보내야 합니다");
+        }
+        return exportUsers(0, out, status, afterId);
+    }
+
+    /**
+     * 샤드 1개의 사용자 내보내기 (블록 안의 사용자 ID 는 샤드 내 ID)
+     *
+     * @param shardKey 샤드 키 (샤딩을 쓰지 않으면 0)
+     */
+    public long exportUsers(int shardKey, OutputStream out, String status, long afterId) throws IOException {
+        log.info("gRPC Client: Exporting users - shard={}, status={}, afterId={}", shardKey, status, afterId);
+
+        ExportUsersRequest.Builder builder = ExportUsersRequest.newBuilder().setAfterId(afterId);
+        if (status != null && !status.isBlank()) {
+            builder.setStatus(status);
+        }
+
+        long lastId = afterId;
+        long blocks = 0;
+        long users = 0;
+        long bytes = 0;
+
+        // 쓰기 실패 등으로 중단하면 서버 스트림도 취소
+        Context.CancellableContext export = Context.current().withCancellation();
+        Context previous = export.attach();
+        try {
+            Iterator<ExportUsersChunk> chunks = blockingStub(shardKey).exportUsers(builder.build());
+            while (chunks.hasNext()) {
+                ExportUsersChunk chunk = chunks.next();
+                verifyChecksum(chunk);
+                chunk.writeDelimitedTo(out);
+
+                lastId = chunk.getLastId();
+                blocks++;
+                users += chunk.getUserCount();
+                bytes += chunk.getData().size();
+            }
+            out.flush();
+        } finally {
+            export.detach(previous);
+            export.cancel(null);
+        }
+
+        log.info("gRPC Client: Export completed - blocks={}, users={}, compressedBytes={}, lastId={}",
+            blocks, users, bytes, lastId);
+        return lastId;
+    }
+
+    /**
+     * 내보내기 블록 해제 (스레드 안전, 블록 단위 병렬 처리 가능)
+     *
+     * @throws IOException 체크섬이 맞지 않거나 압축 데이터가 손상된 경우
+     */
+    public static List<GetUsersResponse> decodeExportChunk(ExportUsersChunk chunk) throws IOException {
+        verifyChecksum(chunk);
+
+        List<GetUsersResponse> users = new ArrayList<>(chunk.getUserCount());
+        try (InputStream in = new GZIPInputStream(chunk.getData().newInput(), 64 * 1024)) {
+            GetUsersResponse user;
+            while ((user = GetUsersResponse.parseDelimitedFrom(in)) != null) {
+                users.add(user);
+            }
+        }
+        if (users.size() != chunk.getUserCount()) {
+            throw new IOException("내보내기 블록 사용자 수 불일치: sequence=" + chunk.getSequence()
+                + ", expected=" + chunk.getUserCount() + ", actual=" + users.size());
+        }
+        return users;
+    }
+
+    private static void verifyChecksum(ExportUsersChunk chunk) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(chunk.getData().asReadOnlyByteBuffer());
+        if ((int) crc.getValue() != chunk.getCrc32()) {
+            throw new IOException("내보내기 블록 체크섬 불일치: sequence=" + chunk.getSequence());
+        }
+    }
+
     /**
      * 사용자 일괄 생성 (Client Streaming RPC)
      */
@@ -86,10 +647,42 @@ public class UserGrpcClient {
             throws InterruptedException {
         log.info("gRPC Client: Batch creating {} users", requests.size());
 
+        if (!shardRegistry.isEnabled()) {
+            return batchCreateUsers(0, requests);
+        }
+
+        // 샤드별 스트림으로 나눠 보내고 결과 합산 (이전 소유 샤드에 이미 있는 이메일은 서버의 중복과 같이 건너뜀)
+        Set<String> taken = takenOnPreviousShards(requests.stream().map(CreateUserRequest::getEmail).toList());
+        Map<Integer, List<CreateUserRequest>> byShard = new LinkedHashMap<>();
+        for (CreateUserRequest request : requests) {
+            if (taken.contains(request.getEmail())) {
+                log.warn("gRPC Client: Skipping create, email taken on previous shard - email={}", request.getEmail());
+                continue;
+            }
+            byShard.computeIfAbsent(shardRegistry.shardKeyForEmail(request.getEmail()), key -> new ArrayList<>())
+                .add(request);
+        }
+
+        BatchCreateUsersResponse.Builder merged = BatchCreateUsersResponse.newBuilder();
+        for (Map.Entry<Integer, List<CreateUserRequest>> entry : byShard.entrySet()) {
+            BatchCreateUsersResponse response = batchCreateUsers(entry.getKey(), entry.getValue());
+            if (response == null) {
+                return null;
+            }
+            merged.setCreatedCount(merged.getCreatedCount() + response.getCreatedCount());
+            for (long userId : response.getUserIdsList()) {
+                merged.addUserIds(UserShardIds.globalId(entry.getKey(), userId));
+            }
+        }
+        return merged.build();
+    }
+
+    private BatchCreateUsersResponse batchCreateUsers(int shardKey, List<CreateUserRequest> requests)
+            throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
         final BatchCreateUsersResponse[] response = new BatchCreateUsersResponse[1];
 
-        StreamObserver<CreateUserRequest> requestObserver = asyncStub.batchCreateUsers(
+        StreamObserver<CreateUserRequest> requestObserver = asyncStub(shardKey).batchCreateUsers(
             new StreamObserver<>() {
                 @Override
                 public void onNext(BatchCreateUsersResponse value) {
@@ -135,9 +728,127 @@ public class UserGrpcClient {
     public void syncUsers(List<SyncUsersRequest> requests) throws InterruptedException {
         log.info("gRPC Client: Starting user sync with {} requests", requests.size());
 
+        for (Map.Entry<Integer, List<SyncUsersRequest>> entry : syncRequestsByShard(requests).entrySet()) {
+            syncUsers(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 사용자 동기화 (Bidirectional Streaming RPC, 응답 묶음 모드)
+     *
+     * 요청마다 응답을 받지 않고 서버가 묶어 보낸 SyncUsersBatchResponse 로 결과를 받는다.
+     * 서버가 SyncUsersBatched 를 지원하지 않으면 (UNIMPLEMENTED) 요청별 응답 모드로 다시 보낸다.
+     */
+    public void syncUsersBatched(List<SyncUsersRequest> requests) throws InterruptedException {
+        log.info("gRPC Client: Starting batched user sync with {} requests", requests.size());
+
+        for (Map.Entry<Integer, List<SyncUsersRequest>> entry : syncRequestsByShard(requests).entrySet()) {
+            if (!syncUsersBatched(entry.getKey(), entry.getValue())) {
+                log.info("gRPC Client: Batched sync not supported, falling back to SyncUsers - shard={}",
+                    entry.getKey());
+                syncUsers(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * CREATE 는 이메일, 나머지는 회원 ID 로 샤드를 정하고 샤드 내 ID 로 바꿔 샤드별로 나눈다
+     * (이전 소유 샤드에 이미 있는 이메일의 CREATE 는 보내지 않는다)
+     */
+    private Map<Integer, List<SyncUsersRequest>> syncRequestsByShard(List<SyncUsersRequest> requests) {
+        if (!shardRegistry.isEnabled()) {
+            return Map.of(0, requests);
+        }
+
+        Set<String> taken = takenOnPreviousShards(requests.stream()
+            .filter(request -> "CREATE".equals(request.getAction()))
+            .map(SyncUsersRequest::getEmail)
+            .toList());
+        Map<Integer, List<SyncUsersRequest>> byShard = new LinkedHashMap<>();
+        for (SyncUsersRequest request : requests) {
+            int shardKey;
+            if ("CREATE".equals(request.getAction())) {
+                if (taken.contains(request.getEmail())) {
+                    log.warn("gRPC Client: Skipping sync CREATE, email taken on previous shard - email={}",
+                        request.getEmail());
+                    continue;
+                }
+                shardKey = shardRegistry.shardKeyForEmail(request.getEmail());
+            } else {
+                shardKey = shardRegistry.shardKeyForUser(request.getUserId());
+                request = request.toBuilder().setUserId(localId(shardKey, request.getUserId())).build();
+            }
+            byShard.computeIfAbsent(shardKey, key -> new ArrayList<>()).add(request);
+        }
+        return byShard;
+    }
+
+    /**
+     * @return 서버가 SyncUsersBatched 를 지원하지 않으면 false (요청은 처리되지 않음)
+     */
+    private boolean syncUsersBatched(int shardKey, List<SyncUsersRequest> requests) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean unimplemented = new AtomicBoolean();
+
+        StreamObserver<SyncUsersRequest> requestObserver = asyncStub(shardKey).syncUsersBatched(
+            new StreamObserver<>() {
+                @Override
+                public void onNext(SyncUsersBatchResponse batch) {
+                    // 순번은 묶음마다 첫 값부터 차이를 누적해 복원
+                    long sequence = 0;
+                    int created = 0;
+                    for (int i = 0; i < batch.getSequenceDeltasCount(); i++) {
+                        sequence += batch.getSequenceDeltas(i);
+                        if (batch.getCodes(i) == SyncAckCode.SYNC_CREATED) {
+                            log.debug("gRPC Client: Sync created - sequence={}, id={}", sequence,
+                                UserShardIds.globalId(shardKey, batch.getCreatedIds(created++)));
+                        }
+                    }
+                    for (SyncAckError error : batch.getErrorsList()) {
+                        log.warn("gRPC Client: Sync request failed - sequence={}, action={}, message={}",
+                            error.getSequence(), requests.get((int) error.getSequence() - 1).getAction(),
+                            error.getMessage());
+                    }
+                    log.info("gRPC Client: Sync ack batch - acks={}, created={}, errors={}",
+                        batch.getCodesCount(), batch.getCreatedIdsCount(), batch.getErrorsCount());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+                        unimplemented.set(true);
+                    } else {
+                        log.error("gRPC Client: Error in batched sync", t);
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    log.info("gRPC Client: Batched sync completed");
+                    latch.countDown();
+                }
+            }
+        );
+
+        try {
+            for (SyncUsersRequest request : requests) {
+                requestObserver.onNext(request);
+            }
+        } catch (RuntimeException e) {
+            requestObserver.onError(e);
+            throw e;
+        }
+
+        requestObserver.onCompleted();
+        latch.await(10, TimeUnit.SECONDS);
+        return !unimplemented.get();
+    }
+
+    private void syncUsers(int shardKey, List<SyncUsersRequest> requests) throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
 
-        StreamObserver<SyncUsersRequest> requestObserver = asyncStub.syncUsers(
+        StreamObserver<SyncUsersRequest> requestObserver = asyncStub(shardKey).syncUsers(
             new StreamObserver<>() {
                 @Override
                 public void onNext(SyncUsersResponse value) {
@@ -173,5 +884,80 @@ public class UserGrpcClient {
         requestObserver.onCompleted();
         latch.await(10, TimeUnit.SECONDS);
     }
-}
 
+    private static UserVersionCheck versionCheck(long id, Long version) {
+        UserVersionCheck.Builder check = UserVersionCheck.newBuilder().setId(id);
+        if (version != null) {
+            check.setIfVersion(version);
+        }
+        return check.build();
+    }
+
+    /**
+     * 멤버십 교체 전 소유 샤드에 이미 있는 이메일 (샤딩을 쓰지 않거나 재배치가 없었으면 비어 있음)
+     *
+     * 이전 소유 샤드별로 FindTakenEmails 를 한 번씩 보낸다. 이전 소유 샤드가 응답하지 않으면
+     * 중복 여부를 알 수 없으므로 그 오류를 그대로 던져 생성하지 않는다.
+     */
+    private Set<String> takenOnPreviousShards(List<String> emails) {
+        Map<Integer, List<String>> byPreviousShard = new LinkedHashMap<>();
+        for (String email : emails) {
+            for (int shardKey : shardRegistry.previousShardKeysForEmail(email)) {
+                byPreviousShard.computeIfAbsent(shardKey, key -> new ArrayList<>()).add(email);
+            }
+        }
+
+        Set<String> taken = new HashSet<>();
+        byPreviousShard.forEach((shardKey, shardEmails) -> taken.addAll(blockingStub(shardKey)
+            .findTakenEmails(FindTakenEmailsRequest.newBuilder().addAllEmails(shardEmails).build())
+            .getEmailsList()));
+        return taken;
+    }
+
+    /**
+     * 샤드로 보낼 샤드 내 ID (샤딩을 쓰지 않으면 그대로)
+     */
+    private static long localId(int shardKey, long userId) {
+        return shardKey == 0 ? userId : UserShardIds.localId(userId);
+    }
+
+    /**
+     * 샤드 키를 지정한 스텁 (0 이면 샤딩을 쓰지 않는 기본 스텁)
+     */
+    private UserServiceGrpc.UserServiceBlockingStub blockingStub(int shardKey) {
+        return shardKey == 0 ? blockingStub : blockingStub.withOption(UserShardIds.SHARD_KEY, shardKey);
+    }
+
+    private UserServiceGrpc.UserServiceStub asyncStub(int shardKey) {
+        return shardKey == 0 ? asyncStub : asyncStub.withOption(UserShardIds.SHARD_KEY, shardKey);
+    }
+
+    /**
+     * 병합 중인 샤드 목록 스트림 (선두 1건을 전역 ID 로 바꿔 보관)
+     */
+    private static final class ShardStream {
+
+        private final int shardKey;
+        private final Iterator<GetUsersResponse> responses;
+        private GetUsersResponse head;
+
+        ShardStream(int shardKey, Iterator<GetUsersResponse> responses) {
+            this.shardKey = shardKey;
+            this.responses = responses;
+        }
+
+        boolean advance() {
+            if (!responses.hasNext()) {
+                head = null;
+                return false;
+            }
+            GetUsersResponse next = responses.next();
+            head = next.toBuilder().setId(UserShardIds.globalId(shardKey, next.getId())).build();
+            return true;
+        }
+
+        GetUsersResponse head() {
+            return head;
+        }
+    }
+}
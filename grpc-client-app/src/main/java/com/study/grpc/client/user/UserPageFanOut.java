@@ -0,0 +1,439 @@
+package com.study.grpc.client.user;
+
+import com.study.grpc.client.user.shard.UserShardIds;
+import com.study.grpc.proto.GetUsersRequest;
+import com.study.grpc.proto.GetUsersResponse;
+import com.study.grpc.proto.UserServiceGrpc;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+/**
+ * 사용자 목록 병렬 조회 (페이지 단위 fan-out)
+ *
+ * 목록을 page-size 단위 페이지로 나눠 비동기 스텁으로 GetUsers 스트림을 최대 parallelism 개까지 동시에 열고,
+ * 받은 행을 Iterator 하나로 내보낸다.
+ * - 분할: GetUsersRequest 에는 ID 범위 조건이 없으므로 page/size 로 나눈다. 전체 건수를 모르므로 페이지를 차례로 열고,
+ *   size 보다 짧은 페이지가 오면 그 샤드는 더 열지 않는다 (이미 열린 다음 페이지는 빈 스트림으로 끝난다)
+ * - 백프레셔: 스트림마다 자동 요청을 끄고 prefetch 건만 요청한 뒤, 소비자가 1건 꺼낼 때마다 1건을 더 요청한다.
+ *   다 꺼내지 않은 페이지도 열린 스트림으로 세므로 버퍼는 parallelism × prefetch 건을 넘지 않는다
+ * - ordered: 샤드마다 페이지 순서대로 읽고, 샤드가 여럿이면 정렬 기준으로 병합한다
+ *   (병합 중 모든 샤드가 페이지를 하나씩은 열 수 있도록 동시 스트림 수는 최소 샤드 수)
+ * - unordered: 먼저 도착한 행부터 내보낸다
+ * 샤딩을 쓰면 샤드마다 페이지를 나누고 응답 ID 를 전역 ID 로 바꾼다.
+ * 끝까지 읽거나 limit 에 닿으면 남은 스트림을 취소한다. 중간에 그만두면 close() 를 호출해야 한다.
+ */
+@Slf4j
+final class UserPageFanOut implements Iterator<GetUsersResponse>, AutoCloseable {
+
+    private final IntFunction<UserServiceGrpc.UserServiceStub> stubs;
+    private final GetUsersRequest template;
+    private final int pageSize;
+    private final int maxOpen;
+    private final int prefetch;
+    private final boolean ordered;
+    private final long limit;
+    private final Comparator<GetUsersResponse> order;
+    private final List<ShardPages> shards = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final long startedAt = System.nanoTime();
+
+    // lock 으로 보호
+    private int openCount;
+    private int openedPages;
+    private int nextShard;
+    private long totalExpectedRows;
+    private Throwable failure;
+    private boolean closed;
+
+    // 소비자 스레드 전용
+    private PriorityQueue<ShardPages> heads;
+    private GetUsersResponse next;
+    private boolean finished;
+    private long emitted;
+
+    /**
+     * @param template page 를 뺀 요청 (size 가 페이지 크기)
+     * @param limit    최대 행 수 (0 이하면 전체)
+     * @param order    ordered 이고 샤드가 여럿일 때 병합 기준 (전역 ID 기준)
+     */
+    UserPageFanOut(IntFunction<UserServiceGrpc.UserServiceStub> stubs, List<Integer> shardKeys,
+                   GetUsersRequest template, int parallelism, int prefetch, boolean ordered, long limit,
+                   Comparator<GetUsersResponse> order) {
+        if (template.getSize() <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + template.getSize());
+        }
+        this.stubs = stubs;
+        this.template = template;
+        this.pageSize = template.getSize();
+        this.maxOpen = Math.max(Math.max(1, parallelism), ordered ? shardKeys.size() : 1);
+        this.prefetch = Math.max(1, prefetch);
+        this.ordered = ordered;
+        this.limit = limit > 0 ? limit : Long.MAX_VALUE;
+        this.order = order;
+        for (int shardKey : shardKeys) {
+            shards.add(new ShardPages(shardKey));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = emitted < limit ? poll() : null;
+            } catch (RuntimeException e) {
+                finished = true;
+                close();
+                throw e;
+            }
+            if (next == null) {
+                finished = true;
+                close();
+            } else {
+                emitted++;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public GetUsersResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        GetUsersResponse row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * 열린 스트림을 모두 취소 (여러 번 호출해도 된다)
+     */
+    @Override
+    public void close() {
+        List<Partition> cancelled = new ArrayList<>();
+        int pages;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (ShardPages shard : shards) {
+                cancelled.addAll(shard.pages);
+                shard.pages.clear();
+            }
+            openCount = 0;
+            pages = openedPages;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        for (Partition partition : cancelled) {
+            partition.cancel();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        log.info("gRPC Client: Fan-out users completed - rows={}, pages={}, parallelism={}, ordered={}, "
+                + "elapsed={}ms, rowsPerSec={}",
+            emitted, pages, maxOpen, ordered, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            elapsedNanos > 0 ? emitted * 1_000_000_000L / elapsedNanos : 0);
+    }
+
+    private GetUsersResponse poll() {
+        if (!ordered) {
+            return takeAny();
+        }
+        if (shards.size() == 1) {
+            return take(shards.getFirst());
+        }
+
+        // 샤드별 페이지 순서 스트림의 선두를 우선순위 큐로 병합
+        if (heads == null) {
+            heads = new PriorityQueue<>(shards.size(), Comparator.comparing(ShardPages::head, order));
+            for (ShardPages shard : shards) {
+                shard.head = take(shard);
+                if (shard.head != null) {
+                    heads.add(shard);
+                }
+            }
+        }
+        ShardPages shard = heads.poll();
+        if (shard == null) {
+            return null;
+        }
+        GetUsersResponse row = shard.head;
+        shard.head = take(shard);
+        if (shard.head != null) {
+            heads.add(shard);
+        }
+        return row;
+    }
+
+    /**
+     * 샤드 1개의 다음 행 (페이지 순서, 없으면 null)
+     */
+    private GetUsersResponse take(ShardPages shard) {
+        Partition partition;
+        GetUsersResponse row;
+        lock.lock();
+        try {
+            while (true) {
+                checkState();
+                if (closed) {
+                    return null;
+                }
+                fill();
+                partition = shard.pages.peekFirst();
+                if (partition == null) {
+                    if (!canOpen(shard)) {
+                        return null;
+                    }
+                    await();
+                    continue;
+                }
+                row = partition.buffer.pollFirst();
+                if (row != null) {
+                    break;
+                }
+                if (partition.done) {
+                    shard.pages.pollFirst();
+                    openCount--;
+                    continue;
+                }
+                await();
+            }
+        } finally {
+            lock.unlock();
+        }
+        partition.request();
+        return shard.toGlobal(row);
+    }
+
+    /**
+     * 아무 스트림에서나 다음 행 (도착 순서, 없으면 null)
+     */
+    private GetUsersResponse takeAny() {
+        lock.lock();
+        try {
+            while (true) {
+                checkState();
+                if (closed) {
+                    return null;
+                }
+                fill();
+
+                boolean pending = false;
+                for (ShardPages shard : shards) {
+                    for (Iterator<Partition> it = shard.pages.iterator(); it.hasNext(); ) {
+                        Partition partition = it.next();
+                        GetUsersResponse row = partition.buffer.pollFirst();
+                        if (row != null) {
+                            // request 는 콜백을 바로 부르지 않으므로 락 안에서 호출해도 된다
+                            partition.request();
+                            return shard.toGlobal(row);
+                        }
+                        if (partition.done) {
+                            it.remove();
+                            openCount--;
+                        } else {
+                            pending = true;
+                        }
+                    }
+                }
+
+                if (!pending && shards.stream().noneMatch(this::canOpen)) {
+                    return null;
+                }
+                if (pending) {
+                    await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 동시 스트림 수까지 다음 페이지를 연다 (열린 페이지가 없는 샤드 우선, 그다음 샤드 순서대로 돌아가며)
+     */
+    private void fill() {
+        while (!closed && openCount < maxOpen) {
+            ShardPages shard = nextShardToOpen();
+            if (shard == null) {
+                return;
+            }
+            open(shard);
+        }
+    }
+
+    private ShardPages nextShardToOpen() {
+        ShardPages candidate = null;
+        for (int i = 0; i < shards.size(); i++) {
+            ShardPages shard = shards.get((nextShard + i) % shards.size());
+            if (!canOpen(shard)) {
+                continue;
+            }
+            if (shard.pages.isEmpty()) {
+                return shard;
+            }
+            if (candidate == null) {
+                candidate = shard;
+            }
+        }
+        return candidate;
+    }
+
+    private boolean canOpen(ShardPages shard) {
+        if (shard.exhausted) {
+            return false;
+        }
+        return (ordered ? shard.expectedRows : totalExpectedRows) < limit;
+    }
+
+    private void open(ShardPages shard) {
+        Partition partition = new Partition(shard);
+        shard.pages.addLast(partition);
+        shard.expectedRows += pageSize;
+        totalExpectedRows += pageSize;
+        openCount++;
+        openedPages++;
+        nextShard = (shards.indexOf(shard) + 1) % shards.size();
+
+        stubs.apply(shard.shardKey)
+            .getUsers(template.toBuilder().setPage(partition.page).build(), partition);
+    }
+
+    private void checkState() {
+        if (failure != null) {
+            throw failure instanceof RuntimeException e ? e : new IllegalStateException(failure);
+        }
+    }
+
+    private void await() {
+        try {
+            changed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 목록 병렬 조회 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    /**
+     * 샤드 1개의 페이지 진행 상태 (lock 으로 보호, head 는 병합용으로 소비자 스레드만 사용)
+     */
+    private static final class ShardPages {
+
+        private final int shardKey;
+        private final Deque<Partition> pages = new ArrayDeque<>();
+        private int nextPage;
+        private long expectedRows;
+        private boolean exhausted;
+        private GetUsersResponse head;
+
+        ShardPages(int shardKey) {
+            this.shardKey = shardKey;
+        }
+
+        GetUsersResponse head() {
+            return head;
+        }
+
+        GetUsersResponse toGlobal(GetUsersResponse row) {
+            return shardKey == 0 ? row : row.toBuilder().setId(UserShardIds.globalId(shardKey, row.getId())).build();
+        }
+    }
+
+    /**
+     * 페이지 1개의 GetUsers 스트림 (수동 흐름 제어)
+     */
+    private final class Partition implements ClientResponseObserver<GetUsersRequest, GetUsersResponse> {
+
+        private final ShardPages shard;
+        private final int page;
+        private final Deque<GetUsersResponse> buffer = new ArrayDeque<>();
+        private ClientCallStreamObserver<GetUsersRequest> call;
+        private int received;
+        private boolean done;
+
+        Partition(ShardPages shard) {
+            this.shard = shard;
+            this.page = shard.nextPage++;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<GetUsersRequest> requestStream) {
+            this.call = requestStream;
+            requestStream.disableAutoRequestWithInitial(prefetch);
+        }
+
+        @Override
+        public void onNext(GetUsersResponse value) {
+            lock.lock();
+            try {
+                if (!closed) {
+                    buffer.addLast(value);
+                    received++;
+                    changed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            lock.lock();
+            try {
+                done = true;
+                // close() 로 취소한 스트림의 CANCELLED 는 무시
+                if (!closed && failure == null) {
+                    failure = t;
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            lock.lock();
+            try {
+                done = true;
+                if (received < pageSize) {
+                    shard.exhausted = true;
+                    shard.expectedRows -= pageSize - received;
+                    totalExpectedRows -= pageSize - received;
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void request() {
+            call.request(1);
+        }
+
+        void cancel() {
+            call.cancel("사용자 목록 병렬 조회 종료", null);
+        }
+    }
+}
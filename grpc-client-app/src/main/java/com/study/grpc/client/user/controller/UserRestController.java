@@ -5,14 +5,14 @@ import com.study.grpc.client.user.dto.UserCreateRequest;
 import com.study.grpc.client.user.dto.UserResponse;
 import com.study.grpc.client.user.dto.UserBatchCreateRequest;
 import com.study.grpc.client.user.dto.UserBatchCreateResponse;
-import com.study.grpc.client.user.dto.UserListResponse;
+import com.study.grpc.client.user.dto.UserMessageList;
+import com.study.grpc.client.user.dto.UserStatsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,16 +32,21 @@ public class UserRestController {
     /**
      * 사용자 생성 (Unary RPC)
      * POST /api/user
+     *
+     * Idempotency-Key 헤더를 보내면 gRPC 요청에 그대로 전달되어 재시도가 안전해진다.
      */
     @PostMapping
-    public ResponseEntity<UserResponse> createUser(@RequestBody UserCreateRequest request) {
+    public ResponseEntity<UserResponse> createUser(
+            @RequestBody UserCreateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("REST API: 사용자 생성 요청 - email={}", request.getEmail());
 
         try {
             com.study.grpc.proto.CreateUserResponse grpcResponse = userGrpcClient.createUser(
                 request.getEmail(),
                 request.getName(),
-                request.getPhoneNumber() != null ? request.getPhoneNumber() : ""
+                request.getPhoneNumber() != null ? request.getPhoneNumber() : "",
+                idempotencyKey
             );
 
             UserResponse response = UserResponse.builder()
@@ -63,29 +68,57 @@ public class UserRestController {
         }
     }
 
+    /**
+     * 사용자 통계 조회 (Unary RPC)
+     * GET /api/user/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsResponse> getUserStats() {
+        try {
+            com.study.grpc.proto.GetUserStatsResponse grpcResponse = userGrpcClient.getUserStats();
+
+            UserStatsResponse response = UserStatsResponse.builder()
+                .totalCount(grpcResponse.getTotalCount())
+                .statusCounts(grpcResponse.getStatusCountsMap())
+                .reconciledAt(grpcResponse.getReconciledAt())
+                .build();
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("REST API: 사용자 통계 조회 실패", e);
+            throw new RuntimeException("사용자 통계 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 사용자 조회 (Unary RPC)
-     * GET /api/user/{id}
+     * GET /api/user/{id}?fields=id,name
+     *
+     * 응답의 ETag(회원 버전)를 If-None-Match 로 보내면 변경이 없을 때 304 만 반환한다.
+     * gRPC 응답 메시지는 UserProtoJsonHttpMessageConverter 가 DTO 변환 없이 JSON 으로 쓴다.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUser(@PathVariable Long id) {
-        log.info("REST API: 사용자 조회 요청 - id={}", id);
+    public ResponseEntity<com.study.grpc.proto.GetUserResponse> getUser(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "") List<String> fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        log.info("REST API: 사용자 조회 요청 - id={}, fields={}", id, fields);
 
         try {
-            com.study.grpc.proto.GetUserResponse grpcResponse = userGrpcClient.getUser(id);
+            com.study.grpc.proto.GetUserResponse grpcResponse =
+                userGrpcClient.getUser(id, fields, parseVersionTag(ifNoneMatch));
 
-            UserResponse response = UserResponse.builder()
-                .id(grpcResponse.getId())
-                .email(grpcResponse.getEmail())
-                .name(grpcResponse.getName())
-                .phoneNumber(grpcResponse.getPhoneNumber())
-                .status(grpcResponse.getStatus())
-                .createdAt(grpcResponse.getCreatedAt())
-                .updatedAt(grpcResponse.getUpdatedAt())
-                .build();
+            if (grpcResponse.getNotModified()) {
+                log.info("REST API: 사용자 변경 없음 - id={}", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(String.valueOf(grpcResponse.getVersion()))
+                    .build();
+            }
 
             log.info("REST API: 사용자 조회 성공 - id={}", id);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                .eTag(String.valueOf(grpcResponse.getVersion()))
+                .body(grpcResponse);
         } catch (Exception e) {
             log.error("REST API: 사용자 조회 실패 - id={}", id, e);
             throw new RuntimeException("사용자 조회에 실패했습니다: " + e.getMessage(), e);
@@ -94,27 +127,25 @@ public class UserRestController {
 
     /**
      * 사용자 목록 조회 (Server Streaming RPC)
-     * GET /api/user?page=0&size=10
+     * GET /api/user?page=0&size=10&status=ACTIVE&sort=CREATED_AT_DESC&fields=id,name
+     *
+     * 스트림으로 받은 gRPC 메시지를 그대로 모아 UserProtoJsonHttpMessageConverter 로 직렬화한다.
      */
     @GetMapping
-    public ResponseEntity<UserListResponse> getUsers(
+    public ResponseEntity<UserMessageList> getUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        log.info("REST API: 사용자 목록 조회 요청 - page={}, size={}", page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "ID_ASC") com.study.grpc.proto.UserSort sort,
+            @RequestParam(defaultValue = "") List<String> fields) {
+        log.info("REST API: 사용자 목록 조회 요청 - page={}, size={}, status={}, sort={}, fields={}",
+            page, size, status, sort, fields);
 
         try {
-            // 서버 스트리밍은 비동기이므로, 여기서는 간단히 메시지만 반환
-            // 실제로는 WebFlux나 SSE를 사용할 수 있습니다
-            userGrpcClient.getUsers(page, size);
-
-            // 테스트용 응답
-            UserListResponse response =
-                UserListResponse.builder()
-                .users(new ArrayList<>())
-                .totalCount(0)
-                .build();
+            UserMessageList response = new UserMessageList(
+                userGrpcClient.listUsers(page, size, status, sort, fields));
 
-            log.info("REST API: 사용자 목록 조회 - Server Streaming 시작");
+            log.info("REST API: 사용자 목록 조회 성공 - count={}", response.totalCount());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("REST API: 사용자 목록 조회 실패", e);
@@ -155,5 +186,23 @@ public class UserRestController {
             throw new RuntimeException("사용자 일괄 생성에 실패했습니다: " + e.getMessage(), e);
         }
     }
-}
 
+    /**
+     * If-None-Match 헤더의 ETag("버전")를 버전 값으로 변환 (형식이 다르면 null)
+     */
+    private static Long parseVersionTag(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifNoneMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.grpc.client.user.controller;
+
+import com.study.grpc.client.user.shard.UserShard;
+import com.study.grpc.client.user.shard.UserShardRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 샤드 멤버십 관리 API
+ *
+ * 재시작 없이 user-service 샤드 목록을 조회/교체한다.
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@Slf4j
+public class UserShardAdminController {
+
+    private final UserShardRegistry shardRegistry;
+
+    /**
+     * 샤드 목록 조회
+     * GET /api/admin/shards
+     */
+    @GetMapping
+    public List<UserShard> getShards() {
+        return shardRegistry.shards();
+    }
+
+    /**
+     * 샤드 목록 교체
+     * PUT /api/admin/shards
+     * [{"key":1,"host":"localhost","port":9091}, ...]
+     */
+    @PutMapping
+    public ResponseEntity<List<UserShard>> updateShards(@RequestBody List<UserShard> shards) {
+        log.info("REST API: 샤드 멤버십 변경 요청 - shards={}", shards);
+
+        if (!shardRegistry.isEnabled()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            shardRegistry.update(shards);
+        } catch (IllegalArgumentException e) {
+            log.warn("REST API: 샤드 멤버십 변경 거부 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(shardRegistry.shards());
+    }
+
+    /**
+     * 이전 멤버십 조회 (생성 시 이메일 중복을 함께 확인하는 멤버십, 최근 것부터)
+     * GET /api/admin/shards/previous
+     */
+    @GetMapping("/previous")
+    public List<List<UserShard>> getPreviousShards() {
+        return shardRegistry.previousMemberships();
+    }
+
+    /**
+     * 이전 멤버십 비우기 (재배치된 회원 이전이 끝난 뒤)
+     * DELETE /api/admin/shards/previous
+     */
+    @DeleteMapping("/previous")
+    public ResponseEntity<Void> clearPreviousShards() {
+        log.info("REST API: 이전 샤드 멤버십 비움 요청");
+
+        shardRegistry.clearPreviousMemberships();
+        return ResponseEntity.noContent().build();
+    }
+}
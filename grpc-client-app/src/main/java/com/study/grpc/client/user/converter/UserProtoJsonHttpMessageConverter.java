@@ -0,0 +1,93 @@
+package com.study.grpc.client.user.converter;
+
+import com.study.grpc.client.common.json.JsonByteWriter;
+import com.study.grpc.client.user.dto.UserMessageList;
+import com.study.grpc.proto.GetUserResponse;
+import com.study.grpc.proto.GetUsersResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 gRPC 응답 메시지 → JSON 직접 변환기
+ *
+ * GetUserResponse / GetUsersResponse / UserMessageList 를 DTO 복사나 Jackson 없이
+ * 필드 단위로 응답 스트림에 바로 쓴다. JSON 형태는 기존 dto.UserResponse / dto.UserListResponse 와 같다.
+ * 쓰기 전용이며 요청 본문 읽기에는 사용하지 않는다.
+ */
+@Component
+public class UserProtoJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public UserProtoJsonHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == GetUserResponse.class
+            || clazz == GetUsersResponse.class
+            || clazz == UserMessageList.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않습니다: " + clazz.getName(), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object message, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonByteWriter json = JsonByteWriter.open(outputMessage.getBody())) {
+            if (message instanceof UserMessageList list) {
+                json.beginObject().name("users").beginArray();
+                for (GetUsersResponse user : list.users()) {
+                    writeUser(json, user);
+                }
+                json.endArray()
+                    .name("totalCount").value(list.totalCount())
+                    .endObject();
+            } else if (message instanceof GetUsersResponse user) {
+                writeUser(json, user);
+            } else {
+                writeUser(json, (GetUserResponse) message);
+            }
+        }
+    }
+
+    private static void writeUser(JsonByteWriter json, GetUserResponse user) throws IOException {
+        writeUser(json, user.getId(), user.getEmail(), user.getName(), user.getPhoneNumber(),
+            user.getStatus(), user.getCreatedAt(), user.getUpdatedAt(), user.getVersion());
+    }
+
+    private static void writeUser(JsonByteWriter json, GetUsersResponse user) throws IOException {
+        writeUser(json, user.getId(), user.getEmail(), user.getName(), user.getPhoneNumber(),
+            user.getStatus(), user.getCreatedAt(), user.getUpdatedAt(), user.getVersion());
+    }
+
+    /**
+     * dto.UserResponse 필드 순서 그대로 쓰기
+     */
+    private static void writeUser(JsonByteWriter json, long id, String email, String name, String phoneNumber,
+                                  String status, long createdAt, long updatedAt, long version) throws IOException {
+        json.beginObject()
+            .name("id").value(id)
+            .name("email").value(email)
+            .name("name").value(name)
+            .name("phoneNumber").value(phoneNumber)
+            .name("status").value(status)
+            .name("createdAt").value(createdAt)
+            .name("updatedAt").value(updatedAt)
+            .name("version").value(version)
+            .endObject();
+    }
+}
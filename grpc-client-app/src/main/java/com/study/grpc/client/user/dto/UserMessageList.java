@@ -0,0 +1,17 @@
+package com.study.grpc.client.user.dto;
+
+import com.study.grpc.proto.GetUsersResponse;
+
+import java.util.List;
+
+/**
+ * 사용자 목록 응답 (gRPC 메시지 그대로 보관)
+ *
+ * UserProtoJsonHttpMessageConverter 가 UserListResponse 와 같은 JSON 형태로 직접 직렬화한다.
+ */
+public record UserMessageList(List<GetUsersResponse> users) {
+
+    public int totalCount() {
+        return users.size();
+    }
+}
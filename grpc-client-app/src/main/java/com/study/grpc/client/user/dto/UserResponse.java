@@ -13,4 +13,5 @@ public class UserResponse {
     private String status;
     private Long createdAt;
     private Long updatedAt;
+    private Long version;
 }
@@ -0,0 +1,16 @@
+package com.study.grpc.client.user.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatsResponse {
+    private Long totalCount;
+    private Map<String, Long> statusCounts;
+    private Long reconciledAt;
+}
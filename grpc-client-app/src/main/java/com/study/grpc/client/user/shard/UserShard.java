@@ -0,0 +1,48 @@
+package com.study.grpc.client.user.shard;
+
+/**
+ * 샤드 (user-service 서버 인스턴스 1개)
+ *
+ * @param key  샤드 키 (1 ~ UserShardIds.MAX_SHARD_KEY), 이 샤드에서 생성된 회원 ID 상위 비트에 기록된다
+ * @param host 서버 호스트
+ * @param port 서버 gRPC 포트
+ */
+public record UserShard(int key, String host, int port) {
+
+    public UserShard {
+        if (key < 1 || key > UserShardIds.MAX_SHARD_KEY) {
+            throw new IllegalArgumentException("샤드 키 범위 오류: " + key);
+        }
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("샤드 호스트가 없습니다: key=" + key);
+        }
+        if (port < 1 || port > 65_535) {
+            throw new IllegalArgumentException("샤드 포트 범위 오류: " + port);
+        }
+    }
+
+    /**
+     * "key=host:port" 형식 파싱
+     */
+    static UserShard parse(String spec) {
+        String trimmed = spec.trim();
+        int eq = trimmed.indexOf('=');
+        int colon = trimmed.lastIndexOf(':');
+        if (eq <= 0 || colon <= eq) {
+            throw new IllegalArgumentException("샤드 형식 오류 (key=host:port): " + spec);
+        }
+        try {
+            return new UserShard(
+                Integer.parseInt(trimmed.substring(0, eq)),
+                trimmed.substring(eq + 1, colon),
+                Integer.parseInt(trimmed.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("샤드 형식 오류 (key=host:port): " + spec, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + host + ":" + port;
+    }
+}
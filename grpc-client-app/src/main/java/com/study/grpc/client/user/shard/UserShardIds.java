@@ -0,0 +1,51 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+
+/**
+ * 샤드 회원 ID 규칙
+ *
+ * 서버는 샤드마다 1부터 ID 를 발급하므로 BFF 가 외부로 내보내는 ID 는 상위 비트에 샤드 키를 붙인다.
+ * - 전역 ID = (샤드 키 << 48) | 샤드 내 ID
+ * - 샤드 키가 0 인 ID (샤딩 이전 ID) 는 ID 값의 해시로 샤드를 정한다
+ * 샤드 키는 멤버십이 바뀌어도 변하지 않으므로 기존 회원은 생성된 샤드에서 계속 조회된다.
+ */
+public final class UserShardIds {
+
+    public static final int MAX_SHARD_KEY = (1 << 15) - 1;
+
+    /**
+     * 호출을 보낼 샤드 키 (UserShardLoadBalancer 가 읽는다)
+     */
+    public static final CallOptions.Key<Integer> SHARD_KEY = CallOptions.Key.create("user-shard-key");
+
+    /**
+     * 주소 그룹의 샤드 키 (UserShardNameResolver → UserShardLoadBalancer)
+     */
+    static final Attributes.Key<Integer> SHARD_KEY_ATTRIBUTE = Attributes.Key.create("user-shard-key");
+
+    private static final int LOCAL_ID_BITS = 48;
+    private static final long LOCAL_ID_MASK = (1L << LOCAL_ID_BITS) - 1;
+
+    private UserShardIds() {
+    }
+
+    public static long globalId(int shardKey, long localId) {
+        if (shardKey == 0) {
+            return localId;
+        }
+        if ((localId & ~LOCAL_ID_MASK) != 0) {
+            throw new IllegalStateException("샤드 내 ID 범위 초과: " + localId);
+        }
+        return ((long) shardKey << LOCAL_ID_BITS) | localId;
+    }
+
+    public static int shardKey(long globalId) {
+        return (int) (globalId >>> LOCAL_ID_BITS);
+    }
+
+    public static long localId(long globalId) {
+        return globalId & LOCAL_ID_MASK;
+    }
+}
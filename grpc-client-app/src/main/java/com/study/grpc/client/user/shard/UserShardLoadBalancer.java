@@ -0,0 +1,169 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Status;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 샤드 LoadBalancer
+ *
+ * 샤드마다 서브채널을 하나씩 두고 항상 연결을 유지한다.
+ * 호출의 CallOptions 에 UserShardIds.SHARD_KEY 가 있으면 그 샤드로, 없으면 READY 샤드를 돌아가며 보낸다.
+ * 모든 메서드는 채널의 SynchronizationContext 에서 호출된다.
+ */
+final class UserShardLoadBalancer extends LoadBalancer {
+
+    private final Helper helper;
+    private final Map<Integer, Subchannel> subchannels = new HashMap<>();
+    private final Map<Subchannel, ConnectivityStateInfo> states = new HashMap<>();
+
+    UserShardLoadBalancer(Helper helper) {
+        this.helper = helper;
+    }
+
+    @Override
+    public Status acceptResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+        Map<Integer, EquivalentAddressGroup> groups = new HashMap<>();
+        for (EquivalentAddressGroup group : resolvedAddresses.getAddresses()) {
+            Integer shardKey = group.getAttributes().get(UserShardIds.SHARD_KEY_ATTRIBUTE);
+            if (shardKey != null) {
+                groups.put(shardKey, group);
+            }
+        }
+        if (groups.isEmpty()) {
+            Status status = Status.UNAVAILABLE.withDescription("샤드 주소가 없습니다");
+            handleNameResolutionError(status);
+            return status;
+        }
+
+        // 제거된 샤드
+        Iterator<Map.Entry<Integer, Subchannel>> it = subchannels.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Subchannel> entry = it.next();
+            if (!groups.containsKey(entry.getKey())) {
+                states.remove(entry.getValue());
+                entry.getValue().shutdown();
+                it.remove();
+            }
+        }
+
+        // 추가되었거나 주소가 바뀐 샤드
+        groups.forEach((shardKey, group) -> {
+            Subchannel existing = subchannels.get(shardKey);
+            if (existing != null) {
+                if (!existing.getAllAddresses().equals(List.of(group))) {
+                    existing.updateAddresses(List.of(group));
+                }
+                return;
+            }
+            Subchannel subchannel = helper.createSubchannel(CreateSubchannelArgs.newBuilder()
+                .setAddresses(group)
+                .build());
+            subchannels.put(shardKey, subchannel);
+            states.put(subchannel, ConnectivityStateInfo.forNonError(ConnectivityState.IDLE));
+            subchannel.start(state -> onSubchannelState(subchannel, state));
+            subchannel.requestConnection();
+        });
+
+        updateBalancingState();
+        return Status.OK;
+    }
+
+    @Override
+    public void handleNameResolutionError(Status error) {
+        if (subchannels.isEmpty()) {
+            helper.updateBalancingState(ConnectivityState.TRANSIENT_FAILURE,
+                new FixedResultPicker(PickResult.withError(error)));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        subchannels.values().forEach(Subchannel::shutdown);
+        subchannels.clear();
+        states.clear();
+    }
+
+    private void onSubchannelState(Subchannel subchannel, ConnectivityStateInfo state) {
+        if (!states.containsKey(subchannel)) {
+            return;
+        }
+        if (state.getState() == ConnectivityState.IDLE) {
+            // 샤드는 언제든 호출될 수 있으므로 유휴로 내려가도 다시 연결
+            subchannel.requestConnection();
+        }
+        states.put(subchannel, state);
+        updateBalancingState();
+    }
+
+    private void updateBalancingState() {
+        Map<Integer, Subchannel> ready = new HashMap<>();
+        Map<Integer, Status> failures = new HashMap<>();
+        boolean connecting = false;
+
+        for (Map.Entry<Integer, Subchannel> entry : subchannels.entrySet()) {
+            ConnectivityStateInfo state = states.get(entry.getValue());
+            switch (state.getState()) {
+                case READY -> ready.put(entry.getKey(), entry.getValue());
+                case TRANSIENT_FAILURE -> failures.put(entry.getKey(), state.getStatus());
+                default -> connecting = true;
+            }
+        }
+
+        ConnectivityState aggregate = !ready.isEmpty() ? ConnectivityState.READY
+            : connecting ? ConnectivityState.CONNECTING
+            : ConnectivityState.TRANSIENT_FAILURE;
+        helper.updateBalancingState(aggregate, new ShardPicker(ready, failures, Set.copyOf(subchannels.keySet())));
+    }
+
+    private static final class ShardPicker extends SubchannelPicker {
+
+        private final Map<Integer, Subchannel> ready;
+        private final List<Subchannel> readyList;
+        private final Map<Integer, Status> failures;
+        private final Set<Integer> known;
+        private final AtomicInteger next = new AtomicInteger();
+
+        ShardPicker(Map<Integer, Subchannel> ready, Map<Integer, Status> failures, Set<Integer> known) {
+            this.ready = ready;
+            this.readyList = new ArrayList<>(ready.values());
+            this.failures = failures;
+            this.known = known;
+        }
+
+        @Override
+        public PickResult pickSubchannel(PickSubchannelArgs args) {
+            Integer shardKey = args.getCallOptions().getOption(UserShardIds.SHARD_KEY);
+
+            if (shardKey == null) {
+                if (!readyList.isEmpty()) {
+                    return PickResult.withSubchannel(readyList.get(Math.floorMod(next.getAndIncrement(), readyList.size())));
+                }
+                if (failures.size() == known.size() && !failures.isEmpty()) {
+                    return PickResult.withError(failures.values().iterator().next());
+                }
+                return PickResult.withNoResult();
+            }
+
+            Subchannel subchannel = ready.get(shardKey);
+            if (subchannel != null) {
+                return PickResult.withSubchannel(subchannel);
+            }
+            if (!known.contains(shardKey)) {
+                return PickResult.withError(Status.UNAVAILABLE.withDescription("설정되지 않은 샤드: " + shardKey));
+            }
+            Status failure = failures.get(shardKey);
+            return failure != null ? PickResult.withError(failure) : PickResult.withNoResult();
+        }
+    }
+}
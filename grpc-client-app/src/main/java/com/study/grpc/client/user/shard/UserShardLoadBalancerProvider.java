@@ -0,0 +1,32 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancerProvider;
+
+/**
+ * user_shard 로드밸런싱 정책 (호출의 샤드 키로 서브채널 선택)
+ */
+final class UserShardLoadBalancerProvider extends LoadBalancerProvider {
+
+    static final String POLICY_NAME = "user_shard";
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getPolicyName() {
+        return POLICY_NAME;
+    }
+
+    @Override
+    public LoadBalancer newLoadBalancer(LoadBalancer.Helper helper) {
+        return new UserShardLoadBalancer(helper);
+    }
+}
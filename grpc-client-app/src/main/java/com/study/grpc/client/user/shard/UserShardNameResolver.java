@@ -0,0 +1,82 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.Attributes;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.Status;
+import io.grpc.SynchronizationContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 샤드 멤버십 NameResolver
+ *
+ * 샤드마다 샤드 키 속성을 붙인 주소 그룹 1개를 내보내고, 멤버십이 바뀌면 다시 내보낸다.
+ */
+@Slf4j
+final class UserShardNameResolver extends NameResolver {
+
+    private final UserShardRegistry registry;
+    private final String authority;
+    private final SynchronizationContext syncContext;
+    private final Consumer<List<UserShard>> onChange;
+
+    private Listener2 listener;
+
+    UserShardNameResolver(UserShardRegistry registry, String authority, SynchronizationContext syncContext) {
+        this.registry = registry;
+        this.authority = authority;
+        this.syncContext = syncContext;
+        this.onChange = shards -> syncContext.execute(() -> publish(shards));
+    }
+
+    @Override
+    public String getServiceAuthority() {
+        return authority;
+    }
+
+    @Override
+    public void start(Listener2 listener) {
+        this.listener = listener;
+        registry.addListener(onChange);
+        publish(registry.shards());
+    }
+
+    @Override
+    public void refresh() {
+        syncContext.execute(() -> publish(registry.shards()));
+    }
+
+    @Override
+    public void shutdown() {
+        registry.removeListener(onChange);
+        listener = null;
+    }
+
+    private void publish(List<UserShard> shards) {
+        if (listener == null) {
+            return;
+        }
+
+        List<EquivalentAddressGroup> groups = new ArrayList<>(shards.size());
+        for (UserShard shard : shards) {
+            InetSocketAddress address = new InetSocketAddress(shard.host(), shard.port());
+            if (address.isUnresolved()) {
+                log.warn("gRPC Client: Shard address unresolved - shard={}", shard);
+                continue;
+            }
+            groups.add(new EquivalentAddressGroup(address,
+                Attributes.newBuilder().set(UserShardIds.SHARD_KEY_ATTRIBUTE, shard.key()).build()));
+        }
+
+        if (groups.isEmpty()) {
+            listener.onError(Status.UNAVAILABLE.withDescription("해석 가능한 샤드 주소가 없습니다: " + shards));
+            return;
+        }
+        listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+    }
+}
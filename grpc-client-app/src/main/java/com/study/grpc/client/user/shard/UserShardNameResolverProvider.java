@@ -0,0 +1,54 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * shards:///{service} 주소를 UserShardRegistry 멤버십으로 해석하는 NameResolverProvider
+ */
+final class UserShardNameResolverProvider extends NameResolverProvider {
+
+    static final String SCHEME = "shards";
+
+    private final UserShardRegistry registry;
+
+    UserShardNameResolverProvider(UserShardRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String path = targetUri.getPath();
+        String authority = path == null || path.length() <= 1 ? "user-service" : path.substring(1);
+        return new UserShardNameResolver(registry, authority, args.getSynchronizationContext());
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+
+    @Override
+    protected Collection<Class<? extends SocketAddress>> getProducedSocketAddressTypes() {
+        return List.of(InetSocketAddress.class);
+    }
+}
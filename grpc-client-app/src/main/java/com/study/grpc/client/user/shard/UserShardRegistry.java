@@ -0,0 +1,222 @@
+package com.study.grpc.client.user.shard;
+
+import io.grpc.LoadBalancerRegistry;
+import io.grpc.NameResolverRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * user-service 샤드 멤버십
+ *
+ * 시작 시 user.sharding.shards ("key=host:port" 쉼표 구분) 로 초기화하고,
+ * 실행 중에는 update() (관리 API) 로 재시작 없이 교체한다.
+ * 변경은 UserShardNameResolver 를 통해 채널의 UserShardLoadBalancer 에 전달된다.
+ *
+ * 샤딩을 켜려면 채널 주소를 shards:///user-service, defaultLoadBalancingPolicy 를 user_shard 로 지정한다.
+ *
+ * 재배치: 멤버십이 바뀌면 일부 이메일의 소유 샤드가 바뀌지만 기존 회원은 옮기지 않으므로,
+ * 새 소유 샤드만 보면 이전 소유 샤드에 있는 이메일로 중복 가입이 된다.
+ * 그래서 교체 전 멤버십을 이전 멤버십으로 남겨 두고, 생성 전에 이전 소유 샤드에서도 이메일 중복을 확인한다
+ * (previousShardKeysForEmail). 재시작 후에도 확인하려면 user.sharding.previous-shards 로 이전 멤버십을 넘기고,
+ * 회원 이전(migration)이 끝나면 clearPreviousMemberships() 로 비운다.
+ * 현재 멤버십에서 빠진 샤드는 호출할 수 없으므로 확인하지 않는다 (그 샤드의 회원도 조회되지 않는다).
+ */
+@Slf4j
+@Component
+public class UserShardRegistry {
+
+    private final boolean enabled;
+    private final int virtualNodes;
+    private final List<Consumer<List<UserShard>>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Topology topology;
+
+    public UserShardRegistry(
+            @Value("${user.sharding.enabled:false}") boolean enabled,
+            @Value("${user.sharding.shards:}") String shards,
+            @Value("${user.sharding.previous-shards:}") String previousShards,
+            @Value("${user.sharding.virtual-nodes:160}") int virtualNodes) {
+        this.enabled = enabled;
+        this.virtualNodes = virtualNodes;
+        List<UserShard> previous = parse(previousShards);
+        this.topology = topology(parse(shards),
+            previous.isEmpty() ? List.of() : List.of(topology(previous, List.of())));
+        if (enabled && topology.shards().isEmpty()) {
+            throw new IllegalStateException("user.sharding.enabled 인데 user.sharding.shards 가 비어 있습니다");
+        }
+    }
+
+    /**
+     * gRPC 채널이 만들어지기 전에 shards 스킴과 user_shard 정책 등록
+     * (@GrpcClient 를 쓰는 빈은 이 빈을 생성자로 주입받아 등록 이후에 초기화된다)
+     */
+    @PostConstruct
+    void registerProviders() {
+        NameResolverRegistry.getDefaultRegistry().register(new UserShardNameResolverProvider(this));
+        LoadBalancerRegistry.getDefaultRegistry().register(new UserShardLoadBalancerProvider());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<UserShard> shards() {
+        return topology.shards();
+    }
+
+    /**
+     * 라우팅 대상 샤드 키 목록 (샤딩을 쓰지 않으면 [0])
+     */
+    public List<Integer> routingKeys() {
+        if (!enabled) {
+            return List.of(0);
+        }
+        return topology.shards().stream().map(UserShard::key).toList();
+    }
+
+    /**
+     * 생성 요청을 보낼 샤드 키 (이메일 consistent hash, 샤딩을 쓰지 않으면 0)
+     */
+    public int shardKeyForEmail(String email) {
+        return enabled ? topology.ring().locate(email) : 0;
+    }
+
+    /**
+     * 이메일의 이전 소유 샤드 키 (이전 멤버십에서 소유 샤드가 달랐고 현재 멤버십에도 있는 샤드, 샤딩을 쓰지 않으면 없음)
+     *
+     * 재배치 전에 생성된 같은 이메일의 회원이 있을 수 있으므로 생성 전에 이 샤드들에서도 중복을 확인한다.
+     */
+    public Set<Integer> previousShardKeysForEmail(String email) {
+        if (!enabled) {
+            return Set.of();
+        }
+        Topology current = topology;
+        int owner = current.ring().locate(email);
+        Set<Integer> keys = new LinkedHashSet<>();
+        for (Topology previous : current.previous()) {
+            int previousOwner = previous.ring().locate(email);
+            if (previousOwner != owner && current.hasShard(previousOwner)) {
+                keys.add(previousOwner);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 이전 멤버십 목록 (최근 것부터)
+     */
+    public List<List<UserShard>> previousMemberships() {
+        return topology.previous().stream().map(Topology::shards).toList();
+    }
+
+    /**
+     * 이전 멤버십 비우기 (재배치된 회원 이전이 끝난 뒤 호출, 이후 생성은 현재 소유 샤드만 확인)
+     */
+    public synchronized void clearPreviousMemberships() {
+        log.info("이전 샤드 멤버십 비움: {}", previousMemberships());
+        topology = topology(topology.shards(), List.of());
+    }
+
+    /**
+     * 회원 ID 를 가진 샤드 키 (ID 에 기록된 샤드, 샤딩 이전 ID 는 ID 해시, 샤딩을 쓰지 않으면 0)
+     */
+    public int shardKeyForUser(long userId) {
+        if (!enabled) {
+            return 0;
+        }
+        int shardKey = UserShardIds.shardKey(userId);
+        return shardKey != 0 ? shardKey : topology.ring().locate(Long.toString(userId));
+    }
+
+    /**
+     * 멤버십 교체
+     *
+     * 제거된 샤드의 회원은 샤드가 다시 추가될 때까지 조회되지 않는다 (UNAVAILABLE).
+     * 교체 전 멤버십은 이전 멤버십으로 남아 이메일 중복 확인에 쓰인다 (clearPreviousMemberships 전까지).
+     */
+    public synchronized void update(List<UserShard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 최소 1개 필요합니다");
+        }
+        Topology next = topology(shards, previousAfterUpdate(shards));
+        log.info("샤드 멤버십 변경: {} → {}", topology.shards(), next.shards());
+        topology = next;
+        listeners.forEach(listener -> listener.accept(next.shards()));
+    }
+
+    void addListener(Consumer<List<UserShard>> listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(Consumer<List<UserShard>> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 교체 후의 이전 멤버십 (현재 멤버십을 맨 앞에 추가, 샤드 키 구성이 같은 멤버십은 최근 것 하나만 남김)
+     */
+    private List<Topology> previousAfterUpdate(List<UserShard> shards) {
+        List<Topology> candidates = new ArrayList<>();
+        candidates.add(topology);
+        candidates.addAll(topology.previous());
+
+        Set<Set<Integer>> seen = new HashSet<>();
+        seen.add(keysOf(shards));
+        List<Topology> previous = new ArrayList<>();
+        for (Topology candidate : candidates) {
+            if (seen.add(keysOf(candidate.shards()))) {
+                previous.add(new Topology(candidate.shards(), candidate.ring(), List.of()));
+            }
+        }
+        return previous;
+    }
+
+    private Topology topology(List<UserShard> shards, List<Topology> previous) {
+        Set<Integer> keys = new HashSet<>();
+        for (UserShard shard : shards) {
+            if (!keys.add(shard.key())) {
+                throw new IllegalArgumentException("중복된 샤드 키: " + shard.key());
+            }
+        }
+        List<UserShard> copy = List.copyOf(shards);
+        return new Topology(copy, new UserShardRing(copy, virtualNodes), List.copyOf(previous));
+    }
+
+    private static Set<Integer> keysOf(List<UserShard> shards) {
+        Set<Integer> keys = new HashSet<>();
+        for (UserShard shard : shards) {
+            keys.add(shard.key());
+        }
+        return keys;
+    }
+
+    private static List<UserShard> parse(String shards) {
+        List<UserShard> parsed = new ArrayList<>();
+        for (String spec : shards.split(",")) {
+            if (!spec.isBlank()) {
+                parsed.add(UserShard.parse(spec));
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 멤버십과 링 (previous 는 현재 멤버십에만 있고, 이전 멤버십의 previous 는 비어 있다)
+     */
+    private record Topology(List<UserShard> shards, UserShardRing ring, List<Topology> previous) {
+
+        boolean hasShard(int key) {
+            return shards.stream().anyMatch(shard -> shard.key() == key);
+        }
+    }
+}
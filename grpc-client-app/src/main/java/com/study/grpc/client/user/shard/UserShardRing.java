@@ -0,0 +1,53 @@
+package com.study.grpc.client.user.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 샤드 consistent hash 링
+ *
+ * 샤드마다 가상 노드를 virtualNodes 개 배치해, 샤드가 추가/제거되어도
+ * 해당 샤드 몫의 키만 다른 샤드로 옮겨 가게 한다.
+ */
+final class UserShardRing {
+
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    UserShardRing(List<UserShard> shards, int virtualNodes) {
+        for (UserShard shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash("shard-" + shard.key() + "#" + i), shard.key());
+            }
+        }
+    }
+
+    /**
+     * 키를 담당하는 샤드 키
+     */
+    int locate(String key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("설정된 샤드가 없습니다");
+        }
+        Map.Entry<Long, Integer> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * FNV-1a 64 + splitmix64 finalizer (짧은 키도 링 전체에 고르게 퍼지도록)
+     */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 30;
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= h >>> 27;
+        h *= 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h;
+    }
+}
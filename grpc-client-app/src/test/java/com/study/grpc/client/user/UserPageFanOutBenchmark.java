@@ -0,0 +1,203 @@
+package com.study.grpc.client.user;
+
+import com.study.grpc.proto.GetUsersRequest;
+import com.study.grpc.proto.GetUsersResponse;
+import com.study.grpc.proto.UserServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 목록 병렬 조회(UserPageFanOut) 동시 스트림 수별 처리량 벤치마크
+ *
+ * in-process 로 띄운 가짜 UserService 가 GetUsers 페이지마다 perf.fanOutPageLatencyMs(기본 20ms)
+ * 만큼 기다린 뒤 행을 보낸다 (DB 조회/네트워크 왕복 흉내). perf.fanOutRows 건을 perf.fanOutDegrees
+ * 각각의 동시 스트림 수로 끝까지 읽어 ordered/unordered 별 초당 행 수와 동시 스트림 1개 대비 배율을 잰다.
+ * 기준값 비교 없이 build/perf/fan-out-results.properties 에 결과만 남긴다.
+ *
+ * 실행: ./gradlew :grpc-client-app:fanOutBenchmark [-Pdegrees=1,2,4,8,16] (check/test 에서는 제외)
+ */
+@Tag("fan-out")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserPageFanOutBenchmark {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final int PREFETCH = 256;
+    private static final Comparator<GetUsersResponse> BY_ID = Comparator.comparingLong(GetUsersResponse::getId);
+
+    private final int rows = Integer.getInteger("perf.fanOutRows", 200_000);
+    private final long pageLatencyMillis = Long.getLong("perf.fanOutPageLatencyMs", 20);
+    private final int[] degrees = Arrays.stream(System.getProperty("perf.fanOutDegrees", "1,2,4,8,16").split(","))
+        .map(String::trim)
+        .mapToInt(Integer::parseInt)
+        .toArray();
+    private final List<Measurement> results = new ArrayList<>();
+
+    private ExecutorService serverExecutor;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        String serverName = InProcessServerBuilder.generateName();
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = InProcessServerBuilder.forName(serverName)
+            .executor(serverExecutor)
+            .addService(new PagedUserService(rows, pageLatencyMillis))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(serverName).build();
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        serverExecutor.shutdownNow();
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void measureThroughputByDegree() {
+        // 워밍업 (가장 큰 동시 스트림 수로 한 번)
+        read(Arrays.stream(degrees).max().orElse(1), false);
+
+        for (boolean ordered : new boolean[] {true, false}) {
+            for (int degree : degrees) {
+                long startedAt = System.nanoTime();
+                long read = read(degree, ordered);
+                long elapsed = System.nanoTime() - startedAt;
+
+                assertThat(read).isEqualTo(rows);
+                results.add(new Measurement(ordered ? "ordered" : "unordered", degree, read, elapsed));
+            }
+        }
+    }
+
+    /**
+     * 전체 목록을 degree 개 동시 스트림으로 끝까지 읽고 읽은 행 수 반환 (ordered 면 ID 순서 확인)
+     */
+    private long read(int degree, boolean ordered) {
+        UserServiceGrpc.UserServiceStub stub = UserServiceGrpc.newStub(channel);
+        GetUsersRequest template = GetUsersRequest.newBuilder().setSize(PAGE_SIZE).build();
+        long count = 0;
+        long previousId = 0;
+        try (UserPageFanOut fanOut = new UserPageFanOut(shardKey -> stub, List.of(0), template,
+                degree, PREFETCH, ordered, 0, BY_ID)) {
+            while (fanOut.hasNext()) {
+                GetUsersResponse user = fanOut.next();
+                if (ordered) {
+                    assertThat(user.getId()).isGreaterThan(previousId);
+                    previousId = user.getId();
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void printTable() {
+        System.out.printf("[fan-out] %-9s %7s %10s %14s %10s%n", "order", "degree", "rows", "rows/s", "speedup");
+        results.forEach(m -> System.out.printf(Locale.ROOT, "[fan-out] %-9s %7d %10d %14.1f %9.2fx%n",
+            m.order(), m.degree(), m.rows(), m.rowsPerSecond(), speedup(m)));
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        results.forEach(m -> {
+            String prefix = m.order() + ".degree" + m.degree() + ".";
+            properties.setProperty(prefix + "rowsPerSecond", String.format(Locale.ROOT, "%.1f", m.rowsPerSecond()));
+            properties.setProperty(prefix + "speedup", String.format(Locale.ROOT, "%.2f", speedup(m)));
+        });
+
+        Path file = Path.of(System.getProperty("perf.fanOutResultFile", "build/perf/fan-out-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "GetUsers fan-out benchmark (rows=" + rows + ", pageSize=" + PAGE_SIZE
+                + ", pageLatencyMs=" + pageLatencyMillis + ")");
+        }
+    }
+
+    /**
+     * 같은 순서 방식의 첫 번째(가장 작은) 동시 스트림 수 대비 처리량 배율
+     */
+    private double speedup(Measurement measurement) {
+        return results.stream()
+            .filter(m -> m.order().equals(measurement.order()))
+            .findFirst()
+            .map(base -> measurement.rowsPerSecond() / base.rowsPerSecond())
+            .orElse(1.0);
+    }
+
+    /**
+     * ID 1..rows 를 ID 순서 페이지로 나눠 보내는 가짜 GetUsers (페이지마다 지연 후 전송)
+     */
+    private static final class PagedUserService extends UserServiceGrpc.UserServiceImplBase {
+
+        private final int rows;
+        private final long pageLatencyMillis;
+
+        PagedUserService(int rows, long pageLatencyMillis) {
+            this.rows = rows;
+            this.pageLatencyMillis = pageLatencyMillis;
+        }
+
+        @Override
+        public void getUsers(GetUsersRequest request, StreamObserver<GetUsersResponse> responseObserver) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(pageLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responseObserver.onError(e);
+                return;
+            }
+
+            long first = (long) request.getPage() * request.getSize() + 1;
+            long last = Math.min(rows, first + request.getSize() - 1);
+            for (long id = first; id <= last; id++) {
+                responseObserver.onNext(GetUsersResponse.newBuilder()
+                    .setId(id)
+                    .setEmail("user" + id + "@fan-out.test")
+                    .setName("회원" + id)
+                    .setStatus("ACTIVE")
+                    .setVersion(0)
+                    .build());
+            }
+            responseObserver.onCompleted();
+        }
+    }
+
+    /**
+     * 순서 방식/동시 스트림 수 1개 측정 결과
+     */
+    private record Measurement(String order, int degree, long rows, long elapsedNanos) {
+
+        double rowsPerSecond() {
+            return rows * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
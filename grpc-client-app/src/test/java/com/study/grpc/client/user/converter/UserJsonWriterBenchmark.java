@@ -0,0 +1,266 @@
+package com.study.grpc.client.user.converter;
+
+import com.study.grpc.client.user.dto.UserListResponse;
+import com.study.grpc.client.user.dto.UserMessageList;
+import com.study.grpc.client.user.dto.UserResponse;
+import com.study.grpc.proto.GetUserResponse;
+import com.study.grpc.proto.GetUsersResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 JSON 직렬화 비교 벤치마크 (DTO + Jackson / UserProtoJsonHttpMessageConverter)
+ *
+ * 같은 gRPC 응답을 두 경로로 JSON 응답 본문에 써서 응답 1건당 CPU 시간과 할당 바이트를 잰다.
+ * - dto-jackson: 변경 전 컨트롤러처럼 dto.UserResponse / UserListResponse 로 복사한 뒤 Jackson 변환기로 쓰기
+ * - converter: gRPC 메시지를 UserProtoJsonHttpMessageConverter 로 바로 쓰기
+ * 단건(GetUser)과 목록(GetUsers, LIST_SIZE 명) 두 가지를 재며, 측정 전에 두 경로의 JSON 이 같은지 확인한다.
+ * 본문은 버리는 출력 스트림에 쓰고, CPU/할당은 측정 스레드의 ThreadMXBean 값으로 잰다.
+ * 기준값 비교 없이 build/perf/json-writer-results.properties 에 결과만 남긴다.
+ *
+ * 실행: ./gradlew :grpc-client-app:jsonWriterBenchmark (check/test 에서는 제외)
+ */
+@Tag("json-writer")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserJsonWriterBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    private final int singleResponses = Integer.getInteger("perf.jsonSingleResponses", 200_000);
+    private final int listResponses = Integer.getInteger("perf.jsonListResponses", 10_000);
+
+    private final HttpMessageConverter<Object> jackson = new JacksonJsonHttpMessageConverter();
+    private final HttpMessageConverter<Object> converter = new UserProtoJsonHttpMessageConverter();
+    private final DiscardingOutputMessage output = new DiscardingOutputMessage();
+    private final List<Measurement> results = new ArrayList<>();
+
+    private final GetUserResponse user = GetUserResponse.newBuilder()
+        .setId(1_234_567L)
+        .setEmail("json-writer@perf.test")
+        .setName("회원 \"이름\"")
+        .setPhoneNumber("010-1234-5678")
+        .setStatus("ACTIVE")
+        .setCreatedAt(1_760_000_000_000L)
+        .setUpdatedAt(1_760_000_100_000L)
+        .setVersion(3)
+        .build();
+
+    private final List<GetUsersResponse> users = listUsers();
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void compareSingleUser() throws IOException {
+        assertSameJson(toDto(user), user);
+
+        results.add(measure("single", "dto-jackson", singleResponses, () -> toDto(user), jackson));
+        results.add(measure("single", "converter", singleResponses, () -> user, converter));
+    }
+
+    @Test
+    void compareUserList() throws IOException {
+        assertSameJson(toDtoList(users), new UserMessageList(users));
+
+        results.add(measure("list", "dto-jackson", listResponses, () -> toDtoList(users), jackson));
+        results.add(measure("list", "converter", listResponses, () -> new UserMessageList(users), converter));
+    }
+
+    /**
+     * 응답 본문을 count 회 쓰고 1건당 CPU/할당 측정 (같은 횟수만큼 먼저 워밍업)
+     */
+    private Measurement measure(String workload, String mode, int count, Supplier<Object> body,
+                                HttpMessageConverter<Object> messageConverter) throws IOException {
+        for (int i = 0; i < count; i++) {
+            messageConverter.write(body.get(), MediaType.APPLICATION_JSON, output);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = output.written;
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < count; i++) {
+            messageConverter.write(body.get(), MediaType.APPLICATION_JSON, output);
+        }
+        long cpu = threads.getCurrentThreadCpuTime() - cpuBefore;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        return new Measurement(workload, mode, count, cpu, allocated, output.written - bytesBefore);
+    }
+
+    /**
+     * 두 경로의 JSON 이 같은 내용인지 (필드 순서와 무관하게 Jackson 으로 다시 읽어 비교)
+     */
+    private void assertSameJson(Object dto, Object message) throws IOException {
+        assertThat(readJson(write(converter, message))).isEqualTo(readJson(write(jackson, dto)));
+    }
+
+    private static byte[] write(HttpMessageConverter<Object> messageConverter, Object body) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        messageConverter.write(body, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    private Object readJson(byte[] json) throws IOException {
+        MockHttpInputMessage message = new MockHttpInputMessage(json);
+        message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return jackson.read(Map.class, message);
+    }
+
+    /**
+     * 변경 전 컨트롤러의 DTO 복사
+     */
+    private static UserResponse toDto(GetUserResponse response) {
+        return UserResponse.builder()
+            .id(response.getId())
+            .email(response.getEmail())
+            .name(response.getName())
+            .phoneNumber(response.getPhoneNumber())
+            .status(response.getStatus())
+            .createdAt(response.getCreatedAt())
+            .updatedAt(response.getUpdatedAt())
+            .version(response.getVersion())
+            .build();
+    }
+
+    private static UserListResponse toDtoList(List<GetUsersResponse> responses) {
+        List<UserResponse> dtos = new ArrayList<>(responses.size());
+        for (GetUsersResponse response : responses) {
+            dtos.add(UserResponse.builder()
+                .id(response.getId())
+                .email(response.getEmail())
+                .name(response.getName())
+                .phoneNumber(response.getPhoneNumber())
+                .status(response.getStatus())
+                .createdAt(response.getCreatedAt())
+                .updatedAt(response.getUpdatedAt())
+                .version(response.getVersion())
+                .build());
+        }
+        return UserListResponse.builder()
+            .users(dtos)
+            .totalCount(dtos.size())
+            .build();
+    }
+
+    private static List<GetUsersResponse> listUsers() {
+        List<GetUsersResponse> list = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            list.add(GetUsersResponse.newBuilder()
+                .setId(1_000_000L + i)
+                .setEmail("user" + i + "@perf.test")
+                .setName("회원" + i)
+                .setPhoneNumber("010-1000-" + String.format("%04d", i))
+                .setStatus("ACTIVE")
+                .setCreatedAt(1_760_000_000_000L + i)
+                .setUpdatedAt(1_760_000_100_000L + i)
+                .setVersion(i)
+                .build());
+        }
+        return list;
+    }
+
+    private void printTable() {
+        System.out.printf("[json-writer] %-7s %-12s %10s %14s %16s %14s%n",
+            "load", "mode", "responses", "cpuNs/resp", "allocBytes/resp", "jsonBytes/resp");
+        results.forEach(m -> System.out.printf(Locale.ROOT, "[json-writer] %-7s %-12s %10d %14.0f %16.0f %14.0f%n",
+            m.workload(), m.mode(), m.responses(), m.cpuNanosPerResponse(), m.allocatedBytesPerResponse(),
+            m.jsonBytesPerResponse()));
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        results.forEach(m -> {
+            String prefix = m.workload() + "." + m.mode() + ".";
+            properties.setProperty(prefix + "responses", String.valueOf(m.responses()));
+            properties.setProperty(prefix + "cpuNanosPerResponse",
+                String.format(Locale.ROOT, "%.0f", m.cpuNanosPerResponse()));
+            properties.setProperty(prefix + "allocatedBytesPerResponse",
+                String.format(Locale.ROOT, "%.0f", m.allocatedBytesPerResponse()));
+            properties.setProperty(prefix + "jsonBytesPerResponse",
+                String.format(Locale.ROOT, "%.0f", m.jsonBytesPerResponse()));
+        });
+
+        Path file = Path.of(System.getProperty("perf.jsonWriterResultFile", "build/perf/json-writer-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Response JSON writer benchmark (list size=" + LIST_SIZE + ")");
+        }
+    }
+
+    /**
+     * 본문을 버리고 쓴 바이트 수만 세는 응답 (서블릿 출력 스트림 대신)
+     */
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private long written;
+
+        private final OutputStream body = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+        };
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    /**
+     * 부하/경로 1개 측정 결과
+     */
+    private record Measurement(String workload, String mode, int responses, long cpuNanos, long allocatedBytes,
+                               long jsonBytes) {
+
+        double cpuNanosPerResponse() {
+            return (double) cpuNanos / responses;
+        }
+
+        double allocatedBytesPerResponse() {
+            return (double) allocatedBytes / responses;
+        }
+
+        double jsonBytesPerResponse() {
+            return (double) jsonBytes / responses;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.study.grpc.client.user.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 샤드 멤버십 교체 후 이전 소유 샤드 계산 테스트
+ *
+ * 샤드를 추가하면 일부 이메일의 소유 샤드가 새 샤드로 바뀌므로, 그 이메일은 이전 소유 샤드에서도
+ * 중복을 확인해야 한다. 소유 샤드가 그대로인 이메일과 멤버십에서 빠진 샤드는 확인 대상이 아니다.
+ */
+class UserShardRegistryTest {
+
+    private static final int VIRTUAL_NODES = 160;
+    private static final String TWO_SHARDS = "1=localhost:9091,2=localhost:9092";
+
+    @Test
+    void returnsPreviousOwnerOfEmailMovedByRebalancing() {
+        UserShardRegistry registry = registry(TWO_SHARDS, "");
+        UserShardRing before = ring(TWO_SHARDS);
+        registry.update(shards("1=localhost:9091,2=localhost:9092,3=localhost:9093"));
+
+        String moved = emailOwnedBy(registry, 3);
+        String stayed = emailNotOwnedBy(registry, 3);
+
+        assertThat(registry.previousShardKeysForEmail(moved)).containsExactly(before.locate(moved));
+        assertThat(registry.previousShardKeysForEmail(stayed)).isEmpty();
+    }
+
+    @Test
+    void skipsPreviousOwnerRemovedFromMembership() {
+        UserShardRegistry registry = registry(TWO_SHARDS, "");
+        registry.update(shards("1=localhost:9091,3=localhost:9093"));
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(registry.previousShardKeysForEmail("user" + i + "@shard.test")).doesNotContain(2);
+        }
+    }
+
+    @Test
+    void forgetsPreviousOwnersAfterClear() {
+        UserShardRegistry registry = registry(TWO_SHARDS, "");
+        registry.update(shards("1=localhost:9091,2=localhost:9092,3=localhost:9093"));
+        String moved = emailOwnedBy(registry, 3);
+
+        registry.clearPreviousMemberships();
+
+        assertThat(registry.previousMemberships()).isEmpty();
+        assertThat(registry.previousShardKeysForEmail(moved)).isEmpty();
+    }
+
+    @Test
+    void usesPreviousMembershipFromConfigurationAtStartup() {
+        UserShardRegistry registry = registry("1=localhost:9091,2=localhost:9092,3=localhost:9093", TWO_SHARDS);
+
+        String moved = emailOwnedBy(registry, 3);
+
+        assertThat(registry.previousShardKeysForEmail(moved)).containsExactly(ring(TWO_SHARDS).locate(moved));
+    }
+
+    @Test
+    void keepsOneHistoryEntryPerKeySet() {
+        UserShardRegistry registry = registry(TWO_SHARDS, "");
+        registry.update(shards("1=localhost:9091,2=localhost:9092,3=localhost:9093"));
+        // 같은 키 구성으로 주소만 바뀐 교체는 이전 멤버십을 늘리지 않음
+        registry.update(shards("1=localhost:9091,2=localhost:9092,3=localhost:9193"));
+
+        assertThat(registry.previousMemberships()).hasSize(1);
+        assertThat(registry.previousMemberships().getFirst()).extracting(UserShard::key).containsExactly(1, 2);
+    }
+
+    @Test
+    void returnsNothingWhenShardingIsDisabled() {
+        UserShardRegistry registry = new UserShardRegistry(false, TWO_SHARDS, "1=localhost:9091", VIRTUAL_NODES);
+
+        assertThat(registry.previousShardKeysForEmail("user@shard.test")).isEmpty();
+    }
+
+    private static UserShardRegistry registry(String shards, String previousShards) {
+        return new UserShardRegistry(true, shards, previousShards, VIRTUAL_NODES);
+    }
+
+    private static UserShardRing ring(String shards) {
+        return new UserShardRing(shards(shards), VIRTUAL_NODES);
+    }
+
+    private static List<UserShard> shards(String specs) {
+        return Arrays.stream(specs.split(",")).map(UserShard::parse).toList();
+    }
+
+    private static String emailOwnedBy(UserShardRegistry registry, int shardKey) {
+        for (int i = 0; ; i++) {
+            String email = "user" + i + "@shard.test";
+            if (registry.shardKeyForEmail(email) == shardKey) {
+                return email;
+            }
+        }
+    }
+
+    private static String emailNotOwnedBy(UserShardRegistry registry, int shardKey) {
+        for (int i = 0; ; i++) {
+            String email = "user" + i + "@shard.test";
+            if (registry.shardKeyForEmail(email) != shardKey) {
+                return email;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.study.grpc;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * gRPC 서버 애플리케이션
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * User 도메인 및 gRPC 서비스를 제공하는 서버
  */
 @SpringBootApplication(scanBasePackages = "com.study.grpc")
+@EnableScheduling
 public class GrpcServerApplication {
 
     public static void main(String[] args) {
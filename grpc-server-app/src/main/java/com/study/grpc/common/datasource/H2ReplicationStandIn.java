@@ -0,0 +1,162 @@
+package com.study.grpc.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 H2 replica 복제 대역 (user.datasource.replicas.h2-replication=true)
+ *
+ * 실제 복제 대신 주기적으로 primary 의 모든 테이블을 replica 로 통째로 복사한다.
+ * - 최초 1회 SCRIPT NODATA 로 스키마를 만든다
+ * - replica 쪽은 한 트랜잭션에서 지우고 다시 채우므로 읽는 쪽은 커밋 전 스냅샷을 본다
+ * - 복사가 끝난 시각을 풀에 기록해 복제 지연(max-lag) 판단에 쓴다
+ * 데이터 양에 비례하는 비용이 들므로 로컬 실험용이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user.datasource.replicas", name = {"enabled", "h2-replication"}, havingValue = "true")
+public class H2ReplicationStandIn {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final DataSource primary;
+    private final ReplicaDataSourcePool replicaPool;
+
+    public H2ReplicationStandIn(@Qualifier("primaryDataSource") DataSource primary, ReplicaDataSourcePool replicaPool) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+        replicaPool.replicas().forEach(ReplicaDataSourcePool.Replica::trackLag);
+    }
+
+    @Scheduled(fixedDelayString = "${user.datasource.replicas.h2-replication-interval:1s}")
+    public void replicate() {
+        for (ReplicaDataSourcePool.Replica replica : replicaPool.replicas()) {
+            long startedAt = System.nanoTime();
+            try (Connection source = primary.getConnection();
+                 Connection target = replica.dataSource().getConnection()) {
+                if (!replica.isSchemaReady()) {
+                    copySchema(source, target);
+                    replica.markSchemaReady();
+                }
+                copyTables(source, target);
+                replicaPool.recordReplicated(replica);
+                log.trace("replica 복제 완료: name={}, elapsed={}ms",
+                    replica.name(), (System.nanoTime() - startedAt) / 1_000_000);
+            } catch (SQLException e) {
+                log.warn("replica 복제 실패: name={}, message={}", replica.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void copySchema(Connection source, Connection target) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Statement script = source.createStatement();
+             ResultSet rs = script.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS DROP")) {
+            while (rs.next()) {
+                String sql = rs.getString(1);
+                if (!sql.startsWith("CREATE USER")) {
+                    statements.add(sql);
+                }
+            }
+        }
+        try (Statement ddl = target.createStatement()) {
+            for (String sql : statements) {
+                ddl.execute(sql);
+            }
+        }
+        log.info("replica 스키마 생성: statements={}", statements.size());
+    }
+
+    private void copyTables(Connection source, Connection target) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement query = source.createStatement();
+             ResultSet rs = query.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                 + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+
+        target.setAutoCommit(false);
+        try {
+            for (String table : tables) {
+                copyTable(source, target, table);
+            }
+            target.commit();
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+        }
+    }
+
+    private void copyTable(Connection source, Connection target, String tableName) throws SQLException {
+        String table = quote(tableName);
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + table);
+        }
+
+        // 생성 컬럼(GENERATED ALWAYS AS)은 값을 넣을 수 없으므로 일반 컬럼만 이름을 지정해 복사
+        List<String> columnNames = insertableColumns(source, tableName);
+        if (columnNames.isEmpty()) {
+            return;
+        }
+        String columnList = String.join(", ", columnNames);
+        int columns = columnNames.size();
+
+        try (Statement select = source.createStatement();
+             ResultSet rs = select.executeQuery("SELECT " + columnList + " FROM " + table)) {
+            String insert = "INSERT INTO " + table + " (" + columnList + ") VALUES ("
+                + "?, ".repeat(columns - 1) + "?)";
+
+            try (PreparedStatement ps = target.prepareStatement(insert)) {
+                int batched = 0;
+                while (rs.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        ps.setObject(i, rs.getObject(i));
+                    }
+                    ps.addBatch();
+                    if (++batched % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 값을 직접 넣을 수 있는 컬럼 이름 (따옴표 처리, 정의 순서)
+     */
+    private List<String> insertableColumns(Connection source, String tableName) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (PreparedStatement query = source.prepareStatement("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ? AND IS_GENERATED = 'NEVER' "
+                + "ORDER BY ORDINAL_POSITION")) {
+            query.setString(1, tableName);
+            try (ResultSet rs = query.executeQuery()) {
+                while (rs.next()) {
+                    columns.add(quote(rs.getString(1)));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier + '"';
+    }
+}
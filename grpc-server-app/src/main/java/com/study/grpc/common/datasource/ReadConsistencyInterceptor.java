@@ -0,0 +1,58 @@
+package com.study.grpc.common.datasource;
+
+import io.grpc.*;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 일관성 메타데이터 인터셉터
+ *
+ * 요청 헤더 x-read-consistency: primary 이면 해당 호출의 읽기 전용 트랜잭션도 primary 로 보낸다 (read-your-writes).
+ * 헤더가 없으면 읽기 전용 트랜잭션은 replica 에서 읽으므로 최근 쓰기가 보이지 않을 수 있다.
+ */
+@Component
+@GrpcGlobalServerInterceptor
+public class ReadConsistencyInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> READ_CONSISTENCY_HEADER =
+        Metadata.Key.of("x-read-consistency", Metadata.ASCII_STRING_MARSHALLER);
+
+    public static final String PRIMARY = "primary";
+
+    private static final Context.Key<Boolean> PRIMARY_READS = Context.key("read-consistency-primary");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        if (!PRIMARY.equalsIgnoreCase(headers.get(READ_CONSISTENCY_HEADER))) {
+            return next.startCall(call, headers);
+        }
+
+        Context context = Context.current().withValue(PRIMARY_READS, true);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    /**
+     * 현재 호출이 primary 읽기를 요구하는지
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_READS.get());
+    }
+
+    /**
+     * replica 지연을 허용하지 않는 읽기를 primary 에서 실행
+     * (트랜잭션 안에서 첫 쿼리 전에 호출해야 한다)
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Context context = Context.current().withValue(PRIMARY_READS, true);
+        Context previous = context.attach();
+        try {
+            return action.get();
+        } finally {
+            context.detach(previous);
+        }
+    }
+}
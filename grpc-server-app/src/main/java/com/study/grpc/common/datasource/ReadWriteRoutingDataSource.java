@@ -0,0 +1,83 @@
+package com.study.grpc.common.datasource;
+
+import com.study.grpc.common.logging.LogRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ *
+ * 읽기 전용 트랜잭션은 replica 풀로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary 로 보낸다.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 연결을 고르게 한다.
+ * replica 로 보낸 트랜잭션은 끝날 때까지 표시해 두어(isReplicaRead) 복제 지연에 민감한 판단(미존재 캐시 등)을 피할 수 있게 한다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Object REPLICA_READ_KEY = new Object();
+
+    private final ReplicaDataSourcePool replicaPool;
+    private final LogRateLimiter fallbackLog = new LogRateLimiter(1, Duration.ofSeconds(10));
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSourcePool replicaPool) {
+        this.replicaPool = replicaPool;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPool.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadConsistencyInterceptor.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+
+        String replica = replicaPool.select();
+        if (replica == null) {
+            if (fallbackLog.tryAcquire()) {
+                log.warn("정상 replica 없음, primary 에서 읽기 (생략 {}건)", fallbackLog.drainSuppressed());
+            }
+            return PRIMARY;
+        }
+        markReplicaRead(replica);
+        return replica;
+    }
+
+    /**
+     * 현재 트랜잭션의 읽기가 replica 에서 실행되었는지 (복제 지연으로 최근 쓰기가 보이지 않았을 수 있음)
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ_KEY);
+    }
+
+    /**
+     * 트랜잭션이 끝날 때까지 replica 읽기로 표시
+     */
+    private static void markReplicaRead(String replica) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ_KEY, replica);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ_KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.study.grpc.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary/replica DataSource 구성 (user.datasource.replicas.enabled=true 일 때)
+ *
+ * primary 는 spring.datasource.* 설정을, replica 는 user.datasource.replicas.urls (쉼표 구분) 를 사용한다.
+ * 애플리케이션이 쓰는 DataSource 는 LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource 이다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "user.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${user.datasource.primary.maximum-pool-size:10}") int maximumPoolSize) {
+        return hikari("primary", url, username, password, maximumPoolSize);
+    }
+
+    @Bean
+    public ReplicaDataSourcePool replicaDataSourcePool(
+            @Value("${user.datasource.replicas.urls}") String urls,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${user.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${user.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls.split(",")) {
+            if (!url.isBlank()) {
+                replicas.add(hikari("replica-" + replicas.size(), url.trim(), username, password, maximumPoolSize));
+            }
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("user.datasource.replicas.urls 가 비어 있습니다");
+        }
+        return new ReplicaDataSourcePool(replicas, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            ReplicaDataSourcePool replicaDataSourcePool) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSourcePool);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource hikari(String poolName, String url, String username, String password,
+                                           int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,132 @@
+package com.study.grpc.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 replica 풀
+ *
+ * 정상(healthy) replica 를 돌아가며 선택한다.
+ * 주기적으로 연결을 확인하고, 복제 시각을 알 수 있으면(recordReplicated) 지연이 max-lag 를 넘는 replica 도 제외한다.
+ * 정상 replica 가 없으면 선택 결과가 없으므로 라우팅은 primary 로 돌아간다.
+ */
+@Slf4j
+public class ReplicaDataSourcePool implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final long maxLagNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSourcePool(List<DataSource> dataSources, Duration maxLag) {
+        List<Replica> replicas = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, dataSources.get(i)));
+        }
+        this.replicas = List.copyOf(replicas);
+        this.maxLagNanos = maxLag.toNanos();
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * 정상 replica 이름 (없으면 null)
+     */
+    public String select() {
+        int size = replicas.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (replica.healthy) {
+                return replica.name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * replica 에 primary 상태가 반영된 시각 기록 (복제 지연 계산용)
+     */
+    public void recordReplicated(Replica replica) {
+        replica.replicatedAt = System.nanoTime();
+    }
+
+    @Scheduled(fixedDelayString = "${user.datasource.replicas.health-check-interval:2s}")
+    public void checkHealth() {
+        long now = System.nanoTime();
+        for (Replica replica : replicas) {
+            boolean healthy = isValid(replica) && (replica.replicatedAt == 0
+                ? !replica.lagTracked
+                : now - replica.replicatedAt <= maxLagNanos);
+            if (healthy != replica.healthy) {
+                log.info("replica 상태 변경: name={}, healthy={}", replica.name, healthy);
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static boolean isValid(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            log.debug("replica 연결 확인 실패: name={}, message={}", replica.name, e.getMessage());
+            return false;
+        }
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean lagTracked;
+        private volatile long replicatedAt;
+        private volatile boolean schemaReady;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        /**
+         * 복제 지연을 추적하는 replica 로 표시 (첫 복제 전까지는 비정상)
+         */
+        void trackLag() {
+            lagTracked = true;
+        }
+
+        boolean isSchemaReady() {
+            return schemaReady;
+        }
+
+        void markSchemaReady() {
+            schemaReady = true;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.grpc.common.idempotency;
+
+import io.grpc.*;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멱등 키 메타데이터 인터셉터
+ *
+ * 요청 헤더의 idempotency-key 값을 gRPC Context 에 담아 서비스에서 꺼내 쓸 수 있게 한다.
+ * proto 필드(idempotency_key)에 값이 있으면 그쪽이 우선한다.
+ */
+@Component
+@GrpcGlobalServerInterceptor
+public class IdempotencyKeyInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> IDEMPOTENCY_KEY_HEADER =
+        Metadata.Key.of("idempotency-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    public static final Context.Key<String> IDEMPOTENCY_KEY = Context.key("idempotency-key");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        String key = headers.get(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || key.isBlank()) {
+            return next.startCall(call, headers);
+        }
+
+        Context context = Context.current().withValue(IDEMPOTENCY_KEY, key);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    /**
+     * proto 필드 값이 있으면 그 값을, 없으면 메타데이터 값을 반환
+     */
+    public static String resolve(String fieldValue) {
+        if (fieldValue != null && !fieldValue.isBlank()) {
+            return fieldValue;
+        }
+        return IDEMPOTENCY_KEY.get();
+    }
+}
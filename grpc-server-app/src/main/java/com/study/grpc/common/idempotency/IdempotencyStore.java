@@ -0,0 +1,157 @@
+package com.study.grpc.common.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키 중복 제거 저장소
+ *
+ * 같은 멱등 키로 들어온 요청은 최초 실행 결과(진행 중이면 그 Future)를 그대로 돌려주고
+ * UserService 를 다시 호출하지 않는다.
+ * - 최대 개수(max-entries)를 넘으면 가장 오래된 항목부터 제거
+ * - TTL 이 지난 항목은 만료되어 다시 실행됨
+ * - 실패한 실행은 저장하지 않으므로 재시도 시 다시 실행됨
+ * - 같은 키에 다른 요청 내용(fingerprint)이 오면 최초 결과를 돌려주지 않고 IllegalArgumentException 으로 거절
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    public IdempotencyStore(
+            @Value("${user.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${user.idempotency.ttl:10m}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 멱등 키 기준으로 동기 실행
+     *
+     * @param scope  키 충돌을 막기 위한 구분자 (RPC 이름 등)
+     * @param key         멱등 키 (없으면 항상 실행)
+     * @param fingerprint 요청 내용 (equals 로 비교, 멱등 키 자체는 제외한 값)
+     * @param action      실제 실행할 작업
+     * @return 최초 실행 결과
+     */
+    public <T> T execute(String scope, String key, Object fingerprint, Supplier<T> action) {
+        try {
+            return this.<T>executeAsync(scope, key, fingerprint,
+                () -> CompletableFuture.completedFuture(action.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 멱등 키 기준으로 비동기 실행
+     *
+     * 진행 중인 동일 키 요청이 있으면 새로 실행하지 않고 같은 Future 를 공유한다.
+     * 클라이언트가 키를 잘못 재사용해 내용이 다른 요청이 오면 실패한 Future 를 반환한다 (조용한 유실 방지).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String scope, String key, Object fingerprint,
+                                                 Supplier<CompletableFuture<T>> action) {
+        if (key == null || key.isBlank()) {
+            return invoke(action);
+        }
+
+        String cacheKey = scope + ":" + key;
+        long now = System.nanoTime();
+        Entry created = new Entry(cacheKey, fingerprint, now + ttlNanos);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(cacheKey, created);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(now)) {
+                if (!Objects.equals(existing.fingerprint, fingerprint)) {
+                    log.debug("멱등 키 재사용 거절 (요청 내용 불일치): key={}", cacheKey);
+                    return CompletableFuture.failedFuture(new IllegalArgumentException(
+                        "멱등 키가 다른 요청에 이미 사용되었습니다: " + key));
+                }
+                log.debug("멱등 키 재사용: key={}", cacheKey);
+                return (CompletableFuture<T>) existing.result;
+            }
+            if (entries.replace(cacheKey, existing, created)) {
+                break;
+            }
+        }
+
+        insertionOrder.add(created);
+        evict(now);
+
+        invoke(action).whenComplete((value, error) -> {
+            if (error != null) {
+                entries.remove(cacheKey, created);
+                created.result.completeExceptionally(error);
+            } else {
+                created.result.complete(value);
+            }
+        });
+
+        return (CompletableFuture<T>) created.result;
+    }
+
+    /**
+     * 현재 저장된 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 오래된 항목 제거 (삽입 순서 = 만료 순서)
+     */
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null
+                && (entries.size() > maxEntries || head.isExpired(now))) {
+            if (insertionOrder.remove(head)) {
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    private static <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Object fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String key, Object fingerprint, long expiresAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.grpc.common.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 앱 내부 JFR 모니터 (user.jfr.monitor.enabled=true 일 때만 생성)
+ *
+ * RecordingStream 으로 이 앱의 이벤트(RPC, 스트림 정지, 쿼리)와 GC, 모니터 경합 이벤트를 켜고,
+ * 이벤트 종료 시각 기준 최근 window 동안의 (종류, 키)별 건수/합계/최대를 1초 버킷 링으로 유지한다.
+ * 같은 시간대의 GC/잠금 정지와 느린 RPC 를 나란히 볼 수 있다.
+ * 모니터를 켜면 이벤트가 JVM 전체에서 활성화되므로 그만큼의 기록 비용이 생긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.jfr.monitor.enabled", havingValue = "true")
+public class FlightRecorderMonitor {
+
+    private final int windowSeconds;
+    private final Duration queryThreshold;
+    private final Duration monitorEnterThreshold;
+    private final Bucket[] buckets;
+    private RecordingStream stream;
+
+    public FlightRecorderMonitor(
+            @Value("${user.jfr.monitor.window:60s}") Duration window,
+            @Value("${user.jfr.monitor.query-threshold:0ms}") Duration queryThreshold,
+            @Value("${user.jfr.monitor.monitor-enter-threshold:10ms}") Duration monitorEnterThreshold) {
+        this.windowSeconds = (int) Math.max(1, window.toSeconds());
+        this.queryThreshold = queryThreshold;
+        this.monitorEnterThreshold = monitorEnterThreshold;
+        this.buckets = new Bucket[windowSeconds];
+        for (int i = 0; i < windowSeconds; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.setMaxAge(Duration.ofSeconds(windowSeconds));
+        stream.enable(RpcEvent.NAME);
+        stream.enable(StreamStallEvent.NAME);
+        stream.enable(UserQueryEvent.NAME).withThreshold(queryThreshold);
+        stream.enable("jdk.GarbageCollection");
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(monitorEnterThreshold);
+
+        stream.onEvent(RpcEvent.NAME, event -> record("rpc", event.getString("method"),
+            event, event.getDuration(), !"OK".equals(event.getString("status"))));
+        stream.onEvent(StreamStallEvent.NAME, event -> record("stream-stall", event.getString("method"),
+            event, event.getDuration(), false));
+        stream.onEvent(UserQueryEvent.NAME, event -> record("query", event.getString("query"),
+            event, event.getDuration(), event.getBoolean("failed")));
+        stream.onEvent("jdk.GarbageCollection", event -> record("gc", event.getString("name"),
+            event, event.getDuration("sumOfPauses"), false));
+        stream.onEvent("jdk.JavaMonitorEnter", event -> record("monitor-enter",
+            event.getClass("monitorClass").getName(), event, event.getDuration(), false));
+
+        stream.startAsync();
+        log.info("JFR 모니터 시작: window={}s, queryThreshold={}ms, monitorEnterThreshold={}ms",
+            windowSeconds, queryThreshold.toMillis(), monitorEnterThreshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    /**
+     * 최근 window 동안의 집계 (종류별, 합계 시간 내림차순)
+     */
+    public synchronized List<Aggregate> aggregates() {
+        long now = System.currentTimeMillis() / 1_000;
+        Map<Key, Aggregate> merged = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            if (now - bucket.second >= windowSeconds) {
+                continue;
+            }
+            bucket.aggregates.forEach((key, aggregate) -> merged.merge(key, aggregate, Aggregate::plus));
+        }
+        List<Aggregate> result = new ArrayList<>(merged.values());
+        result.sort(Comparator.comparing(Aggregate::type)
+            .thenComparing(Comparator.comparingLong(Aggregate::totalNanos).reversed()));
+        return result;
+    }
+
+    private synchronized void record(String type, String key, RecordedEvent event, Duration duration, boolean error) {
+        long second = event.getEndTime().getEpochSecond();
+        if (System.currentTimeMillis() / 1_000 - second >= windowSeconds) {
+            return;
+        }
+        Bucket bucket = buckets[(int) (second % windowSeconds)];
+        if (bucket.second != second) {
+            bucket.second = second;
+            bucket.aggregates.clear();
+        }
+        long nanos = duration.toNanos();
+        bucket.aggregates.merge(new Key(type, key),
+            new Aggregate(type, key, 1, nanos, nanos, error ? 1 : 0), Aggregate::plus);
+    }
+
+    private record Key(String type, String key) {
+    }
+
+    /**
+     * (종류, 키) 1개의 집계
+     *
+     * @param type rpc, stream-stall, query, gc, monitor-enter
+     * @param key  메서드, 쿼리, GC 이름, 모니터 클래스
+     */
+    public record Aggregate(String type, String key, long count, long totalNanos, long maxNanos, long errors) {
+
+        Aggregate plus(Aggregate other) {
+            return new Aggregate(type, key, count + other.count, totalNanos + other.totalNanos,
+                Math.max(maxNanos, other.maxNanos), errors + other.errors);
+        }
+    }
+
+    private static final class Bucket {
+
+        private long second;
+        private final Map<Key, Aggregate> aggregates = new HashMap<>();
+    }
+}
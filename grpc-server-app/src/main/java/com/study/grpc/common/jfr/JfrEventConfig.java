@@ -0,0 +1,47 @@
+package com.study.grpc.common.jfr;
+
+import com.study.grpc.user.repository.UserStore;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JFR 이벤트 연결
+ *
+ * - RpcEvent: gRPC 서버에 ServerStreamTracer 로 등록
+ * - UserQueryEvent: UserStore 빈을 인터셉터 프록시로 감쌈 (엔진(jpa/mapped)과 무관하게 저장소 호출마다 기록)
+ * - StreamStallEvent: 흐름 제어를 쓰는 스트림(ExportUsers)에서 직접 기록
+ *
+ * 모든 이벤트는 @Enabled(false) 이므로 녹화 설정에서 켜지 않으면 기록되지 않는다. 예)
+ * -XX:StartFlightRecording:+com.study.grpc.Rpc#enabled=true,+com.study.grpc.UserQuery#enabled=true
+ * 또는 user.jfr.monitor.enabled=true 로 앱 내부 모니터(FlightRecorderMonitor)를 켠다.
+ */
+@Configuration
+public class JfrEventConfig {
+
+    @Bean
+    public GrpcServerConfigurer rpcEventServerConfigurer(RpcEventStreamTracerFactory tracerFactory) {
+        return serverBuilder -> serverBuilder.addStreamTracerFactory(tracerFactory);
+    }
+
+    @Bean
+    public static BeanPostProcessor userQueryEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof UserStore)) {
+                    return bean;
+                }
+                // 이벤트의 query 는 엔진 구현 클래스 기준 (JpaUserStore.findById, MappedUserStore.findById 등)
+                ProxyFactory proxyFactory = new ProxyFactory();
+                proxyFactory.setTarget(bean);
+                proxyFactory.setInterfaces(UserStore.class);
+                proxyFactory.addAdvice(new UserQueryEventInterceptor(AopUtils.getTargetClass(bean).getSimpleName()));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.grpc.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * gRPC 호출 1건 (JFR 이벤트)
+ *
+ * 시작 시각은 스트림 생성(전송 스레드), 지속 시간은 스트림 종료까지이다.
+ * 기본 비활성이며 녹화 설정에서 켜야 기록된다.
+ */
+@Name(RpcEvent.NAME)
+@Label("gRPC Call")
+@Description("gRPC 서버 호출 시작부터 종료까지")
+@Category({"gRPC Study", "RPC"})
+@Enabled(false)
+@StackTrace(false)
+public class RpcEvent extends Event {
+
+    public static final String NAME = "com.study.grpc.Rpc";
+
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    String status;
+
+    @Label("Messages Received")
+    int messagesReceived;
+
+    @Label("Messages Sent")
+    int messagesSent;
+}
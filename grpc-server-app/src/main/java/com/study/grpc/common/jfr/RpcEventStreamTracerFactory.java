@@ -0,0 +1,62 @@
+package com.study.grpc.common.jfr;
+
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출마다 RpcEvent 를 기록하는 ServerStreamTracer
+ *
+ * 이벤트가 비활성이면 공유 no-op tracer 를 돌려주므로 호출당 비용은 isEnabled 확인 1회이다.
+ * 메시지 수는 tracer 의 순번(seqNo) 콜백으로 센다 (방향별로 한 스레드에서만 증가).
+ */
+@Component
+public class RpcEventStreamTracerFactory extends ServerStreamTracer.Factory {
+
+    private static final ServerStreamTracer NOOP = new ServerStreamTracer() {
+    };
+
+    @Override
+    public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+        RpcEvent event = new RpcEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.method = fullMethodName;
+        event.begin();
+        return new EventTracer(event);
+    }
+
+    private static final class EventTracer extends ServerStreamTracer {
+
+        private final RpcEvent event;
+        private volatile int messagesReceived;
+        private volatile int messagesSent;
+
+        EventTracer(RpcEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void inboundMessage(int seqNo) {
+            messagesReceived = seqNo + 1;
+        }
+
+        @Override
+        public void outboundMessage(int seqNo) {
+            messagesSent = seqNo + 1;
+        }
+
+        @Override
+        public void streamClosed(Status status) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = status.getCode().name();
+                event.messagesReceived = messagesReceived;
+                event.messagesSent = messagesSent;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.grpc.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 서버 스트림 백프레셔 정지 (JFR 이벤트)
+ *
+ * 전송 버퍼가 가득 차(isReady=false) 응답을 멈춘 시점부터 다시 보낼 수 있게 될 때(onReady)까지.
+ * 기본 비활성이며, 비활성일 때 start() 는 null 을 반환한다.
+ */
+@Name(StreamStallEvent.NAME)
+@Label("gRPC Stream Stall")
+@Description("흐름 제어로 서버 스트림 전송이 멈춘 구간")
+@Category({"gRPC Study", "RPC"})
+@Enabled(false)
+@StackTrace(false)
+public class StreamStallEvent extends Event {
+
+    public static final String NAME = "com.study.grpc.StreamStall";
+
+    @Label("Method")
+    String method;
+
+    @Label("Messages Sent")
+    long messagesSent;
+
+    /**
+     * 정지 시작 (이벤트가 비활성이면 null)
+     */
+    public static StreamStallEvent start(String method, long messagesSent) {
+        StreamStallEvent event = new StreamStallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.method = method;
+        event.messagesSent = messagesSent;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 정지 종료 (전송 재개 또는 취소)
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.study.grpc.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * UserStore 메서드 실행 (JFR 이벤트, 저장 엔진 구현 클래스 이름.메서드 이름으로 기록)
+ *
+ * 기본 비활성이며, 켤 때는 threshold 로 느린 쿼리만 남기는 것을 권장한다.
+ */
+@Name(UserQueryEvent.NAME)
+@Label("User Store Query")
+@Description("UserStore 메서드 1회 실행")
+@Category({"gRPC Study", "Store"})
+@Enabled(false)
+@StackTrace(false)
+public class UserQueryEvent extends Event {
+
+    public static final String NAME = "com.study.grpc.UserQuery";
+
+    @Label("Query")
+    String query;
+
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,59 @@
+package com.study.grpc.common.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * UserStore 프록시에 끼워 넣는 쿼리 이벤트 인터셉터
+ *
+ * 이벤트가 비활성이면 바로 다음 단계로 넘긴다.
+ * 행 수는 반환값으로 추정한다 (목록/Map 크기, Optional 0 또는 1, 일괄 추가는 추가 행 수, 그 외 1).
+ */
+class UserQueryEventInterceptor implements MethodInterceptor {
+
+    private final String storeName;
+
+    UserQueryEventInterceptor(String storeName) {
+        this.storeName = storeName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UserQueryEvent event = new UserQueryEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.query = storeName + "." + invocation.getMethod().getName();
+                event.rowCount = failed ? 0 : rowCount(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static long rowCount(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case Collection<?> rows -> rows.size();
+            case Map<?, ?> rows -> rows.size();
+            case Optional<?> row -> row.isPresent() ? 1 : 0;
+            case Integer updated -> updated;
+            default -> 1;
+        };
+    }
+}
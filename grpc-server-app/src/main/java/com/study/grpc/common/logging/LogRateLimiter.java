@@ -0,0 +1,47 @@
+package com.study.grpc.common.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 빈도 제한
+ *
+ * 고정 시간 창마다 최대 permits 건까지만 기록을 허용하고 나머지는 건너뛴 개수만 센다.
+ * 잘못된 요청이 몰릴 때 로그 I/O 가 요청 처리 비용을 넘어서지 않도록 한다.
+ */
+public class LogRateLimiter {
+
+    private final int permits;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong used = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(int permits, Duration window) {
+        this.permits = permits;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 이번 시간 창에서 기록이 허용되는지
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.incrementAndGet() <= permits) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 마지막 조회 이후 건너뛴 로그 수 (조회 시 0 으로 초기화)
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
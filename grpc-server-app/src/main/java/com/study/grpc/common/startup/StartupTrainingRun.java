@@ -0,0 +1,118 @@
+package com.study.grpc.common.startup;
+
+import com.study.grpc.proto.CreateUserRequest;
+import com.study.grpc.proto.CreateUserResponse;
+import com.study.grpc.proto.GetUserRequest;
+import com.study.grpc.proto.GetUsersRequest;
+import com.study.grpc.proto.UserServiceGrpc;
+import com.study.grpc.user.repository.UserStore;
+import com.study.grpc.user.repository.mapped.MappedUserStore;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.event.GrpcServerStartedEvent;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOT 캐시 학습 실행 (user.startup.training.enabled=true 일 때만 동작)
+ *
+ * 서버가 준비되면 자기 자신에게 CreateUser/GetUser/GetUser(miss)/GetUsers 를 iterations 회 호출해
+ * 요청 경로(Netty, protobuf, Hibernate 조회)의 클래스 로딩과 프로파일을 남긴 뒤 종료한다.
+ * -XX:AOTCacheOutput 과 함께 실행하면 종료 시점에 JVM 이 AOT 캐시를 만든다 (./gradlew :grpc-server-app:aotCacheTraining).
+ *
+ * Spring AOT 는 조건부 빈을 빌드 시점에 고정하므로 @ConditionalOnProperty 대신 실행 시점에 설정을 확인한다.
+ * 학습 회원(iterations 명)을 지우지 않으므로 영속 저장소(mapped)에서는 실행하지 않고 실패로 종료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTrainingRun {
+
+    private final ApplicationContext applicationContext;
+    private final UserStore userStore;
+
+    @Value("${user.startup.training.enabled:false}")
+    private boolean enabled;
+
+    @Value("${user.startup.training.iterations:200}")
+    private int iterations;
+
+    private volatile int port = -1;
+
+    @EventListener
+    public void onServerStarted(GrpcServerStartedEvent event) {
+        port = event.getPort();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void train() {
+        if (!enabled) {
+            return;
+        }
+
+        log.info("AOT 캐시 학습 실행 시작: port={}, iterations={}", port, iterations);
+        long startedAt = System.nanoTime();
+        int exitCode = 0;
+        try {
+            if (AopUtils.getTargetClass(userStore) == MappedUserStore.class) {
+                throw new IllegalStateException(
+                    "영속 저장소(user.storage.engine=mapped)에는 학습 회원이 남으므로 jpa(메모리 DB)로 실행하세요");
+            }
+            runWorkload();
+            log.info("AOT 캐시 학습 실행 완료: iterations={}, elapsedMs={}", iterations,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            log.error("AOT 캐시 학습 실행 실패", e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    private void runWorkload() {
+        if (port <= 0) {
+            throw new IllegalStateException("gRPC 서버 포트를 알 수 없습니다: " + port);
+        }
+
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", port)
+            .usePlaintext()
+            .build();
+        try {
+            UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+            for (int i = 0; i < iterations; i++) {
+                CreateUserResponse created = stub.createUser(CreateUserRequest.newBuilder()
+                    .setEmail("training-" + i + "@startup.local")
+                    .setName("학습" + i)
+                    .setPhoneNumber("010-5000-" + String.format("%04d", i % 10_000))
+                    .build());
+
+                stub.getUser(GetUserRequest.newBuilder().setId(created.getId()).build());
+
+                try {
+                    stub.getUser(GetUserRequest.newBuilder().setId(Long.MAX_VALUE - i).build());
+                } catch (StatusRuntimeException e) {
+                    if (e.getStatus().getCode() != Status.Code.NOT_FOUND) {
+                        throw e;
+                    }
+                }
+
+                stub.getUsers(GetUsersRequest.newBuilder().setPage(0).setSize(20).build())
+                    .forEachRemaining(user -> { });
+            }
+        } finally {
+            channel.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.study.grpc.common.timing;
+
+/**
+ * RPC 처리 구간
+ *
+ * - QUEUE: 스트림 생성(전송 스레드) → 애플리케이션 executor 에서 호출 시작까지 대기
+ * - DB: Hibernate 의 JDBC 커넥션 획득, 문장 준비, 실행 (결과 매핑은 제외)
+ * - MAPPING: DTO → proto 메시지 변환 (UserGrpcService)
+ * - SERIALIZATION: 응답 메시지 직렬화와 프레임 기록 (ServerCall.sendMessage)
+ * - OTHER: 전체에서 위 구간을 뺀 나머지 (서비스 로직, 엔티티 매핑, 요청 역직렬화 등)
+ * - TOTAL: 스트림 생성부터 종료까지
+ */
+public enum RpcPhase {
+    QUEUE, DB, MAPPING, SERIALIZATION, OTHER, TOTAL;
+
+    /**
+     * TOTAL, OTHER 를 제외한 직접 측정 구간
+     */
+    static final RpcPhase[] MEASURED = {QUEUE, DB, MAPPING, SERIALIZATION};
+}
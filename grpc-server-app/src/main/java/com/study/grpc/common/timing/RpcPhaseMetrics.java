@@ -0,0 +1,69 @@
+package com.study.grpc.common.timing;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메서드 × 구간별 소요 시간 히스토그램 집계
+ *
+ * 호출이 끝날 때(RpcTimingStreamTracerFactory) 구간별 시간을 한 번에 기록한다.
+ */
+@Component
+public class RpcPhaseMetrics {
+
+    private volatile Map<String, Map<RpcPhase, RpcPhaseHistogram>> histograms = new ConcurrentHashMap<>();
+    private volatile long since = System.currentTimeMillis();
+
+    void record(String method, long[] phaseNanos) {
+        Map<RpcPhase, RpcPhaseHistogram> phases = histograms.computeIfAbsent(method, key -> {
+            Map<RpcPhase, RpcPhaseHistogram> created = new EnumMap<>(RpcPhase.class);
+            for (RpcPhase phase : RpcPhase.values()) {
+                created.put(phase, new RpcPhaseHistogram());
+            }
+            return created;
+        });
+        for (RpcPhase phase : RpcPhase.values()) {
+            phases.get(phase).record(phaseNanos[phase.ordinal()] / 1_000);
+        }
+    }
+
+    /**
+     * 현재 집계 (메서드, 구간 순서)
+     */
+    public List<Summary> summarize() {
+        List<Summary> summaries = new ArrayList<>();
+        histograms.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> entry.getValue().forEach((phase, histogram) -> summaries.add(new Summary(
+                entry.getKey(), phase, histogram.count(), histogram.sum(),
+                histogram.percentile(50), histogram.percentile(90), histogram.percentile(99), histogram.max()))));
+        return summaries;
+    }
+
+    /**
+     * 집계 시작 시각 (epoch millis)
+     */
+    public long getSince() {
+        return since;
+    }
+
+    /**
+     * 집계 초기화 (기록 중인 값은 이전 집계로 들어갈 수 있음)
+     */
+    public void reset() {
+        histograms = new ConcurrentHashMap<>();
+        since = System.currentTimeMillis();
+    }
+
+    /**
+     * 메서드 × 구간 1개의 요약 (마이크로초)
+     */
+    public record Summary(String method, RpcPhase phase, long count, long totalMicros,
+                          long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+    }
+}
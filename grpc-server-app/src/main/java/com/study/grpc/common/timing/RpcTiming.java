@@ -0,0 +1,76 @@
+package com.study.grpc.common.timing;
+
+import io.grpc.Context;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 호출 1건의 구간별 소요 시간
+ *
+ * RpcTimingStreamTracerFactory 가 스트림마다 만들어 gRPC Context 에 넣고,
+ * 각 측정 지점은 현재 Context 의 인스턴스에 시간을 더한다.
+ * 구간은 여러 스레드(전송, executor)에서 더해질 수 있어 AtomicLongArray 로 누적한다.
+ * Context 에 없으면(비동기 작업, gRPC 밖의 호출) 측정하지 않는다.
+ */
+public final class RpcTiming {
+
+    static final Context.Key<RpcTiming> KEY = Context.key("rpc-timing");
+
+    private final long createdAt = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(RpcPhase.values().length);
+
+    /**
+     * 현재 호출의 측정 객체 (없으면 null)
+     */
+    public static RpcTiming current() {
+        return KEY.get();
+    }
+
+    /**
+     * startedAt(System.nanoTime) 부터 지금까지를 현재 호출의 phase 에 더함
+     */
+    public static void record(RpcPhase phase, long startedAt) {
+        RpcTiming timing = KEY.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    public void add(RpcPhase phase, long elapsedNanos) {
+        nanos.addAndGet(phase.ordinal(), elapsedNanos);
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    /**
+     * 지금까지의 구간별 시간 (TOTAL 은 생성 후 경과 시간, OTHER 는 나머지)
+     */
+    long[] snapshot() {
+        long[] phases = new long[RpcPhase.values().length];
+        long measured = 0;
+        for (RpcPhase phase : RpcPhase.MEASURED) {
+            phases[phase.ordinal()] = nanos.get(phase.ordinal());
+            measured += phases[phase.ordinal()];
+        }
+        long total = System.nanoTime() - createdAt;
+        phases[RpcPhase.TOTAL.ordinal()] = total;
+        phases[RpcPhase.OTHER.ordinal()] = Math.max(0, total - measured);
+        return phases;
+    }
+
+    /**
+     * trailer 형식: queue=12;db=340;mapping=25;serialization=8;other=90;total=475 (마이크로초)
+     */
+    static String format(long[] phases) {
+        StringBuilder value = new StringBuilder(96);
+        for (RpcPhase phase : RpcPhase.values()) {
+            if (!value.isEmpty()) {
+                value.append(';');
+            }
+            value.append(phase.name().toLowerCase()).append('=').append(phases[phase.ordinal()] / 1_000);
+        }
+        return value.toString();
+    }
+}
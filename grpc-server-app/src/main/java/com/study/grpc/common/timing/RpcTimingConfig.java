@@ -0,0 +1,21 @@
+package com.study.grpc.common.timing;
+
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 구간 측정 tracer 등록 (user.rpc-timing.enabled=false 이면 측정하지 않음)
+ *
+ * tracer 가 없으면 호출 Context 에 RpcTiming 이 없으므로 다른 측정 지점도 아무것도 하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "user.rpc-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class RpcTimingConfig {
+
+    @Bean
+    public GrpcServerConfigurer rpcTimingServerConfigurer(RpcTimingStreamTracerFactory tracerFactory) {
+        return serverBuilder -> serverBuilder.addStreamTracerFactory(tracerFactory);
+    }
+}
@@ -0,0 +1,51 @@
+package com.study.grpc.common.timing;
+
+import io.grpc.*;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 직렬화 시간 측정 및 구간별 시간 trailer 전달
+ *
+ * - sendMessage 안에서 응답 메시지가 직렬화되어 프레임에 기록되므로 그 시간을 SERIALIZATION 으로 더한다
+ * - 요청 헤더 x-rpc-timing 이 있으면 종료 시점의 구간별 시간(마이크로초)을 같은 이름의 trailer 로 돌려준다
+ *   (클라이언트가 표본 호출에만 헤더를 붙여 요청한다)
+ */
+@Component
+@GrpcGlobalServerInterceptor
+public class RpcTimingInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> RPC_TIMING_KEY =
+        Metadata.Key.of("x-rpc-timing", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+
+        RpcTiming timing = RpcTiming.current();
+        if (timing == null) {
+            return next.startCall(call, headers);
+        }
+        boolean breakdownRequested = headers.containsKey(RPC_TIMING_KEY);
+
+        return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                long startedAt = System.nanoTime();
+                try {
+                    super.sendMessage(message);
+                } finally {
+                    timing.add(RpcPhase.SERIALIZATION, System.nanoTime() - startedAt);
+                }
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                if (breakdownRequested) {
+                    trailers.put(RPC_TIMING_KEY, RpcTiming.format(timing.snapshot()));
+                }
+                super.close(status, trailers);
+            }
+        }, headers);
+    }
+}
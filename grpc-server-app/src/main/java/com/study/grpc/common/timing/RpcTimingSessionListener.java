@@ -0,0 +1,58 @@
+package com.study.grpc.common.timing;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate JDBC 구간 측정 (DB 구간)
+ *
+ * hibernate.session.events.auto 로 세션마다 생성되며,
+ * 커넥션 획득, 문장 준비, 실행, 배치 실행에 걸린 시간을 현재 gRPC 호출의 DB 구간에 더한다.
+ * 세션은 한 스레드에서만 쓰이므로 시작 시각을 필드에 둔다.
+ */
+public class RpcTimingSessionListener implements SessionEventListener {
+
+    private long connectionStartedAt;
+    private long prepareStartedAt;
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RpcTiming.record(RpcPhase.DB, connectionStartedAt);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        RpcTiming.record(RpcPhase.DB, prepareStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RpcTiming.record(RpcPhase.DB, executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RpcTiming.record(RpcPhase.DB, batchStartedAt);
+    }
+}
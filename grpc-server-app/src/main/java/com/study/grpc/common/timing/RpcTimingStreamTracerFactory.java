@@ -0,0 +1,54 @@
+package com.study.grpc.common.timing;
+
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출별 구간 측정 시작/종료 (ServerStreamTracer)
+ *
+ * 전송 스레드에서 스트림이 생기는 순간 RpcTiming 을 만들어 호출 Context 에 넣고,
+ * executor 에서 호출이 시작되면(serverCallStarted) 그때까지를 QUEUE 로,
+ * 스트림이 닫히면 전체 시간을 TOTAL 로 기록해 RpcPhaseMetrics 에 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RpcTimingStreamTracerFactory extends ServerStreamTracer.Factory {
+
+    private final RpcPhaseMetrics metrics;
+
+    @Override
+    public ServerStreamTracer newServerStreamTracer(String fullMethodName, Metadata headers) {
+        return new TimingTracer(fullMethodName);
+    }
+
+    private final class TimingTracer extends ServerStreamTracer {
+
+        private final String method;
+        private final RpcTiming timing = new RpcTiming();
+
+        TimingTracer(String fullMethodName) {
+            // user.UserService/GetUser → UserService/GetUser
+            int packageEnd = fullMethodName.lastIndexOf('.', fullMethodName.indexOf('/'));
+            this.method = packageEnd < 0 ? fullMethodName : fullMethodName.substring(packageEnd + 1);
+        }
+
+        @Override
+        public Context filterContext(Context context) {
+            return context.withValue(RpcTiming.KEY, timing);
+        }
+
+        @Override
+        public void serverCallStarted(ServerCallInfo<?, ?> callInfo) {
+            timing.add(RpcPhase.QUEUE, System.nanoTime() - timing.createdAt());
+        }
+
+        @Override
+        public void streamClosed(Status status) {
+            metrics.record(method, timing.snapshot());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.study.grpc.common.transport;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전송 프로필 1개의 이벤트 루프와 서버 빌더 설정
+ *
+ * 이벤트 루프는 서버보다 오래 살아야 하므로 직접 만들고 close() 에서 정리한다.
+ */
+@Slf4j
+final class NettyServerTransport implements AutoCloseable {
+
+    private final String name;
+    private final TransportProfile profile;
+    private final boolean epoll;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+
+    NettyServerTransport(String name, TransportProfile profile) {
+        this.name = name;
+        this.profile = profile;
+        this.epoll = profile.nativeTransport() && Epoll.isAvailable();
+        if (profile.nativeTransport() && !epoll) {
+            log.warn("epoll 을 사용할 수 없어 NIO 로 대체: profile={}, cause={}", name,
+                String.valueOf(Epoll.unavailabilityCause()));
+        }
+
+        int bossThreads = Math.max(1, profile.bossThreads());
+        int workerThreads = Math.max(0, profile.workerThreads());
+        this.bossGroup = eventLoopGroup(bossThreads, "grpc-boss-" + name);
+        this.workerGroup = eventLoopGroup(workerThreads, "grpc-worker-" + name);
+    }
+
+    void apply(NettyServerBuilder builder) {
+        Class<? extends ServerChannel> channelType = epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+        builder.bossEventLoopGroup(bossGroup)
+            .workerEventLoopGroup(workerGroup)
+            .channelType(channelType)
+            .maxConcurrentCallsPerConnection(profile.maxConcurrentStreams())
+            .maxInboundMessageSize((int) profile.maxInboundMessageSize().toBytes())
+            .maxInboundMetadataSize((int) profile.maxInboundMetadataSize().toBytes());
+
+        int window = (int) profile.flowControlWindow().toBytes();
+        if (profile.autoTuneFlowControl()) {
+            builder.initialFlowControlWindow(window);
+        } else {
+            builder.flowControlWindow(window);
+        }
+
+        log.info("gRPC 서버 전송 프로필 적용: profile={}, transport={}, boss={}, worker={}, window={}{}, "
+                + "maxStreams={}, maxMessage={}",
+            name, epoll ? "epoll" : "nio", profile.bossThreads(), profile.workerThreads(), profile.flowControlWindow(),
+            profile.autoTuneFlowControl() ? " (auto)" : "", profile.maxConcurrentStreams(),
+            profile.maxInboundMessageSize());
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean isEpoll() {
+        return epoll;
+    }
+
+    @Override
+    public void close() {
+        bossGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+        workerGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+    }
+
+    private EventLoopGroup eventLoopGroup(int threads, String poolName) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(poolName, true);
+        return epoll ? new EpollEventLoopGroup(threads, threadFactory) : new NioEventLoopGroup(threads, threadFactory);
+    }
+}
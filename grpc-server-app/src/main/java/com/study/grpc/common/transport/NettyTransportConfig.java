@@ -0,0 +1,45 @@
+package com.study.grpc.common.transport;
+
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * gRPC 서버 Netty 전송 프로필 선택
+ *
+ * user.transport.profile 에 user.transport.profiles 아래 이름을 지정하면 그 프로필의 전송 방식(epoll/NIO),
+ * 이벤트 루프 크기, HTTP/2 흐름 제어 창, 동시 스트림/메시지 크기 제한을 서버 빌더에 적용한다.
+ * none 이면 grpc-netty 기본값을 그대로 쓴다. grpc.server.* 의 같은 항목보다 프로필 값이 우선한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${user.transport.profile:none}' != 'none'")
+public class NettyTransportConfig {
+
+    @Bean
+    NettyServerTransport nettyServerTransport(Environment environment,
+                                              @Value("${user.transport.profile}") String profileName) {
+        TransportProfile profile = Binder.get(environment)
+            .bind("user.transport.profiles." + profileName, TransportProfile.class)
+            .orElseThrow(() -> new IllegalStateException("정의되지 않은 전송 프로필입니다: " + profileName));
+        return new NettyServerTransport(profileName, profile);
+    }
+
+    @Bean
+    public GrpcServerConfigurer transportServerConfigurer(NettyServerTransport transport) {
+        return serverBuilder -> {
+            if (serverBuilder instanceof NettyServerBuilder nettyServerBuilder) {
+                transport.apply(nettyServerBuilder);
+            } else {
+                log.warn("Netty 서버가 아니므로 전송 프로필을 적용하지 않음: profile={}, builder={}",
+                    transport.getName(), serverBuilder.getClass().getSimpleName());
+            }
+        };
+    }
+}
@@ -11,9 +11,26 @@ import java.time.LocalDateTime;
  * 회원(User) 엔티티
  *
  * 데이터베이스의 users 테이블과 매핑되는 도메인 객체
+ *
+ * 목록 조회 경로가 전체 스캔으로 떨어지지 않도록 인덱스를 선언한다.
+ * - (status, id): 상태 필터 + ID 정렬
+ * - (status, created_at, id): 상태 필터 + 가입일 정렬
+ * - (created_at, id): 필터 없는 가입일 정렬
+ * - (updated_at, id): 변경분(delta) 동기화
+ * - email_lower: 대소문자 무시 이메일 조회 (LOWER(email) 생성 컬럼, 가입 시 중복 확인)
+ * - (id, version): 엔티티 로딩 없이 버전만 확인하는 조건부 조회
+ *
+ * version 은 변경될 때마다 증가하며 낙관적 락과 조건부 조회(if_version)에 사용한다.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_status_id", columnList = "status, id"),
+    @Index(name = "idx_users_status_created_at_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_users_email_lower", columnList = "email_lower"),
+    @Index(name = "idx_users_id_version", columnList = "id, version")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -28,6 +45,10 @@ public class User {
     @Column(nullable = false, unique = true, length = 50)
     private String email;
 
+    @Column(name = "email_lower", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(50) GENERATED ALWAYS AS (LOWER(email))")
+    private String emailLower;
+
     @Column(nullable = false, length = 100)
     private String password;
 
@@ -43,13 +64,17 @@ public class User {
     private UserStatus status = UserStatus.ACTIVE;
 
     @CreationTimestamp
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
-    @Column(nullable = false)
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 회원 정보 업데이트
      */
@@ -0,0 +1,63 @@
+package com.study.grpc.user.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 조회 응답에 포함할 수 있는 회원 필드 Enum
+ *
+ * FieldMask 경로(proto 필드명)와 엔티티 속성명을 함께 가진다.
+ * 비밀번호는 응답에 포함되지 않으므로 선택 대상이 아니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserField {
+    ID("id", "id"),
+    EMAIL("email", "email"),
+    NAME("name", "name"),
+    PHONE_NUMBER("phone_number", "phoneNumber"),
+    STATUS("status", "status"),
+    CREATED_AT("created_at", "createdAt"),
+    UPDATED_AT("updated_at", "updatedAt"),
+    VERSION("version", "version");
+
+    /**
+     * 전체 필드 (FieldMask 가 비어 있을 때)
+     */
+    public static final Set<UserField> ALL = Collections.unmodifiableSet(EnumSet.allOf(UserField.class));
+
+    private final String path;
+    private final String attribute;
+
+    /**
+     * FieldMask 경로 목록을 필드 집합으로 변환
+     *
+     * @param paths FieldMask 경로 (비어 있으면 전체 필드)
+     * @throws IllegalArgumentException 알 수 없는 경로가 있는 경우
+     */
+    public static Set<UserField> fromPaths(Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return ALL;
+        }
+
+        Set<UserField> fields = EnumSet.noneOf(UserField.class);
+        for (String path : paths) {
+            fields.add(fromPath(path));
+        }
+        return fields;
+    }
+
+    private static UserField fromPath(String path) {
+        for (UserField field : values()) {
+            if (field.path.equals(path)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 필드: " + path);
+    }
+}
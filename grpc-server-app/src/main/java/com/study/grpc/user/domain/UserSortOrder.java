@@ -0,0 +1,23 @@
+package com.study.grpc.user.domain;
+
+/**
+ * 회원 목록 정렬 기준 Enum
+ *
+ * 모든 정렬은 id 를 마지막 키로 사용해 순서가 항상 결정적이다.
+ */
+public enum UserSortOrder {
+    /**
+     * ID 오름차순
+     */
+    ID_ASC,
+
+    /**
+     * 가입일 오름차순
+     */
+    CREATED_AT_ASC,
+
+    /**
+     * 가입일 내림차순
+     */
+    CREATED_AT_DESC
+}
@@ -0,0 +1,19 @@
+package com.study.grpc.user.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 회원 정보 일괄 수정 결과 DTO
+ *
+ * 한 트랜잭션에서 처리된 수정 결과와 회원별 실패 사유를 함께 담는다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class UserBatchUpdateResult {
+
+    private final Map<Long, UserResponse> updated;
+    private final Map<Long, RuntimeException> failures;
+}
@@ -0,0 +1,22 @@
+package com.study.grpc.user.dto;
+
+import com.study.grpc.user.domain.UserStatus;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 회원 상태 일괄 변경 결과 DTO
+ *
+ * matchedCount 는 대상이 된 회원 수(없는 ID 제외), updatedCount 는 실제로 상태가 바뀐 회원 수이다.
+ * previousStatusCounts 는 바뀐 회원의 변경 전 상태별 수이다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class UserBulkStatusUpdateResult {
+
+    private final long matchedCount;
+    private final long updatedCount;
+    private final Map<UserStatus, Long> previousStatusCounts;
+}
@@ -43,11 +43,13 @@ public class UserCreateRequest {
 
     /**
      * DTO를 Entity로 변환
+     *
+     * @param passwordHash password 의 해시 (UserPasswordHasher)
      */
-    public User toEntity() {
+    public User toEntity(String passwordHash) {
         return User.builder()
                 .email(this.email)
-                .password(this.password) // 실제로는 암호화 필요
+                .password(passwordHash)
                 .name(this.name)
                 .phoneNumber(this.phoneNumber)
                 .status(UserStatus.ACTIVE)
@@ -25,6 +25,7 @@ public class UserResponse {
     private UserStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Entity를 DTO로 변환
@@ -38,6 +39,7 @@ public class UserResponse {
                 .status(user.getStatus())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
                 .build();
     }
 }
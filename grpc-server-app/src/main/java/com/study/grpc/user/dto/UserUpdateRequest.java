@@ -24,5 +24,10 @@ public class UserUpdateRequest {
         message = "전화번호 형식이 올바르지 않습니다 (예: 010-1234-5678)"
     )
     private String phoneNumber;
+
+    /**
+     * 수정 대상의 기대 버전 (null 이면 버전 확인 없이 수정)
+     */
+    private Long expectedVersion;
 }
 
@@ -3,7 +3,7 @@ package com.study.grpc.user.exception;
 /**
  * 이메일이 이미 존재할 때 발생하는 예외
  */
-public class DuplicateEmailException extends RuntimeException {
+public class DuplicateEmailException extends UserDomainException {
 
     public DuplicateEmailException(String email) {
         super("이미 존재하는 이메일입니다: " + email);
@@ -0,0 +1,18 @@
+package com.study.grpc.user.exception;
+
+/**
+ * 회원 도메인 예외의 공통 부모
+ *
+ * 미존재/중복/상태 오류는 정상적인 업무 흐름의 일부이고 호출자에게 gRPC 상태로만 전달되므로
+ * 스택 트레이스를 만들지 않는다 (fillInStackTrace 비용 제거).
+ */
+public abstract class UserDomainException extends RuntimeException {
+
+    protected UserDomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected UserDomainException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.study.grpc.user.exception;
+
+/**
+ * 회원의 현재 버전이 요청의 기대 버전과 다를 때 발생하는 예외 (낙관적 락 충돌)
+ */
+public class UserVersionConflictException extends UserDomainException {
+
+    public UserVersionConflictException(Long id, Long expectedVersion, Long currentVersion) {
+        super("회원 버전이 일치하지 않습니다: id=" + id
+            + ", expected=" + expectedVersion + ", current=" + currentVersion);
+    }
+}
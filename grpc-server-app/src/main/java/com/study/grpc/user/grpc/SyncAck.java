@@ -0,0 +1,67 @@
+package com.study.grpc.user.grpc;
+
+import com.study.grpc.proto.SyncAckCode;
+import com.study.grpc.proto.SyncUsersResponse;
+
+import java.time.Instant;
+
+/**
+ * 동기화 요청 1건의 처리 결과
+ *
+ * 결과 코드와 회원 ID 만 보관하고, 요청별 응답 모드(SyncUsers)로 보낼 때만 메시지 문자열을 만든다.
+ * 멱등 키 재전송 시에도 이 값을 그대로 재사용하므로 두 응답 모드가 같은 결과를 공유한다.
+ *
+ * @param error 실패 메시지 (성공이면 null)
+ */
+record SyncAck(SyncAckCode code, long userId, String error) {
+
+    static SyncAck created(long userId) {
+        return new SyncAck(SyncAckCode.SYNC_CREATED, userId, null);
+    }
+
+    static SyncAck updated(long userId) {
+        return new SyncAck(SyncAckCode.SYNC_UPDATED, userId, null);
+    }
+
+    static SyncAck deleted(long userId) {
+        return new SyncAck(SyncAckCode.SYNC_DELETED, userId, null);
+    }
+
+    static SyncAck invalid(String message) {
+        return new SyncAck(SyncAckCode.SYNC_INVALID, 0, message);
+    }
+
+    /**
+     * 예외 → 실패 결과 (코드는 UserGrpcStatus 의 상태 코드 기준)
+     */
+    static SyncAck failed(Throwable error) {
+        SyncAckCode code = switch (UserGrpcStatus.toStatusException(error).getStatus().getCode()) {
+            case NOT_FOUND -> SyncAckCode.SYNC_NOT_FOUND;
+            case ALREADY_EXISTS, ABORTED, FAILED_PRECONDITION -> SyncAckCode.SYNC_CONFLICT;
+            case INVALID_ARGUMENT -> SyncAckCode.SYNC_INVALID;
+            default -> SyncAckCode.SYNC_FAILED;
+        };
+        return new SyncAck(code, 0, String.valueOf(UserGrpcStatus.unwrap(error).getMessage()));
+    }
+
+    boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * 요청별 응답 모드의 응답
+     */
+    SyncUsersResponse toResponse() {
+        String message = switch (code) {
+            case SYNC_CREATED -> "User created: id=" + userId;
+            case SYNC_UPDATED -> "User updated: id=" + userId;
+            case SYNC_DELETED -> "User deleted: id=" + userId;
+            default -> error;
+        };
+        return SyncUsersResponse.newBuilder()
+            .setStatus(isSuccess() ? "SUCCESS" : "ERROR")
+            .setMessage(message)
+            .setTimestamp(Instant.now().toEpochMilli())
+            .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.study.grpc.user.grpc;
+
+import com.study.grpc.proto.SyncAckCode;
+import com.study.grpc.proto.SyncAckError;
+import com.study.grpc.proto.SyncUsersBatchResponse;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SyncUsersBatched 응답 묶음
+ *
+ * 스트림마다 처리 결과를 SyncUsersBatchResponse 하나에 모아 max-acks 건이 차거나
+ * 첫 결과가 들어온 뒤 max-delay 가 지나면 보낸다.
+ * 요청 순번은 직전 순번과의 차이(sint64)로, 결과 코드는 enum 배열로 담아 건당 몇 바이트로 줄이고
+ * 메시지 문자열은 실패한 요청에만 붙인다.
+ */
+@Slf4j
+@Component
+public class SyncAckBatcher {
+
+    private final int maxAcks;
+    private final long maxDelayMicros;
+    private final ScheduledExecutorService scheduler;
+
+    public SyncAckBatcher(
+            @Value("${user.sync.ack-batch.max-acks:256}") int maxAcks,
+            @Value("${user.sync.ack-batch.max-delay:5ms}") Duration maxDelay) {
+        this.maxAcks = Math.max(1, maxAcks);
+        this.maxDelayMicros = Math.max(1, maxDelay.toNanos() / 1_000);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-sync-ack");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 응답 스트림 1개에 대한 묶음 버퍼 (클라이언트가 취소하면 남은 결과는 버린다)
+     */
+    Acks open(StreamObserver<SyncUsersBatchResponse> responseObserver) {
+        Acks acks = new Acks(responseObserver);
+        if (responseObserver instanceof ServerCallStreamObserver<SyncUsersBatchResponse> observer) {
+            observer.setOnCancelHandler(acks::cancel);
+        }
+        return acks;
+    }
+
+    final class Acks {
+
+        private final StreamObserver<SyncUsersBatchResponse> responseObserver;
+        private SyncUsersBatchResponse.Builder batch;
+        private ScheduledFuture<?> scheduledFlush;
+        private long lastSequence;
+        private int size;
+        private boolean closed;
+
+        private Acks(StreamObserver<SyncUsersBatchResponse> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        /**
+         * @param sequence 요청 순번 (스트림 내 도착 순서, 1부터)
+         */
+        synchronized void add(long sequence, SyncAck ack) {
+            if (closed) {
+                return;
+            }
+            if (batch == null) {
+                SyncUsersBatchResponse.Builder started = SyncUsersBatchResponse.newBuilder();
+                batch = started;
+                lastSequence = 0;
+                scheduledFlush = scheduler.schedule(() -> flush(started), maxDelayMicros, TimeUnit.MICROSECONDS);
+            }
+
+            batch.addSequenceDeltas(sequence - lastSequence);
+            batch.addCodes(ack.code());
+            lastSequence = sequence;
+            if (ack.code() == SyncAckCode.SYNC_CREATED) {
+                batch.addCreatedIds(ack.userId());
+            }
+            if (!ack.isSuccess()) {
+                batch.addErrors(SyncAckError.newBuilder()
+                    .setSequence(sequence)
+                    .setMessage(ack.error()));
+            }
+
+            if (++size >= maxAcks) {
+                send();
+            }
+        }
+
+        /**
+         * 남은 결과를 보내고 스트림 종료
+         */
+        synchronized void complete() {
+            if (closed) {
+                return;
+            }
+            if (batch != null) {
+                send();
+            }
+            closed = true;
+            responseObserver.onCompleted();
+        }
+
+        private synchronized void cancel() {
+            closed = true;
+            batch = null;
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
+        }
+
+        /**
+         * max-delay 만료 (그사이 크기로 이미 보낸 묶음이면 무시)
+         */
+        private synchronized void flush(SyncUsersBatchResponse.Builder expected) {
+            if (!closed && batch == expected) {
+                try {
+                    send();
+                } catch (RuntimeException e) {
+                    log.warn("SyncUsersBatched 응답 전송 실패", e);
+                }
+            }
+        }
+
+        private void send() {
+            SyncUsersBatchResponse response = batch.setTimestamp(Instant.now().toEpochMilli()).build();
+            batch = null;
+            size = 0;
+            scheduledFlush.cancel(false);
+            responseObserver.onNext(response);
+            log.debug("Sent sync ack batch: acks={}, errors={}", response.getCodesCount(), response.getErrorsCount());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.study.grpc.user.grpc;
+
+import com.study.grpc.common.jfr.FlightRecorderMonitor;
+import com.study.grpc.common.timing.RpcPhaseMetrics;
+import com.study.grpc.proto.FlightRecorderAggregate;
+import com.study.grpc.proto.GetFlightRecorderStatsRequest;
+import com.study.grpc.proto.GetFlightRecorderStatsResponse;
+import com.study.grpc.proto.GetPasswordHashStatsRequest;
+import com.study.grpc.proto.GetPasswordHashStatsResponse;
+import com.study.grpc.proto.GetRpcTimingsRequest;
+import com.study.grpc.proto.GetRpcTimingsResponse;
+import com.study.grpc.proto.LoadUsersFromFileRequest;
+import com.study.grpc.proto.LoadUsersProgress;
+import com.study.grpc.proto.RpcPhaseTiming;
+import com.study.grpc.proto.UserAdminServiceGrpc;
+import com.study.grpc.user.service.UserBulkLoad;
+import com.study.grpc.user.service.UserBulkLoader;
+import com.study.grpc.user.service.UserPasswordHasher;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User Admin gRPC Service
+ *
+ * 운영용 RPC (대량 적재, 구간별 소요 시간 조회, JFR 모니터 조회, 비밀번호 해시 풀 조회). 회원 조회/변경 RPC 는 UserGrpcService 가 처리한다.
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class UserAdminGrpcService extends UserAdminServiceGrpc.UserAdminServiceImplBase {
+
+    private final ObjectProvider<UserBulkLoader> userBulkLoader;
+    private final RpcPhaseMetrics rpcPhaseMetrics;
+    private final ObjectProvider<FlightRecorderMonitor> flightRecorderMonitor;
+    private final UserPasswordHasher userPasswordHasher;
+
+    @Value("${user.bulk-load.progress-interval:1s}")
+    private Duration progressInterval;
+
+    /**
+     * 서버 로컬 파일에서 회원 대량 적재
+     *
+     * 적재는 UserBulkLoader 의 fork-join 풀에서 진행되고, 이 핸들러는 progress-interval 마다 진행 상황만 보낸다.
+     * 마지막 메시지는 done=true 이다. 클라이언트가 취소하면 적재도 중단한다 (이미 커밋된 배치는 유지).
+     */
+    @Override
+    public void loadUsersFromFile(LoadUsersFromFileRequest request, StreamObserver<LoadUsersProgress> responseObserver) {
+        log.info("gRPC LoadUsersFromFile request: path={}, format={}, batchSize={}",
+            request.getPath(), request.getFormat(), request.getBatchSize());
+
+        try {
+            UserBulkLoader.FileFormat format = switch (request.getFormat()) {
+                case CSV -> UserBulkLoader.FileFormat.CSV;
+                case NDJSON -> UserBulkLoader.FileFormat.NDJSON;
+                default -> throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + request.getFormat());
+            };
+
+            UserBulkLoad load = userBulkLoader.getObject().start(request.getPath(), format, request.getBatchSize());
+            ServerCallStreamObserver<LoadUsersProgress> observer =
+                (ServerCallStreamObserver<LoadUsersProgress>) responseObserver;
+            observer.setOnCancelHandler(() -> {
+                load.cancel();
+                log.info("gRPC LoadUsersFromFile cancelled: path={}, inserted={}",
+                    load.getPath(), load.getInsertedRows());
+            });
+
+            while (!load.await(progressInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (observer.isCancelled()) {
+                    return;
+                }
+                observer.onNext(toProgress(load));
+            }
+
+            responseObserver.onNext(toProgress(load));
+            responseObserver.onCompleted();
+
+            log.info("gRPC LoadUsersFromFile completed: parsed={}, inserted={}, rejected={}, elapsed={}ms",
+                load.getParsedRows(), load.getInsertedRows(), load.getRejectedRows(), load.getElapsedMillis());
+
+        } catch (ExecutionException e) {
+            onError(e.getCause(), responseObserver);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onError(e, responseObserver);
+        } catch (Exception e) {
+            onError(e, responseObserver);
+        }
+    }
+
+    /**
+     * RPC 구간별 소요 시간 집계 조회 (reset 이면 조회 후 초기화)
+     */
+    @Override
+    public void getRpcTimings(GetRpcTimingsRequest request, StreamObserver<GetRpcTimingsResponse> responseObserver) {
+        log.debug("gRPC GetRpcTimings request: reset={}", request.getReset());
+
+        GetRpcTimingsResponse.Builder builder = GetRpcTimingsResponse.newBuilder()
+            .setSince(rpcPhaseMetrics.getSince());
+        for (RpcPhaseMetrics.Summary summary : rpcPhaseMetrics.summarize()) {
+            builder.addTimings(RpcPhaseTiming.newBuilder()
+                .setMethod(summary.method())
+                .setPhase(summary.phase().name())
+                .setCount(summary.count())
+                .setTotalMicros(summary.totalMicros())
+                .setP50Micros(summary.p50Micros())
+                .setP90Micros(summary.p90Micros())
+                .setP99Micros(summary.p99Micros())
+                .setMaxMicros(summary.maxMicros()));
+        }
+        if (request.getReset()) {
+            rpcPhaseMetrics.reset();
+        }
+
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * 앱 내부 JFR 모니터 집계 조회 (모니터가 꺼져 있으면 enabled=false)
+     */
+    @Override
+    public void getFlightRecorderStats(GetFlightRecorderStatsRequest request,
+                                       StreamObserver<GetFlightRecorderStatsResponse> responseObserver) {
+        log.debug("gRPC GetFlightRecorderStats request");
+
+        GetFlightRecorderStatsResponse.Builder builder = GetFlightRecorderStatsResponse.newBuilder();
+        FlightRecorderMonitor monitor = flightRecorderMonitor.getIfAvailable();
+        if (monitor != null) {
+            builder.setEnabled(true).setWindowSeconds(monitor.getWindowSeconds());
+            for (FlightRecorderMonitor.Aggregate aggregate : monitor.aggregates()) {
+                builder.addAggregates(FlightRecorderAggregate.newBuilder()
+                    .setType(aggregate.type())
+                    .setKey(aggregate.key())
+                    .setCount(aggregate.count())
+                    .setTotalMicros(aggregate.totalNanos() / 1_000)
+                    .setMaxMicros(aggregate.maxNanos() / 1_000)
+                    .setErrorCount(aggregate.errors()));
+            }
+        }
+
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * 비밀번호 해시 풀 처리량/대기열 조회 (reset 이면 조회 후 초기화)
+     */
+    @Override
+    public void getPasswordHashStats(GetPasswordHashStatsRequest request,
+                                     StreamObserver<GetPasswordHashStatsResponse> responseObserver) {
+        log.debug("gRPC GetPasswordHashStats request: reset={}", request.getReset());
+
+        UserPasswordHasher.Stats stats = userPasswordHasher.stats();
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - stats.since());
+        if (request.getReset()) {
+            userPasswordHasher.resetStats();
+        }
+
+        responseObserver.onNext(GetPasswordHashStatsResponse.newBuilder()
+            .setHashedCount(stats.hashedCount())
+            .setRejectedCount(stats.rejectedCount())
+            .setTotalHashMicros(stats.totalHashMicros())
+            .setHashesPerSecond(stats.hashedCount() * 1_000.0 / elapsedMillis)
+            .setQueueDepth(stats.queueDepth())
+            .setMaxQueueDepth(stats.maxQueueDepth())
+            .setActiveLanes(stats.activeLanes())
+            .setThreads(stats.threads())
+            .setSince(stats.since())
+            .build());
+        responseObserver.onCompleted();
+    }
+
+    private static LoadUsersProgress toProgress(UserBulkLoad load) {
+        return LoadUsersProgress.newBuilder()
+            .setTotalBytes(load.getTotalBytes())
+            .setProcessedBytes(load.getProcessedBytes())
+            .setParsedRows(load.getParsedRows())
+            .setInsertedRows(load.getInsertedRows())
+            .setRejectedRows(load.getRejectedRows())
+            .addAllSampleErrors(load.getSampleErrors())
+            .setDone(load.isDone())
+            .setElapsedMillis(load.getElapsedMillis())
+            .build();
+    }
+
+    private static void onError(Throwable error, StreamObserver<?> responseObserver) {
+        if (UserGrpcStatus.isExpected(error)) {
+            log.warn("gRPC LoadUsersFromFile rejected: {}", UserGrpcStatus.unwrap(error).getMessage());
+        } else {
+            log.error("gRPC LoadUsersFromFile error", error);
+        }
+        responseObserver.onError(UserGrpcStatus.toStatusException(error));
+    }
+}
@@ -1,15 +1,41 @@
 package com.study.grpc.user.grpc;
 
+import com.study.grpc.common.idempotency.IdempotencyKeyInterceptor;
+import com.study.grpc.common.idempotency.IdempotencyStore;
+import com.study.grpc.common.jfr.StreamStallEvent;
+import com.study.grpc.common.logging.LogRateLimiter;
+import com.study.grpc.common.timing.RpcPhase;
+import com.study.grpc.common.timing.RpcTiming;
 import com.study.grpc.proto.*;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
+import com.study.grpc.user.domain.UserStatus;
+import com.study.grpc.user.service.UserPasswordHasher;
 import com.study.grpc.user.service.UserService;
+import com.study.grpc.user.service.UserStatsCounter;
+import com.study.grpc.user.service.UserUpdateCoalescer;
+import io.grpc.Context;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
 
-import java.time.Instant;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 /**
  * User gRPC Service
@@ -22,43 +48,75 @@ import java.util.List;
 public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
 
     private final UserService userService;
+    private final IdempotencyStore idempotencyStore;
+    private final UserUpdateCoalescer updateCoalescer;
+    private final UserStatsCounter userStatsCounter;
+    private final SyncAckBatcher syncAckBatcher;
+    private final UserPasswordHasher userPasswordHasher;
+
+    @Value("${user.delta-sync.settle-window:1s}")
+    private Duration deltaSyncSettleWindow;
+
+    @Value("${user.users.stream-delay:100ms}")
+    private Duration usersStreamDelay;
+
+    private static final int DEFAULT_EXPORT_BLOCK_SIZE = 10_000;
+    private static final int MAX_EXPORT_BLOCK_SIZE = 50_000;
+
+    private final LogRateLimiter expectedErrorLog = new LogRateLimiter(10, Duration.ofSeconds(1));
 
     @Override
     public void createUser(CreateUserRequest request, StreamObserver<CreateUserResponse> responseObserver) {
         log.info("gRPC CreateUser request: email={}", request.getEmail());
 
         try {
-            // DTO 변환
-            com.study.grpc.user.dto.UserCreateRequest createRequest =
-                com.study.grpc.user.dto.UserCreateRequest.builder()
-                    .email(request.getEmail())
-                    .password("TempPassword123!")  // 임시 비밀번호
-                    .name(request.getName())
-                    .phoneNumber(request.getPhoneNumber())
-                    .build();
-
-            // 비즈니스 로직 호출
-            com.study.grpc.user.dto.UserResponse userResponse = userService.createUser(createRequest);
-
-            // gRPC 응답 변환
-            CreateUserResponse response = CreateUserResponse.newBuilder()
-                .setId(userResponse.getId())
-                .setEmail(userResponse.getEmail())
-                .setName(userResponse.getName())
-                .setPhoneNumber(userResponse.getPhoneNumber() != null ? userResponse.getPhoneNumber() : "")
-                .setStatus(userResponse.getStatus().name())
-                .setCreatedAt(userResponse.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                .setUpdatedAt(userResponse.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                .build();
+            String idempotencyKey = IdempotencyKeyInterceptor.resolve(request.getIdempotencyKey());
+
+            // 키를 헤더/필드 중 어디로 보냈는지와 무관하게 요청 내용만 비교
+            CreateUserRequest fingerprint = request.toBuilder().clearIdempotencyKey().build();
+
+            // 같은 멱등 키로 재시도된 요청은 최초 실행 결과를 그대로 반환
+            // 비밀번호 해시는 전용 풀에서 계산하고, 저장과 응답은 해시가 끝난 뒤 이어서 처리 (핸들러 스레드 반환)
+            idempotencyStore.<CreateUserResponse>executeAsync("CreateUser", idempotencyKey, fingerprint, () -> {
+                // DTO 변환
+                com.study.grpc.user.dto.UserCreateRequest createRequest =
+                    com.study.grpc.user.dto.UserCreateRequest.builder()
+                        .email(request.getEmail())
+                        .password("TempPassword123!")  // 임시 비밀번호
+                        .name(request.getName())
+                        .phoneNumber(request.getPhoneNumber())
+                        .build();
 
-            responseObserver.onNext(response);
-            responseObserver.onCompleted();
+                return userPasswordHasher.hash(createRequest.getPassword())
+                    .thenApplyAsync(passwordHash -> {
+                        // 비즈니스 로직 호출
+                        com.study.grpc.user.dto.UserResponse userResponse =
+                            userService.createUser(createRequest, passwordHash);
+
+                        // gRPC 응답 변환
+                        return CreateUserResponse.newBuilder()
+                            .setId(userResponse.getId())
+                            .setEmail(userResponse.getEmail())
+                            .setName(userResponse.getName())
+                            .setPhoneNumber(userResponse.getPhoneNumber() != null ? userResponse.getPhoneNumber() : "")
+                            .setStatus(userResponse.getStatus().name())
+                            .setCreatedAt(userResponse.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
+                            .setUpdatedAt(userResponse.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
+                            .build();
+                    }, inCallContext());
+            }).whenComplete((response, error) -> {
+                if (error != null) {
+                    onError("CreateUser", error, responseObserver);
+                    return;
+                }
+                responseObserver.onNext(response);
+                responseObserver.onCompleted();
 
-            log.info("gRPC CreateUser success: id={}", userResponse.getId());
+                log.info("gRPC CreateUser success: id={}", response.getId());
+            });
 
         } catch (Exception e) {
-            log.error("gRPC CreateUser error", e);
-            responseObserver.onError(e);
+            onError("CreateUser", e, responseObserver);
         }
     }
 
@@ -67,18 +125,25 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
         log.info("gRPC GetUser request: id={}", request.getId());
 
         try {
+            // 이미 가진 버전과 같으면 엔티티를 읽지 않고 not_modified 만 응답
+            if (request.hasIfVersion()) {
+                long currentVersion = userService.getUserVersion(request.getId());
+                if (currentVersion == request.getIfVersion()) {
+                    responseObserver.onNext(notModified(request.getId(), currentVersion));
+                    responseObserver.onCompleted();
+
+                    log.info("gRPC GetUser not modified: id={}, version={}", request.getId(), currentVersion);
+                    return;
+                }
+            }
+
+            // FieldMask 에 지정된 컬럼만 조회하고 해당 필드만 응답에 채움
+            Set<UserField> fields = UserField.fromPaths(request.getFieldMask().getPathsList());
+
             com.study.grpc.user.dto.UserResponse userResponse =
-                userService.getUserById(request.getId());
-
-            GetUserResponse response = GetUserResponse.newBuilder()
-                .setId(userResponse.getId())
-                .setEmail(userResponse.getEmail())
-                .setName(userResponse.getName())
-                .setPhoneNumber(userResponse.getPhoneNumber() != null ? userResponse.getPhoneNumber() : "")
-                .setStatus(userResponse.getStatus().name())
-                .setCreatedAt(userResponse.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                .setUpdatedAt(userResponse.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                .build();
+                userService.getUserById(request.getId(), fields);
+
+            GetUserResponse response = toGetUserResponse(userResponse, fields);
 
             responseObserver.onNext(response);
             responseObserver.onCompleted();
@@ -86,47 +151,97 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
             log.info("gRPC GetUser success: id={}", request.getId());
 
         } catch (Exception e) {
-            log.error("gRPC GetUser error", e);
-            responseObserver.onError(e);
+            onError("GetUser", e, responseObserver);
+        }
+    }
+
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<BatchGetUsersResponse> responseObserver) {
+        log.info("gRPC BatchGetUsers request: count={}", request.getUsersCount());
+
+        try {
+            Set<UserField> fields = UserField.fromPaths(request.getFieldMask().getPathsList());
+
+            List<Long> ids = new ArrayList<>(request.getUsersCount());
+            for (UserVersionCheck check : request.getUsersList()) {
+                ids.add(check.getId());
+            }
+
+            // 버전만 먼저 확인하고, 바뀐 회원만 요청 필드로 조회
+            Map<Long, Long> versions = userService.getUserVersions(ids);
+            List<Long> changedIds = new ArrayList<>();
+            for (UserVersionCheck check : request.getUsersList()) {
+                Long currentVersion = versions.get(check.getId());
+                if (currentVersion != null
+                        && !(check.hasIfVersion() && currentVersion == check.getIfVersion())) {
+                    changedIds.add(check.getId());
+                }
+            }
+
+            // 응답을 요청 순서로 맞추기 위해 ID 는 항상 함께 조회
+            Set<UserField> fetchFields = EnumSet.copyOf(fields);
+            fetchFields.add(UserField.ID);
+            Map<Long, com.study.grpc.user.dto.UserResponse> changedUsers = new HashMap<>();
+            for (com.study.grpc.user.dto.UserResponse user : userService.getUsersByIds(changedIds, fetchFields)) {
+                changedUsers.put(user.getId(), user);
+            }
+
+            BatchGetUsersResponse.Builder builder = BatchGetUsersResponse.newBuilder();
+            int notModifiedCount = 0;
+            for (UserVersionCheck check : request.getUsersList()) {
+                Long currentVersion = versions.get(check.getId());
+                com.study.grpc.user.dto.UserResponse user = changedUsers.get(check.getId());
+                if (user != null) {
+                    builder.addUsers(toGetUserResponse(user, fields));
+                } else if (currentVersion != null) {
+                    builder.addUsers(notModified(check.getId(), currentVersion));
+                    notModifiedCount++;
+                }
+            }
+
+            responseObserver.onNext(builder.build());
+            responseObserver.onCompleted();
+
+            log.info("gRPC BatchGetUsers success: returned={}, notModified={}",
+                builder.getUsersCount(), notModifiedCount);
+
+        } catch (Exception e) {
+            onError("BatchGetUsers", e, responseObserver);
         }
     }
 
     @Override
     public void getUsers(GetUsersRequest request, StreamObserver<GetUsersResponse> responseObserver) {
-        log.info("gRPC GetUsers request: page={}, size={}", request.getPage(), request.getSize());
+        log.info("gRPC GetUsers request: page={}, size={}, status={}, sort={}",
+            request.getPage(), request.getSize(), request.getStatus(), request.getSort());
 
         try {
-            List<com.study.grpc.user.dto.UserResponse> users = userService.getAllUsers();
+            // 페이징/필터/정렬은 DB 인덱스로 처리하고 해당 페이지만 조회
+            UserStatus status = request.getStatus().isBlank()
+                ? null : UserStatus.valueOf(request.getStatus().toUpperCase());
+            UserSortOrder sort = request.getSort() == UserSort.UNRECOGNIZED
+                ? UserSortOrder.ID_ASC : UserSortOrder.valueOf(request.getSort().name());
+
+            Set<UserField> fields = UserField.fromPaths(request.getFieldMask().getPathsList());
 
-            // 페이징 처리
             int page = request.getPage();
             int size = request.getSize() > 0 ? request.getSize() : 10;
-            int start = page * size;
-            int end = Math.min(start + size, users.size());
-
-            if (start < users.size()) {
-                for (int i = start; i < end; i++) {
-                    com.study.grpc.user.dto.UserResponse user = users.get(i);
-
-                    GetUsersResponse response = GetUsersResponse.newBuilder()
-                        .setId(user.getId())
-                        .setEmail(user.getEmail())
-                        .setName(user.getName())
-                        .setPhoneNumber(user.getPhoneNumber() != null ? user.getPhoneNumber() : "")
-                        .setStatus(user.getStatus().name())
-                        .setCreatedAt(user.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                        .setUpdatedAt(user.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC))
-                        .build();
 
-                    responseObserver.onNext(response);
-                    log.info("Sent user: id={}, email={}", user.getId(), user.getEmail());
+            // FieldMask 에 지정된 컬럼만 조회 (projection)
+            List<com.study.grpc.user.dto.UserResponse> users = userService.getUsers(status, sort, page, size, fields);
 
-                    try {
-                        Thread.sleep(100); // 스트리밍 효과
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+            for (com.study.grpc.user.dto.UserResponse user : users) {
+                responseObserver.onNext(toGetUsersResponse(user, fields));
+                log.info("Sent user: id={}, email={}", user.getId(), user.getEmail());
+
+                if (usersStreamDelay.isZero()) {
+                    continue;
+                }
+                try {
+                    Thread.sleep(usersStreamDelay.toMillis()); // 스트리밍 효과
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
             }
 
@@ -134,41 +249,52 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
             log.info("gRPC GetUsers completed");
 
         } catch (Exception e) {
-            log.error("gRPC GetUsers error", e);
-            responseObserver.onError(e);
+            onError("GetUsers", e, responseObserver);
         }
     }
 
+    /**
+     * 사용자 일괄 생성
+     *
+     * 스트림마다 비밀번호 해시 레인을 하나 쓰고, 해시가 끝나지 않은 요청이 lane-window 건을 넘지 않도록
+     * 요청을 1건씩 더 받는다 (gRPC 흐름 제어). 생성된 ID 는 요청 순서대로 응답한다.
+     */
     @Override
     public StreamObserver<CreateUserRequest> batchCreateUsers(
             StreamObserver<BatchCreateUsersResponse> responseObserver) {
 
+        ServerCallStreamObserver<BatchCreateUsersResponse> serverObserver =
+            (ServerCallStreamObserver<BatchCreateUsersResponse>) responseObserver;
+        serverObserver.disableAutoRequest();
+        serverObserver.request(userPasswordHasher.getLaneWindow());
+        UserPasswordHasher.Lane hashLane = userPasswordHasher.newLane("BatchCreateUsers");
+
         return new StreamObserver<>() {
-            private final List<Long> createdIds = new ArrayList<>();
-            private int count = 0;
+            private final List<CompletableFuture<Long>> createdIds = new ArrayList<>();
 
             @Override
             public void onNext(CreateUserRequest request) {
                 log.info("Received batch create request: email={}", request.getEmail());
 
-                try {
-                    com.study.grpc.user.dto.UserCreateRequest createRequest =
-                        com.study.grpc.user.dto.UserCreateRequest.builder()
-                            .email(request.getEmail())
-                            .password("TempPassword123!")
-                            .name(request.getName())
-                            .phoneNumber(request.getPhoneNumber())
-                            .build();
-
-                    com.study.grpc.user.dto.UserResponse userResponse =
-                        userService.createUser(createRequest);
-
-                    createdIds.add(userResponse.getId());
-                    count++;
+                com.study.grpc.user.dto.UserCreateRequest createRequest =
+                    com.study.grpc.user.dto.UserCreateRequest.builder()
+                        .email(request.getEmail())
+                        .password("TempPassword123!")
+                        .name(request.getName())
+                        .phoneNumber(request.getPhoneNumber())
+                        .build();
 
-                } catch (Exception e) {
-                    log.error("Error creating user in batch", e);
-                }
+                CompletableFuture<Long> created = hashLane.hash(createRequest.getPassword())
+                    .thenApplyAsync(passwordHash ->
+                        userService.createUser(createRequest, passwordHash).getId(), inCallContext())
+                    .handle((id, error) -> {
+                        if (error != null) {
+                            logError("BatchCreateUsers", error);
+                        }
+                        serverObserver.request(1);
+                        return id;
+                    });
+                createdIds.add(created);
             }
 
             @Override
@@ -178,94 +304,118 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
 
             @Override
             public void onCompleted() {
-                BatchCreateUsersResponse response = BatchCreateUsersResponse.newBuilder()
-                    .setCreatedCount(count)
-                    .addAllUserIds(createdIds)
-                    .build();
+                CompletableFuture.allOf(createdIds.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> {
+                        List<Long> ids = createdIds.stream()
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .toList();
+
+                        BatchCreateUsersResponse response = BatchCreateUsersResponse.newBuilder()
+                            .setCreatedCount(ids.size())
+                            .addAllUserIds(ids)
+                            .build();
 
-                responseObserver.onNext(response);
-                responseObserver.onCompleted();
+                        responseObserver.onNext(response);
+                        responseObserver.onCompleted();
 
-                log.info("Batch create users completed: count={}", count);
+                        log.info("Batch create users completed: count={}", ids.size());
+                    });
             }
         };
     }
 
+    /**
+     * 사용자 실시간 동기화
+     *
+     * 응답에 요청 순번이 없으므로 처리가 먼저 끝난 요청이 있어도 응답은 요청 순서대로 보낸다.
+     */
     @Override
     public StreamObserver<SyncUsersRequest> syncUsers(
             StreamObserver<SyncUsersResponse> responseObserver) {
 
+        return syncRequests((ServerCallStreamObserver<?>) responseObserver, true,
+            (sequence, ack) -> {
+                SyncUsersResponse response = ack.toResponse();
+                // write-behind 모드에서는 응답이 flush 스레드에서 나가므로 전송을 직렬화
+                synchronized (responseObserver) {
+                    responseObserver.onNext(response);
+                }
+                log.info("Sent sync response: {}", response.getMessage());
+            },
+            () -> {
+                synchronized (responseObserver) {
+                    responseObserver.onCompleted();
+                }
+            });
+    }
+
+    /**
+     * 사용자 실시간 동기화 (응답 묶음 모드)
+     *
+     * 요청 처리는 SyncUsers 와 같고, 결과는 SyncAckBatcher 가 크기/시간 기준으로 묶어서 보낸다.
+     * 응답에 요청 순번이 실려 있으므로 처리가 끝난 순서대로 보낸다.
+     */
+    @Override
+    public StreamObserver<SyncUsersRequest> syncUsersBatched(
+            StreamObserver<SyncUsersBatchResponse> responseObserver) {
+
+        SyncAckBatcher.Acks acks = syncAckBatcher.open(responseObserver);
+        return syncRequests((ServerCallStreamObserver<?>) responseObserver, false, acks::add, acks::complete);
+    }
+
+    /**
+     * 동기화 요청 스트림 처리 (두 응답 모드 공통)
+     *
+     * BatchCreateUsers 와 같이 응답을 보내지 않은 요청이 lane-window 건을 넘지 않도록
+     * 요청을 1건씩 더 받는다 (gRPC 흐름 제어).
+     *
+     * @param serverObserver 요청 수신량을 조절할 응답 스트림
+     * @param ordered        true 면 응답을 요청 순서대로 보냄 (앞 요청의 응답 전송이 끝난 뒤 전송)
+     * @param ackSink        요청 순번과 처리 결과를 받아 응답으로 보낸다 (여러 스레드에서 호출될 수 있음)
+     * @param completion     마지막 결과를 보낸 뒤 응답 스트림 종료
+     */
+    private StreamObserver<SyncUsersRequest> syncRequests(ServerCallStreamObserver<?> serverObserver, boolean ordered,
+                                                          BiConsumer<Long, SyncAck> ackSink, Runnable completion) {
+        serverObserver.disableAutoRequest();
+        serverObserver.request(userPasswordHasher.getLaneWindow());
+        UserPasswordHasher.Lane hashLane = userPasswordHasher.newLane("SyncUsers");
+
         return new StreamObserver<>() {
+            private final Set<CompletableFuture<Void>> pendingAcks = ConcurrentHashMap.newKeySet();
+            private CompletableFuture<Void> lastSent = CompletableFuture.completedFuture(null);
+            private long sequence;
+
             @Override
             public void onNext(SyncUsersRequest request) {
+                long requestSequence = ++sequence;
                 log.info("Received sync request: action={}, userId={}", request.getAction(), request.getUserId());
 
-                try {
-                    String status;
-                    String message;
-
-                    switch (request.getAction().toUpperCase()) {
-                        case "CREATE":
-                            // 사용자 생성
-                            com.study.grpc.user.dto.UserCreateRequest createRequest =
-                                com.study.grpc.user.dto.UserCreateRequest.builder()
-                                    .email(request.getEmail())
-                                    .password("TempPassword123!")
-                                    .name(request.getName())
-                                    .phoneNumber(request.getPhoneNumber())
-                                    .build();
-
-                            com.study.grpc.user.dto.UserResponse createdUser = userService.createUser(createRequest);
-                            status = "SUCCESS";
-                            message = "User created: id=" + createdUser.getId();
-                            break;
-
-                        case "UPDATE":
-                            // 사용자 수정
-                            com.study.grpc.user.dto.UserUpdateRequest updateRequest =
-                                com.study.grpc.user.dto.UserUpdateRequest.builder()
-                                    .name(request.getName())
-                                    .phoneNumber(request.getPhoneNumber())
-                                    .build();
-
-                            com.study.grpc.user.dto.UserResponse updatedUser =
-                                userService.updateUser(request.getUserId(), updateRequest);
-                            status = "SUCCESS";
-                            message = "User updated: id=" + updatedUser.getId();
-                            break;
-
-                        case "DELETE":
-                            // 사용자 삭제
-                            userService.deleteUser(request.getUserId());
-                            status = "SUCCESS";
-                            message = "User deleted: id=" + request.getUserId();
-                            break;
-
-                        default:
-                            status = "ERROR";
-                            message = "Unknown action: " + request.getAction();
-                    }
-
-                    SyncUsersResponse response = SyncUsersResponse.newBuilder()
-                        .setStatus(status)
-                        .setMessage(message)
-                        .setTimestamp(Instant.now().toEpochMilli())
-                        .build();
-
-                    responseObserver.onNext(response);
-                    log.info("Sent sync response: {}", message);
+                // 재연결 후 재전송된 요청은 최초 처리 결과를 그대로 반환
+                CompletableFuture<SyncAck> ack = idempotencyStore.executeAsync(
+                    "SyncUsers", request.getIdempotencyKey(), request, () -> processSyncAction(request, hashLane));
 
-                } catch (Exception e) {
-                    log.error("Error processing sync", e);
+                CompletableFuture<SyncAck> result = ack.handle((value, error) -> {
+                    if (error == null) {
+                        return value;
+                    }
+                    Throwable cause = UserGrpcStatus.unwrap(error);
+                    logError("SyncUsers", cause);
+                    return SyncAck.failed(cause);
+                });
+                if (ordered) {
+                    result = result.thenCombine(lastSent, (value, ignored) -> value);
+                }
 
-                    SyncUsersResponse errorResponse = SyncUsersResponse.newBuilder()
-                        .setStatus("ERROR")
-                        .setMessage(e.getMessage())
-                        .setTimestamp(Instant.now().toEpochMilli())
-                        .build();
+                // 응답 전송까지 끝난 시점을 추적해 onCompleted 가 마지막 응답보다 먼저 나가지 않도록 함
+                CompletableFuture<Void> sent = result.thenAccept(value -> ackSink.accept(requestSequence, value));
+                lastSent = sent.exceptionally(error -> null);
 
-                    responseObserver.onNext(errorResponse);
-                }
+                pendingAcks.add(sent);
+                sent.whenComplete((ignored, error) -> {
+                    pendingAcks.remove(sent);
+                    serverObserver.request(1);
+                });
             }
 
             @Override
@@ -275,10 +425,453 @@ public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
 
             @Override
             public void onCompleted() {
-                responseObserver.onCompleted();
-                log.info("Sync users completed");
+                // 버퍼에 남은 수정의 응답까지 보낸 뒤 스트림 종료
+                if (updateCoalescer.isEnabled()) {
+                    updateCoalescer.flush();
+                }
+
+                CompletableFuture.allOf(pendingAcks.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> {
+                        completion.run();
+                        log.info("Sync users completed: requests={}", sequence);
+                    });
             }
         };
     }
-}
 
+    @Override
+    public void getUserStats(GetUserStatsRequest request, StreamObserver<GetUserStatsResponse> responseObserver) {
+        log.debug("gRPC GetUserStats request");
+
+        try {
+            // DB 를 읽지 않고 메모리 카운터에서 바로 응답
+            GetUserStatsResponse.Builder builder = GetUserStatsResponse.newBuilder()
+                .setTotalCount(userStatsCounter.total())
+                .setReconciledAt(userStatsCounter.getReconciledAt());
+
+            for (UserStatus status : UserStatus.values()) {
+                builder.putStatusCounts(status.name(), userStatsCounter.countOf(status));
+            }
+
+            responseObserver.onNext(builder.build());
+            responseObserver.onCompleted();
+
+        } catch (Exception e) {
+            onError("GetUserStats", e, responseObserver);
+        }
+    }
+
+    /**
+     * 회원 상태 일괄 변경
+     *
+     * ID 목록 또는 조건(현재 상태, 마지막 변경 시각)으로 대상을 정하고,
+     * 엔티티를 읽지 않는 청크 단위 UPDATE 로 바꾸며 청크마다 커밋한다 (실패 시 앞 청크의 변경은 남음).
+     */
+    @Override
+    public void bulkUpdateUserStatus(BulkUpdateUserStatusRequest request,
+                                     StreamObserver<BulkUpdateUserStatusResponse> responseObserver) {
+        log.info("gRPC BulkUpdateUserStatus request: target={}, ids={}, targetStatus={}",
+            request.getTargetCase(), request.getIds().getIdsCount(), request.getTargetStatus());
+
+        try {
+            UserStatus targetStatus = UserStatus.valueOf(request.getTargetStatus().toUpperCase());
+
+            // write-behind 버퍼에 남은 수정을 먼저 반영해 순서 유지
+            if (updateCoalescer.isEnabled()) {
+                updateCoalescer.flush();
+            }
+
+            com.study.grpc.user.dto.UserBulkStatusUpdateResult result = switch (request.getTargetCase()) {
+                case IDS -> userService.updateUserStatuses(request.getIds().getIdsList(), targetStatus);
+                case FILTER -> {
+                    UserStatusFilter filter = request.getFilter();
+                    if (filter.getStatus().isBlank()) {
+                        throw new IllegalArgumentException("filter.status 는 필수입니다");
+                    }
+                    LocalDateTime updatedBefore = filter.getUpdatedBefore() > 0
+                        ? LocalDateTime.ofEpochSecond(filter.getUpdatedBefore(), 0, ZoneOffset.UTC)
+                        : null;
+                    yield userService.updateUserStatuses(
+                        UserStatus.valueOf(filter.getStatus().toUpperCase()), updatedBefore, targetStatus);
+                }
+                case TARGET_NOT_SET -> throw new IllegalArgumentException("ids 또는 filter 가 필요합니다");
+            };
+
+            BulkUpdateUserStatusResponse.Builder builder = BulkUpdateUserStatusResponse.newBuilder()
+                .setMatchedCount(result.getMatchedCount())
+                .setUpdatedCount(result.getUpdatedCount());
+            result.getPreviousStatusCounts().forEach((status, count) ->
+                builder.putPreviousStatusCounts(status.name(), count));
+
+            responseObserver.onNext(builder.build());
+            responseObserver.onCompleted();
+
+            log.info("gRPC BulkUpdateUserStatus completed: matched={}, updated={}",
+                result.getMatchedCount(), result.getUpdatedCount());
+
+        } catch (Exception e) {
+            onError("BulkUpdateUserStatus", e, responseObserver);
+        }
+    }
+
+    /**
+     * 이미 사용 중인 이메일 조회
+     *
+     * 샤드를 재배치하면 이메일의 소유 샤드가 바뀌므로, 클라이언트는 생성 전에 이전 소유 샤드에 이 RPC 로 중복을 확인한다.
+     */
+    @Override
+    public void findTakenEmails(FindTakenEmailsRequest request,
+                                StreamObserver<FindTakenEmailsResponse> responseObserver) {
+        log.info("gRPC FindTakenEmails request: count={}", request.getEmailsCount());
+
+        try {
+            List<String> taken = userService.findTakenEmails(request.getEmailsList());
+
+            responseObserver.onNext(FindTakenEmailsResponse.newBuilder().addAllEmails(taken).build());
+            responseObserver.onCompleted();
+
+            log.info("gRPC FindTakenEmails success: taken={}", taken.size());
+
+        } catch (Exception e) {
+            onError("FindTakenEmails", e, responseObserver);
+        }
+    }
+
+    @Override
+    public void getUsersChangedSince(GetUsersChangedSinceRequest request,
+                                     StreamObserver<GetUsersChangedSinceResponse> responseObserver) {
+        log.info("gRPC GetUsersChangedSince request: updatedAfter={}, cursor={}, limit={}",
+            request.getUpdatedAfter(), request.getCursor(), request.getLimit());
+
+        try {
+            int limit = request.getLimit() > 0 ? request.getLimit() : 1000;
+            LocalDateTime updatedAfter = fromEpochMicros(request.getUpdatedAfter());
+            // 방금 변경되어 아직 커밋되지 않았을 수 있는 구간은 다음 요청으로 미룸
+            LocalDateTime settledBefore = LocalDateTime.now().minus(deltaSyncSettleWindow);
+
+            List<com.study.grpc.user.dto.UserResponse> users =
+                userService.getUsersChangedSince(updatedAfter, request.getCursor(), settledBefore, limit);
+
+            long watermarkUpdatedAfter = request.getUpdatedAfter();
+            long watermarkCursor = request.getCursor();
+
+            for (com.study.grpc.user.dto.UserResponse user : users) {
+                responseObserver.onNext(GetUsersChangedSinceResponse.newBuilder()
+                    .setUser(toGetUsersResponse(user, UserField.ALL))
+                    .build());
+
+                watermarkUpdatedAfter = toEpochMicros(user.getUpdatedAt());
+                watermarkCursor = user.getId();
+            }
+
+            responseObserver.onNext(GetUsersChangedSinceResponse.newBuilder()
+                .setWatermark(ChangeWatermark.newBuilder()
+                    .setUpdatedAfter(watermarkUpdatedAfter)
+                    .setCursor(watermarkCursor)
+                    .setHasMore(users.size() == limit)
+                    .build())
+                .build());
+            responseObserver.onCompleted();
+
+            log.info("gRPC GetUsersChangedSince completed: count={}", users.size());
+
+        } catch (Exception e) {
+            onError("GetUsersChangedSince", e, responseObserver);
+        }
+    }
+
+    /**
+     * 전체 회원 내보내기
+     *
+     * ID keyset 으로 블록 크기만큼씩 읽어 블록마다 압축해 보낸다.
+     * 클라이언트가 받을 준비가 되었을 때(onReady)만 다음 블록을 읽으므로
+     * 서버 메모리는 전체 건수와 무관하게 블록 1개 분량으로 유지된다.
+     * 블록마다 짧은 읽기 트랜잭션을 쓰므로 긴 내보내기 동안 DB 커넥션을 붙잡지 않는다.
+     */
+    @Override
+    public void exportUsers(ExportUsersRequest request, StreamObserver<ExportUsersChunk> responseObserver) {
+        log.info("gRPC ExportUsers request: status={}, afterId={}, blockSize={}",
+            request.getStatus(), request.getAfterId(), request.getBlockSize());
+
+        try {
+            UserStatus status = request.getStatus().isBlank()
+                ? null : UserStatus.valueOf(request.getStatus().toUpperCase());
+            int blockSize = request.getBlockSize() > 0
+                ? Math.min(request.getBlockSize(), MAX_EXPORT_BLOCK_SIZE) : DEFAULT_EXPORT_BLOCK_SIZE;
+
+            UserExport export = new UserExport(status, request.getAfterId(), blockSize);
+            ServerCallStreamObserver<ExportUsersChunk> observer =
+                (ServerCallStreamObserver<ExportUsersChunk>) responseObserver;
+
+            observer.setOnCancelHandler(() -> {
+                export.finished = true;
+                export.endStall();
+                log.info("gRPC ExportUsers cancelled: blocks={}, users={}, lastId={}",
+                    export.blocks, export.users, export.afterId);
+            });
+            observer.setOnReadyHandler(() -> drainExport(export, observer));
+
+        } catch (Exception e) {
+            onError("ExportUsers", e, responseObserver);
+        }
+    }
+
+    /**
+     * 전송 버퍼에 여유가 있는 동안 다음 블록을 읽어 전송
+     */
+    private void drainExport(UserExport export, ServerCallStreamObserver<ExportUsersChunk> observer) {
+        export.endStall();
+        try {
+            while (!export.finished && observer.isReady()) {
+                List<com.study.grpc.user.dto.UserResponse> users =
+                    userService.getUsersAfterId(export.afterId, export.status, export.blockSize);
+
+                if (!users.isEmpty()) {
+                    List<GetUsersResponse> messages = new ArrayList<>(users.size());
+                    for (com.study.grpc.user.dto.UserResponse user : users) {
+                        messages.add(toGetUsersResponse(user, UserField.ALL));
+                    }
+                    ExportUsersChunk chunk = export.encoder.encode(messages);
+                    export.afterId = chunk.getLastId();
+                    export.blocks++;
+                    export.users += chunk.getUserCount();
+                    observer.onNext(chunk);
+                }
+
+                if (users.size() < export.blockSize) {
+                    export.finished = true;
+                    observer.onCompleted();
+                    log.info("gRPC ExportUsers completed: blocks={}, users={}, lastId={}",
+                        export.blocks, export.users, export.afterId);
+                }
+            }
+            // 전송 버퍼가 가득 차 멈춤 → 다음 onReady 까지를 정지 구간으로 기록
+            if (!export.finished) {
+                export.stall = StreamStallEvent.start("user.UserService/ExportUsers", export.blocks);
+            }
+        } catch (Exception e) {
+            export.finished = true;
+            onError("ExportUsers", e, observer);
+        }
+    }
+
+    /**
+     * 동기화 요청 1건 처리 (write-behind 모드 분기)
+     *
+     * write-behind 모드의 UPDATE 는 병합 버퍼로 보내고 커밋 후 응답한다.
+     * 기대 버전(if_version)이 있는 UPDATE 는 병합하면 버전 확인이 무의미해지므로 병합하지 않는다.
+     * 그 외 요청은 버퍼를 먼저 비워 같은 회원에 대한 순서를 유지한 뒤 즉시 처리한다.
+     * CREATE 는 스트림의 해시 레인에서 비밀번호를 해시한 뒤 저장한다.
+     */
+    private CompletableFuture<SyncAck> processSyncAction(SyncUsersRequest request, UserPasswordHasher.Lane hashLane) {
+        if (updateCoalescer.isEnabled()) {
+            if ("UPDATE".equalsIgnoreCase(request.getAction()) && !request.hasIfVersion()) {
+                com.study.grpc.user.dto.UserUpdateRequest updateRequest =
+                    com.study.grpc.user.dto.UserUpdateRequest.builder()
+                        .name(request.getName())
+                        .phoneNumber(request.getPhoneNumber())
+                        .build();
+
+                return updateCoalescer.submit(request.getUserId(), updateRequest)
+                    .thenApply(updatedUser -> SyncAck.updated(updatedUser.getId()));
+            }
+            updateCoalescer.flush();
+        }
+
+        // CREATE 는 비밀번호 해시가 끝난 뒤 저장
+        if ("CREATE".equalsIgnoreCase(request.getAction())) {
+            com.study.grpc.user.dto.UserCreateRequest createRequest =
+                com.study.grpc.user.dto.UserCreateRequest.builder()
+                    .email(request.getEmail())
+                    .password("TempPassword123!")
+                    .name(request.getName())
+                    .phoneNumber(request.getPhoneNumber())
+                    .build();
+
+            return hashLane.hash(createRequest.getPassword())
+                .thenApplyAsync(passwordHash ->
+                    SyncAck.created(userService.createUser(createRequest, passwordHash).getId()), inCallContext());
+        }
+
+        return CompletableFuture.completedFuture(applySyncAction(request));
+    }
+
+    /**
+     * 동기화 요청 1건 처리
+     */
+    private SyncAck applySyncAction(SyncUsersRequest request) {
+        switch (request.getAction().toUpperCase()) {
+            case "UPDATE":
+                // 사용자 수정
+                com.study.grpc.user.dto.UserUpdateRequest updateRequest =
+                    com.study.grpc.user.dto.UserUpdateRequest.builder()
+                        .name(request.getName())
+                        .phoneNumber(request.getPhoneNumber())
+                        .expectedVersion(request.hasIfVersion() ? request.getIfVersion() : null)
+                        .build();
+
+                com.study.grpc.user.dto.UserResponse updatedUser =
+                    userService.updateUser(request.getUserId(), updateRequest);
+                return SyncAck.updated(updatedUser.getId());
+
+            case "DELETE":
+                // 사용자 삭제
+                userService.deleteUser(request.getUserId());
+                return SyncAck.deleted(request.getUserId());
+
+            default:
+                return SyncAck.invalid("Unknown action: " + request.getAction());
+        }
+    }
+
+    /**
+     * 비밀번호 해시 뒤 이어지는 저장을 완료 스레드에서 현재 gRPC Context 로 실행
+     * (구간별 시간 측정 등 Context 값을 그대로 쓰도록)
+     */
+    private static Executor inCallContext() {
+        return Context.current().fixedContextExecutor(Runnable::run);
+    }
+
+    /**
+     * 오류 기록 후 gRPC 상태로 변환해 전달
+     */
+    private void onError(String rpc, Throwable error, StreamObserver<?> responseObserver) {
+        logError(rpc, error);
+        responseObserver.onError(UserGrpcStatus.toStatusException(error));
+    }
+
+    /**
+     * 오류 기록
+     *
+     * 요청 때문에 생긴 예상된 실패(미존재, 중복 등)는 스택 트레이스 없이 초당 건수를 제한해 기록한다.
+     */
+    private void logError(String rpc, Throwable error) {
+        if (!UserGrpcStatus.isExpected(error)) {
+            log.error("gRPC {} error", rpc, error);
+            return;
+        }
+        if (expectedErrorLog.tryAcquire()) {
+            log.warn("gRPC {} rejected: {} (suppressed={})",
+                rpc, UserGrpcStatus.unwrap(error).getMessage(), expectedErrorLog.drainSuppressed());
+        }
+    }
+
+    /**
+     * 회원 DTO 를 단건 응답 메시지로 변환 (fields 에 포함된 필드만 설정, MAPPING 구간으로 측정)
+     */
+    private GetUserResponse toGetUserResponse(com.study.grpc.user.dto.UserResponse user, Set<UserField> fields) {
+        long startedAt = System.nanoTime();
+        GetUserResponse.Builder builder = GetUserResponse.newBuilder();
+        if (fields.contains(UserField.ID)) {
+            builder.setId(user.getId());
+        }
+        if (fields.contains(UserField.EMAIL)) {
+            builder.setEmail(user.getEmail());
+        }
+        if (fields.contains(UserField.NAME)) {
+            builder.setName(user.getName());
+        }
+        if (fields.contains(UserField.PHONE_NUMBER) && user.getPhoneNumber() != null) {
+            builder.setPhoneNumber(user.getPhoneNumber());
+        }
+        if (fields.contains(UserField.STATUS)) {
+            builder.setStatus(user.getStatus().name());
+        }
+        if (fields.contains(UserField.CREATED_AT)) {
+            builder.setCreatedAt(user.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC));
+        }
+        if (fields.contains(UserField.UPDATED_AT)) {
+            builder.setUpdatedAt(user.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC));
+        }
+        if (fields.contains(UserField.VERSION)) {
+            builder.setVersion(user.getVersion());
+        }
+        GetUserResponse response = builder.build();
+        RpcTiming.record(RpcPhase.MAPPING, startedAt);
+        return response;
+    }
+
+    /**
+     * 변경 없음 응답 (id, version 만 설정)
+     */
+    private static GetUserResponse notModified(long id, long version) {
+        return GetUserResponse.newBuilder()
+            .setId(id)
+            .setVersion(version)
+            .setNotModified(true)
+            .build();
+    }
+
+    /**
+     * 회원 DTO 를 목록 응답 메시지로 변환 (fields 에 포함된 필드만 설정, MAPPING 구간으로 측정)
+     */
+    private GetUsersResponse toGetUsersResponse(com.study.grpc.user.dto.UserResponse user, Set<UserField> fields) {
+        long startedAt = System.nanoTime();
+        GetUsersResponse.Builder builder = GetUsersResponse.newBuilder();
+        if (fields.contains(UserField.ID)) {
+            builder.setId(user.getId());
+        }
+        if (fields.contains(UserField.EMAIL)) {
+            builder.setEmail(user.getEmail());
+        }
+        if (fields.contains(UserField.NAME)) {
+            builder.setName(user.getName());
+        }
+        if (fields.contains(UserField.PHONE_NUMBER) && user.getPhoneNumber() != null) {
+            builder.setPhoneNumber(user.getPhoneNumber());
+        }
+        if (fields.contains(UserField.STATUS)) {
+            builder.setStatus(user.getStatus().name());
+        }
+        if (fields.contains(UserField.CREATED_AT)) {
+            builder.setCreatedAt(user.getCreatedAt().toEpochSecond(java.time.ZoneOffset.UTC));
+        }
+        if (fields.contains(UserField.UPDATED_AT)) {
+            builder.setUpdatedAt(user.getUpdatedAt().toEpochSecond(java.time.ZoneOffset.UTC));
+        }
+        if (fields.contains(UserField.VERSION)) {
+            builder.setVersion(user.getVersion());
+        }
+        GetUsersResponse response = builder.build();
+        RpcTiming.record(RpcPhase.MAPPING, startedAt);
+        return response;
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * 진행 중인 내보내기 상태 (호출 콜백은 직렬화되어 실행된다)
+     */
+    private static final class UserExport {
+
+        private final UserStatus status;
+        private final int blockSize;
+        private final UserExportBlockEncoder encoder = new UserExportBlockEncoder();
+        private volatile boolean finished;
+        private long afterId;
+        private long blocks;
+        private long users;
+        private volatile StreamStallEvent stall;
+
+        private UserExport(UserStatus status, long afterId, int blockSize) {
+            this.status = status;
+            this.afterId = afterId;
+            this.blockSize = blockSize;
+        }
+
+        private void endStall() {
+            StreamStallEvent current = stall;
+            if (current != null) {
+                stall = null;
+                current.finish();
+            }
+        }
+    }
+}
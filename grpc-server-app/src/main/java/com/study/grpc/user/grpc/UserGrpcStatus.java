@@ -0,0 +1,75 @@
+package com.study.grpc.user.grpc;
+
+import com.study.grpc.user.exception.DuplicateEmailException;
+import com.study.grpc.user.exception.InvalidUserStatusException;
+import com.study.grpc.user.exception.UserDomainException;
+import com.study.grpc.user.exception.UserNotFoundException;
+import com.study.grpc.user.exception.UserVersionConflictException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예외 → gRPC 상태 변환
+ *
+ * 도메인 예외는 의미에 맞는 상태 코드와 메시지만 전달하고(cause 미포함),
+ * 그 외 예외는 INTERNAL 로 전달한다.
+ */
+final class UserGrpcStatus {
+
+    private UserGrpcStatus() {
+    }
+
+    static StatusRuntimeException toStatusException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        return toStatus(cause).asRuntimeException();
+    }
+
+    /**
+     * 호출자 요청 때문에 생긴 예상된 실패인지 (서버 오류가 아님, 과부하로 거절한 요청 포함)
+     */
+    static boolean isExpected(Throwable error) {
+        Throwable cause = unwrap(error);
+        return cause instanceof UserDomainException
+            || cause instanceof OptimisticLockingFailureException
+            || cause instanceof IllegalArgumentException
+            || cause instanceof RejectedExecutionException;
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Status toStatus(Throwable cause) {
+        if (cause instanceof UserNotFoundException) {
+            return Status.NOT_FOUND.withDescription(cause.getMessage());
+        }
+        if (cause instanceof DuplicateEmailException) {
+            return Status.ALREADY_EXISTS.withDescription(cause.getMessage());
+        }
+        if (cause instanceof InvalidUserStatusException) {
+            return Status.FAILED_PRECONDITION.withDescription(cause.getMessage());
+        }
+        if (cause instanceof UserVersionConflictException || cause instanceof OptimisticLockingFailureException) {
+            return Status.ABORTED.withDescription(cause.getMessage());
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(cause.getMessage());
+        }
+        if (cause instanceof RejectedExecutionException) {
+            // 비밀번호 해시 대기열 초과 등 과부하: 클라이언트가 잠시 뒤 재시도
+            return Status.RESOURCE_EXHAUSTED.withDescription(cause.getMessage());
+        }
+        return Status.INTERNAL.withDescription(cause.getMessage()).withCause(cause);
+    }
+}
@@ -0,0 +1,267 @@
+package com.study.grpc.user.repository;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
+import com.study.grpc.user.domain.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPA 기반 UserStore 구현 (기본 엔진)
+ *
+ * UserRepository(Spring Data JPA)에 그대로 위임한다.
+ * 필드를 골라 조회하는 projection 조회는 요청 컬럼만 SELECT 하는 Criteria 쿼리로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.storage", name = "engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaUserStore implements UserStore {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public User save(User user) {
+        return userRepository.save(user);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<Long> ids) {
+        return userRepository.findAllById(ids);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByEmailIgnoringCase(String email) {
+        return userRepository.existsByEmailIgnoringCase(email);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return userRepository.findAll();
+    }
+
+    @Override
+    public List<User> findByStatus(UserStatus status) {
+        return userRepository.findByStatus(status);
+    }
+
+    @Override
+    public Optional<User> findProjectedById(Long id, Set<UserField> fields) {
+        return selectProjected(fields, null, List.of(id), UserSortOrder.ID_ASC, 0, 1).stream().findFirst();
+    }
+
+    @Override
+    public List<User> findProjectedAllById(Collection<Long> ids, Set<UserField> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return selectProjected(fields, null, ids, UserSortOrder.ID_ASC, 0, ids.size());
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return userRepository.findVersionById(id);
+    }
+
+    @Override
+    public Map<Long, Long> findVersionsById(Collection<Long> ids) {
+        Map<Long, Long> versions = new HashMap<>();
+        if (ids.isEmpty()) {
+            return versions;
+        }
+        for (Object[] row : userRepository.findVersionsByIdIn(ids)) {
+            versions.put((Long) row[0], (Long) row[1]);
+        }
+        return versions;
+    }
+
+    @Override
+    public void flush() {
+        userRepository.flush();
+    }
+
+    @Override
+    public List<User> findProjectedPage(UserStatus status, UserSortOrder sort, int page, int size, Set<UserField> fields) {
+        return selectProjected(fields, status, null, sort, page * size, size);
+    }
+
+    @Override
+    public List<User> findChangedSince(LocalDateTime updatedAfter, long cursor, LocalDateTime settledBefore, int limit) {
+        return userRepository.findChangedSince(updatedAfter, cursor, settledBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int insertAll(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+            users, users.size(), (ps, user) -> {
+                ps.setString(1, user.getEmail());
+                ps.setString(2, user.getPassword());
+                ps.setString(3, user.getName());
+                ps.setString(4, user.getPhoneNumber());
+                ps.setString(5, user.getStatus().name());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            });
+        return users.size();
+    }
+
+    @Override
+    public List<User> findAfterId(long afterId, UserStatus status, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return status == null
+            ? userRepository.findAfterId(afterId, page)
+            : userRepository.findAfterIdAndStatus(afterId, status, page);
+    }
+
+    @Override
+    public List<Long> findIdsAfterId(long afterId, UserStatus status, LocalDateTime updatedBefore, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return updatedBefore == null
+            ? userRepository.findIdsAfterIdAndStatus(afterId, status, page)
+            : userRepository.findIdsAfterIdAndStatusAndUpdatedAtBefore(afterId, status, updatedBefore, page);
+    }
+
+    @Override
+    public Map<UserStatus, Long> updateStatusByIdIn(Collection<Long> ids, UserStatus status) {
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        if (ids.isEmpty()) {
+            return counts;
+        }
+        // 대상 행을 ID 순서로 먼저 잠가 집계한 상태가 UPDATE 시점까지 바뀌지 않게 함
+        for (String previous : userRepository.lockStatusesByIdIn(ids)) {
+            counts.merge(UserStatus.valueOf(previous), 1L, Long::sum);
+        }
+        // 변경 시각은 잠금을 얻은 뒤에 정해야 잠금 대기 중 커밋된 변경보다 앞선 시각이 찍히지 않음
+        userRepository.updateStatusByIdIn(ids, status, LocalDateTime.now());
+        return counts;
+    }
+
+    @Override
+    public List<User> findByNameContaining(String name) {
+        return userRepository.findByNameContaining(name);
+    }
+
+    @Override
+    public List<User> findAllActiveUsers() {
+        return userRepository.findAllActiveUsers();
+    }
+
+    @Override
+    public long countActiveUsers() {
+        return userRepository.countActiveUsers();
+    }
+
+    @Override
+    public Map<UserStatus, Long> countGroupByStatus() {
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        for (Object[] row : userRepository.countGroupByStatus()) {
+            counts.put((UserStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * 요청 필드의 컬럼만 SELECT 하고 결과를 해당 필드만 채운 User 로 변환
+     */
+    private List<User> selectProjected(Set<UserField> fields, UserStatus status, Collection<Long> ids,
+                                       UserSortOrder sort, int firstResult, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> root = query.from(User.class);
+
+        List<UserField> selected = List.copyOf(fields);
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (UserField field : selected) {
+            selections.add(root.get(field.getAttribute()));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(root.get("status"), status));
+        }
+        if (ids != null) {
+            predicates.add(root.get("id").in(ids));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(toOrders(cb, root, sort));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+            .setFirstResult(firstResult)
+            .setMaxResults(maxResults)
+            .getResultList();
+
+        List<User> users = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            User.UserBuilder builder = User.builder();
+            for (int i = 0; i < selected.size(); i++) {
+                Object value = row.get(i);
+                switch (selected.get(i)) {
+                    case ID -> builder.id((Long) value);
+                    case EMAIL -> builder.email((String) value);
+                    case NAME -> builder.name((String) value);
+                    case PHONE_NUMBER -> builder.phoneNumber((String) value);
+                    case STATUS -> builder.status((UserStatus) value);
+                    case CREATED_AT -> builder.createdAt((LocalDateTime) value);
+                    case UPDATED_AT -> builder.updatedAt((LocalDateTime) value);
+                    case VERSION -> builder.version((Long) value);
+                }
+            }
+            users.add(builder.build());
+        }
+        return users;
+    }
+
+    /**
+     * 정렬 기준을 인덱스 컬럼 순서와 같은 Criteria 정렬로 변환
+     */
+    private static List<Order> toOrders(CriteriaBuilder cb, Root<User> root, UserSortOrder sort) {
+        return switch (sort) {
+            case ID_ASC -> List.of(cb.asc(root.get("id")));
+            case CREATED_AT_ASC -> List.of(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+            case CREATED_AT_DESC -> List.of(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+        };
+    }
+}
@@ -2,11 +2,15 @@ package com.study.grpc.user.repository;
 
 import com.study.grpc.user.domain.User;
 import com.study.grpc.user.domain.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +32,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * 대소문자 무시 이메일 존재 여부 확인 (email_lower 인덱스 사용)
+     */
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.emailLower = LOWER(:email)")
+    boolean existsByEmailIgnoringCase(@Param("email") String email);
+
     /**
      * 상태별 회원 목록 조회
      */
@@ -41,7 +51,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * 활성 회원 목록 조회 (커스텀 쿼리)
      */
-    @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE'")
+    @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' ORDER BY u.id")
     List<User> findAllActiveUsers();
 
     /**
@@ -53,10 +63,106 @@ public interface UserRepository extends JpaRepository<User, Long> {
         @Param("status") UserStatus status
     );
 
+    /**
+     * 워터마크 (updatedAt, id) 이후 변경된 회원 조회 (삭제된 회원 포함)
+     *
+     * settledBefore 이후 변경분은 아직 커밋 중일 수 있어 제외한다.
+     */
+    @Query("SELECT u FROM User u "
+        + "WHERE (u.updatedAt > :updatedAfter OR (u.updatedAt = :updatedAfter AND u.id > :cursor)) "
+        + "AND u.updatedAt < :settledBefore "
+        + "ORDER BY u.updatedAt, u.id")
+    List<User> findChangedSince(
+        @Param("updatedAfter") LocalDateTime updatedAfter,
+        @Param("cursor") Long cursor,
+        @Param("settledBefore") LocalDateTime settledBefore,
+        Pageable pageable
+    );
+
+    /**
+     * afterId 이후 회원을 ID 순서로 조회 (PK 인덱스 범위 스캔)
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<User> findAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * afterId 이후 특정 상태 회원을 ID 순서로 조회
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :afterId AND u.status = :status ORDER BY u.id")
+    List<User> findAfterIdAndStatus(
+        @Param("afterId") Long afterId,
+        @Param("status") UserStatus status,
+        Pageable pageable
+    );
+
+    /**
+     * afterId 이후 특정 상태 회원 ID 를 ID 순서로 조회 ((status, id) 인덱스만 읽음)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId AND u.status = :status ORDER BY u.id")
+    List<Long> findIdsAfterIdAndStatus(
+        @Param("afterId") Long afterId,
+        @Param("status") UserStatus status,
+        Pageable pageable
+    );
+
+    /**
+     * afterId 이후 특정 상태이면서 updatedBefore 이전에 변경된 회원 ID 를 ID 순서로 조회
+     */
+    @Query("SELECT u.id FROM User u "
+        + "WHERE u.id > :afterId AND u.status = :status AND u.updatedAt < :updatedBefore ORDER BY u.id")
+    List<Long> findIdsAfterIdAndStatusAndUpdatedAtBefore(
+        @Param("afterId") Long afterId,
+        @Param("status") UserStatus status,
+        @Param("updatedBefore") LocalDateTime updatedBefore,
+        Pageable pageable
+    );
+
+    /**
+     * 상태 일괄 변경 (엔티티 로딩 없이 UPDATE 1문장)
+     *
+     * 영속성 컨텍스트를 우회하므로 실행 전 flush, 실행 후 clear 해 오래된 엔티티가 남지 않게 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.status = :status, u.updatedAt = :now, u.version = u.version + 1 "
+        + "WHERE u.id IN :ids AND u.status <> :status")
+    int updateStatusByIdIn(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") UserStatus status,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 회원 버전 조회 ((id, version) 인덱스만 읽음)
+     */
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 회원 ID별 버전 조회 ((id, version) 인덱스만 읽음)
+     *
+     * @return [id, version] 행 목록
+     */
+    @Query("SELECT u.id, u.version FROM User u WHERE u.id IN :ids")
+    List<Object[]> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 삭제되지 않은 회원 수 조회
      */
     @Query("SELECT COUNT(u) FROM User u WHERE u.status != 'DELETED'")
     long countActiveUsers();
+
+    /**
+     * 상태별 회원 수 집계 ([UserStatus, Long] 배열 목록)
+     */
+    @Query("SELECT u.status, COUNT(u) FROM User u GROUP BY u.status")
+    List<Object[]> countGroupByStatus();
+
+    /**
+     * 주어진 회원 행을 ID 순서로 잠그고 현재 상태 조회 (SELECT ... FOR UPDATE)
+     *
+     * 상태별 집계와 이어지는 UPDATE 사이에 다른 트랜잭션이 상태를 바꾸지 못하게 한다.
+     */
+    @Query(value = "SELECT status FROM users WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<String> lockStatusesByIdIn(@Param("ids") Collection<Long> ids);
 }
 
@@ -0,0 +1,173 @@
+package com.study.grpc.user.repository;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
+import com.study.grpc.user.domain.UserStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * User 저장소 추상화
+ *
+ * UserService 가 사용하는 영속화 연산을 정의한다.
+ * user.storage.engine 설정으로 구현체를 선택한다.
+ * - jpa (기본값): Spring Data JPA(UserRepository) 위임
+ * - mapped: 메모리 매핑 파일 기반 오프힙 저장소
+ *
+ * 구현체마다 반환되는 엔티티가 영속 상태인지가 다르므로
+ * 엔티티를 변경한 뒤에는 반드시 save() 를 호출하고 반환값을 사용한다.
+ */
+public interface UserStore {
+
+    /**
+     * 회원 저장 (ID 가 없으면 생성, 있으면 수정)
+     */
+    User save(User user);
+
+    /**
+     * ID로 회원 조회
+     */
+    Optional<User> findById(Long id);
+
+    /**
+     * 여러 ID로 회원 조회
+     */
+    List<User> findAllById(Iterable<Long> ids);
+
+    /**
+     * 이메일로 회원 조회
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * 이메일 존재 여부 확인
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * 대소문자 무시 이메일 존재 여부 확인 (가입 시 중복 확인용)
+     */
+    boolean existsByEmailIgnoringCase(String email);
+
+    /**
+     * 전체 회원 목록 조회
+     */
+    List<User> findAll();
+
+    /**
+     * 상태별 회원 목록 조회
+     */
+    List<User> findByStatus(UserStatus status);
+
+    /**
+     * ID로 회원 조회 (요청 필드만 조회)
+     *
+     * 반환되는 User 는 fields 에 포함된 필드만 채워진 비영속 객체이므로 저장에 사용하지 않는다.
+     */
+    Optional<User> findProjectedById(Long id, Set<UserField> fields);
+
+    /**
+     * ID 목록으로 회원 조회 (요청 필드만 조회, 순서 보장 없음)
+     */
+    List<User> findProjectedAllById(Collection<Long> ids, Set<UserField> fields);
+
+    /**
+     * 회원 버전 조회 (엔티티를 로딩하지 않음)
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * 회원 ID별 버전 조회 (엔티티를 로딩하지 않음, 존재하지 않는 ID 는 제외)
+     */
+    Map<Long, Long> findVersionsById(Collection<Long> ids);
+
+    /**
+     * 보류 중인 변경을 저장소에 반영
+     *
+     * 버전처럼 반영 시점에 결정되는 값을 응답에 담기 전에 호출한다.
+     */
+    void flush();
+
+    /**
+     * 회원 목록 페이지 조회 (요청 필드만 조회)
+     *
+     * 반환되는 User 는 fields 에 포함된 필드만 채워진 비영속 객체이다.
+     *
+     * @param status 상태 필터 (null 이면 전체)
+     * @param sort   정렬 기준
+     * @param page   페이지 번호 (0부터)
+     * @param size   페이지 크기
+     */
+    List<User> findProjectedPage(UserStatus status, UserSortOrder sort, int page, int size, Set<UserField> fields);
+
+    /**
+     * 워터마크 (updatedAt, id) 이후 변경된 회원을 (updatedAt, id) 순서로 조회 (삭제된 회원 포함)
+     *
+     * @param updatedAfter  워터마크 변경 시각
+     * @param cursor        워터마크 시각 안에서 마지막으로 받은 ID
+     * @param settledBefore 이 시각 이후 변경분은 제외 (커밋 지연 대비)
+     * @param limit         최대 건수
+     */
+    List<User> findChangedSince(LocalDateTime updatedAfter, long cursor, LocalDateTime settledBefore, int limit);
+
+    /**
+     * 신규 회원 일괄 추가 (대량 적재용)
+     *
+     * 영속성 컨텍스트를 거치지 않고 배치 INSERT 한다. 생성/변경 시각은 지금, 버전은 0 으로 저장된다.
+     *
+     * @return 추가된 회원 수
+     * @throws org.springframework.dao.DataIntegrityViolationException 이메일이 이미 있는 경우
+     */
+    int insertAll(List<User> users);
+
+    /**
+     * afterId 보다 큰 ID 의 회원을 ID 순서로 조회 (keyset 순회, 삭제된 회원 포함)
+     *
+     * @param status null 이면 전체
+     */
+    List<User> findAfterId(long afterId, UserStatus status, int limit);
+
+    /**
+     * 조건에 맞는 회원 ID 를 afterId 이후 ID 순서로 조회 (엔티티를 읽지 않음)
+     *
+     * @param updatedBefore null 이면 변경 시각 조건 없음
+     */
+    List<Long> findIdsAfterId(long afterId, UserStatus status, LocalDateTime updatedBefore, int limit);
+
+    /**
+     * 회원 상태 일괄 변경 (집합 기반 UPDATE, 엔티티를 읽지 않음)
+     *
+     * 이미 status 인 회원은 건드리지 않는다. 바뀐 회원은 version 이 1 증가하고
+     * updatedAt 은 대상 행을 잠근 뒤의 시각이 된다 (잠금 대기 동안 커밋된 다른 변경보다 앞선 시각이 찍히지 않도록).
+     * 집계와 변경이 같은 행 집합에 대해 원자적으로 이루어지므로 반환값을 그대로 통계 변경분으로 쓸 수 있다.
+     *
+     * @return 존재하는 대상 회원의 변경 전 상태별 수 (status 키는 이미 status 라 바뀌지 않은 회원 수)
+     */
+    Map<UserStatus, Long> updateStatusByIdIn(Collection<Long> ids, UserStatus status);
+
+    /**
+     * 이름으로 회원 검색 (LIKE 검색)
+     */
+    List<User> findByNameContaining(String name);
+
+    /**
+     * 활성 회원 목록 조회
+     */
+    List<User> findAllActiveUsers();
+
+    /**
+     * 삭제되지 않은 회원 수 조회
+     */
+    long countActiveUsers();
+
+    /**
+     * 상태별 회원 수 집계
+     */
+    Map<UserStatus, Long> countGroupByStatus();
+}
@@ -0,0 +1,763 @@
+package com.study.grpc.user.repository.mapped;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
+import com.study.grpc.user.domain.UserStatus;
+import com.study.grpc.user.repository.UserStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 매핑 파일 기반 UserStore 구현 (user.storage.engine=mapped)
+ *
+ * 회원 레코드를 고정 길이(UserRecordLayout)로 users.dat 에 저장하고 세그먼트 단위로 메모리 매핑한다.
+ * - 기본키 인덱스: ID 가 곧 슬롯 번호이므로 오프셋 계산만으로 조회 (슬롯 0 은 헤더)
+ * - 이메일 인덱스: email.idx 의 오프힙 해시 테이블 (OffHeapEmailIndex)
+ * 데이터가 자바 힙 밖(페이지 캐시)에 있으므로 데이터셋 크기가 힙/GC 에 영향을 주지 않고 재시작 후에도 남는다.
+ *
+ * 내구성 모드 (user.storage.mapped.durability)
+ * - none: 매핑 파일 기록만 하고 디스크 반영 시점은 OS 에 맡긴다 (비정상 종료 시 최근 쓰기 유실 가능)
+ * - wal: 모든 쓰기를 먼저 WAL 에 그룹 커밋(fsync)하고, 그 뒤에 매핑 파일과 헤더에 반영한 다음 반환한다.
+ *   따라서 다른 스레드는 디스크에 기록되지 않은 쓰기를 읽지 않고, 헤더의 nextId 가 WAL 보다 앞서 디스크에 남지 않는다.
+ *   주기적인 체크포인트에서 매핑 파일(= 회원당 레코드 1개로 압축된 바이너리 스냅샷)을 fsync 하고 WAL 을 비운다
+ *   (fsync 는 락 밖에서 하므로 체크포인트 중에도 읽기/쓰기가 멈추지 않는다).
+ *   시작 시에는 스냅샷을 매핑한 뒤 체크포인트 이후의 WAL 꼬리만 재적용하므로 복구 시간이 데이터 크기가 아닌
+ *   체크포인트 주기 동안의 쓰기 양에 비례한다.
+ * 시작 시 끝부분의 빈 슬롯(레코드 페이지가 디스크에 남지 않은 경우)은 nextId 에서 제외하고, 중간의 빈 슬롯은 건너뛴다.
+ *
+ * 읽기는 공유 락, 쓰기는 배타 락으로 보호한다.
+ * 저장할 때마다 레코드의 version 을 올리고, 저장하려는 회원의 version 이 현재 값과 다르면
+ * OptimisticLockingFailureException 으로 거부한다 (JPA @Version 과 같은 동작).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user.storage", name = "engine", havingValue = "mapped")
+public class MappedUserStore implements UserStore {
+
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final int RECORDS_PER_SEGMENT = SEGMENT_SIZE / UserRecordLayout.RECORD_SIZE;
+    private static final int HEADER_MAGIC = 0x55535231; // "USR1"
+    private static final int LAYOUT_VERSION = 1;
+    private static final int HEADER_NEXT_ID = 8;
+    private static final int HEADER_CHECKPOINT_LSN = 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object checkpointMonitor = new Object();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final FileChannel recordChannel;
+    private final OffHeapEmailIndex emailIndex;
+    private final WriteAheadLog wal;
+    private final long recoveryMillis;
+    private ScheduledExecutorService checkpointScheduler;
+    private long nextId;
+    private long allocatedId;
+
+    // WAL 모드에서 fsync 를 기다리는 쓰기 (LSN 순서, 쓰기 락 안에서만 접근)
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private final Map<Long, User> pendingById = new HashMap<>();
+    private final Map<String, Long> pendingEmails = new HashMap<>();
+
+    public MappedUserStore(
+            @Value("${user.storage.mapped.directory:./data/users}") String directory,
+            @Value("${user.storage.mapped.email-index-capacity:1048576}") int emailIndexCapacity,
+            @Value("${user.storage.mapped.durability:none}") String durability,
+            @Value("${user.storage.mapped.checkpoint-interval:30s}") Duration checkpointInterval) {
+        Path dir = Path.of(directory);
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(dir);
+            this.recordChannel = FileChannel.open(dir.resolve("users.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            long existingSegments = (recordChannel.size() + SEGMENT_SIZE - 1) / SEGMENT_SIZE;
+            for (long i = 0; i < Math.max(1, existingSegments); i++) {
+                mapNextSegment();
+            }
+
+            MappedByteBuffer header = segments.get(0);
+            if (header.getInt(0) != HEADER_MAGIC) {
+                header.putInt(0, HEADER_MAGIC);
+                header.putInt(4, LAYOUT_VERSION);
+                header.putLong(HEADER_NEXT_ID, 1L);
+            }
+            this.nextId = header.getLong(HEADER_NEXT_ID);
+
+            // 체크포인트 이후의 WAL 꼬리 재적용 (이메일 인덱스는 아래에서 한 번에 맞춘다)
+            if ("wal".equalsIgnoreCase(durability)) {
+                this.wal = WriteAheadLog.openAndReplay(dir.resolve("users.wal"),
+                    header.getLong(HEADER_CHECKPOINT_LSN), this::applyLogEntry);
+            } else {
+                this.wal = null;
+            }
+            trimEmptyTail();
+            this.allocatedId = nextId;
+
+            this.emailIndex = OffHeapEmailIndex.open(dir.resolve("email.idx"), emailIndexCapacity);
+            if (emailIndex.size() != nextId - 1) {
+                rebuildEmailIndex();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("회원 저장소 파일을 열 수 없습니다: " + dir, e);
+        }
+        this.recoveryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        if (wal != null) {
+            checkpointScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-store-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = checkpointInterval.toMillis();
+            checkpointScheduler.scheduleWithFixedDelay(
+                this::checkpointQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("Mapped 저장소 열림: directory={}, durability={}, users={}, recovery={}ms",
+            dir.toAbsolutePath(), durability, nextId - 1, recoveryMillis);
+    }
+
+    @Override
+    public User save(User user) {
+        return store(List.of(user)).get(0);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return readRecord(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<User> users = new ArrayList<>();
+            for (Long id : ids) {
+                readRecord(id).ifPresent(users::add);
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        lock.readLock().lock();
+        try {
+            long id = findIdByEmail(email);
+            return id == 0 ? Optional.empty() : readRecord(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        lock.readLock().lock();
+        try {
+            return findIdByEmail(email) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByEmailIgnoringCase(String email) {
+        lock.readLock().lock();
+        try {
+            return emailIndex.find(email,
+                id -> email.equalsIgnoreCase(UserRecordLayout.readEmail(segmentOf(id), offsetOf(id)))) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findAll() {
+        return scan(user -> true);
+    }
+
+    @Override
+    public List<User> findByStatus(UserStatus status) {
+        return scan(user -> user.getStatus() == status);
+    }
+
+    @Override
+    public Optional<User> findProjectedById(Long id, Set<UserField> fields) {
+        lock.readLock().lock();
+        try {
+            if (id == null || !isStored(id)) {
+                return Optional.empty();
+            }
+            return Optional.of(UserRecordLayout.readProjected(segmentOf(id), offsetOf(id), fields));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findProjectedAllById(Collection<Long> ids, Set<UserField> fields) {
+        lock.readLock().lock();
+        try {
+            List<User> users = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                if (id != null && isStored(id)) {
+                    users.add(UserRecordLayout.readProjected(segmentOf(id), offsetOf(id), fields));
+                }
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        lock.readLock().lock();
+        try {
+            if (id == null || !isStored(id)) {
+                return Optional.empty();
+            }
+            return Optional.of(UserRecordLayout.readVersion(segmentOf(id), offsetOf(id)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<Long, Long> findVersionsById(Collection<Long> ids) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>();
+            for (Long id : ids) {
+                if (id != null && isStored(id)) {
+                    versions.put(id, UserRecordLayout.readVersion(segmentOf(id), offsetOf(id)));
+                }
+            }
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * save() 가 즉시 매핑 파일에 기록하므로 보류 중인 변경이 없다.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * 필터/정렬은 고정 오프셋의 status·createdAt 만 읽어 처리하고,
+     * 요청 필드 디코딩은 해당 페이지 레코드에만 수행한다.
+     */
+    @Override
+    public List<User> findProjectedPage(UserStatus status, UserSortOrder sort, int page, int size, Set<UserField> fields) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id < nextId; id++) {
+                if (isStored(id)
+                        && (status == null || UserRecordLayout.readStatus(segmentOf(id), offsetOf(id)) == status)) {
+                    ids.add(id);
+                }
+            }
+
+            Comparator<Long> byCreatedAt = Comparator.<Long>comparingLong(
+                id -> UserRecordLayout.readCreatedAt(segmentOf(id), offsetOf(id))).thenComparing(Comparator.naturalOrder());
+            switch (sort) {
+                case CREATED_AT_ASC -> ids.sort(byCreatedAt);
+                case CREATED_AT_DESC -> ids.sort(byCreatedAt.reversed());
+                case ID_ASC -> { }
+            }
+
+            int from = (int) Math.min((long) page * size, ids.size());
+            int to = Math.min(from + size, ids.size());
+            List<User> users = new ArrayList<>(to - from);
+            for (Long id : ids.subList(from, to)) {
+                users.add(UserRecordLayout.readProjected(segmentOf(id), offsetOf(id), fields));
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findChangedSince(LocalDateTime updatedAfter, long cursor, LocalDateTime settledBefore, int limit) {
+        List<User> users = scan(user -> user.getUpdatedAt().isBefore(settledBefore)
+            && (user.getUpdatedAt().isAfter(updatedAfter)
+                || (user.getUpdatedAt().isEqual(updatedAfter) && user.getId() > cursor)));
+
+        users.sort(Comparator.comparing(User::getUpdatedAt).thenComparing(User::getId));
+        return new ArrayList<>(users.subList(0, Math.min(limit, users.size())));
+    }
+
+    @Override
+    public int insertAll(List<User> users) {
+        // 검사와 기록을 한 번의 쓰기 락 안에서 하므로 중복이 하나라도 있으면 아무것도 저장하지 않는다 (JPA 의 배치 롤백과 같은 결과)
+        return store(users).size();
+    }
+
+    @Override
+    public List<User> findAfterId(long afterId, UserStatus status, int limit) {
+        lock.readLock().lock();
+        try {
+            List<User> users = new ArrayList<>(Math.min(limit, 1_000));
+            for (long id = Math.max(1, afterId + 1); id < nextId && users.size() < limit; id++) {
+                if (isStored(id)
+                        && (status == null || UserRecordLayout.readStatus(segmentOf(id), offsetOf(id)) == status)) {
+                    users.add(UserRecordLayout.read(segmentOf(id), offsetOf(id)));
+                }
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findIdsAfterId(long afterId, UserStatus status, LocalDateTime updatedBefore, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(Math.min(limit, 1_000));
+            for (long id = Math.max(1, afterId + 1); id < nextId && ids.size() < limit; id++) {
+                if (!isStored(id) || UserRecordLayout.readStatus(segmentOf(id), offsetOf(id)) != status) {
+                    continue;
+                }
+                if (updatedBefore == null
+                        || UserRecordLayout.read(segmentOf(id), offsetOf(id)).getUpdatedAt().isBefore(updatedBefore)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 레코드 단위 저장소이므로 회원별로 상태만 바꿔 다시 기록한다 (save 와 같은 버전/변경 시각 규칙)
+     *
+     * 바뀌는 회원을 한 번에 store 로 기록하므로, 읽은 뒤 다른 쓰기가 끼어들었으면 버전 검사에서
+     * 전체가 실패하고(OptimisticLockingFailureException) 집계와 실제 변경이 어긋나지 않는다.
+     */
+    @Override
+    public Map<UserStatus, Long> updateStatusByIdIn(Collection<Long> ids, UserStatus status) {
+        Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+        List<User> changed = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Optional<User> user = findById(id);
+            if (user.isEmpty()) {
+                continue;
+            }
+            counts.merge(user.get().getStatus(), 1L, Long::sum);
+            if (user.get().getStatus() != status) {
+                user.get().updateStatus(status);
+                changed.add(user.get());
+            }
+        }
+        if (!changed.isEmpty()) {
+            store(changed);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<User> findByNameContaining(String name) {
+        return scan(user -> user.getName() != null && user.getName().contains(name));
+    }
+
+    @Override
+    public List<User> findAllActiveUsers() {
+        return findByStatus(UserStatus.ACTIVE);
+    }
+
+    @Override
+    public long countActiveUsers() {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (long id = 1; id < nextId; id++) {
+                if (isStored(id) && UserRecordLayout.readStatus(segmentOf(id), offsetOf(id)) != UserStatus.DELETED) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<UserStatus, Long> countGroupByStatus() {
+        lock.readLock().lock();
+        try {
+            Map<UserStatus, Long> counts = new EnumMap<>(UserStatus.class);
+            for (long id = 1; id < nextId; id++) {
+                if (!isStored(id)) {
+                    continue;
+                }
+                counts.merge(UserRecordLayout.readStatus(segmentOf(id), offsetOf(id)), 1L, Long::sum);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시작 시 복구(매핑 + WAL 재적용 + 인덱스 확인)에 걸린 시간
+     */
+    public long getRecoveryMillis() {
+        return recoveryMillis;
+    }
+
+    /**
+     * 체크포인트: 매핑 파일과 인덱스를 fsync 하고 체크포인트 LSN 을 기록한 뒤 WAL 에서 그 이전 엔트리를 버린다
+     *
+     * 쓰기 락은 체크포인트 LSN 까지의 쓰기를 매핑 파일에 반영하는 동안만 잡고, fsync 는 락 밖에서 한다.
+     * fsync 도중 바뀐 페이지가 함께 내려가거나 덜 내려가도 그 쓰기의 WAL 엔트리는 체크포인트 LSN 뒤에 남아
+     * 복구 시 재적용되므로 스냅샷은 체크포인트 LSN 시점 이상으로 일관된다.
+     */
+    public void checkpoint() throws IOException {
+        if (wal == null) {
+            return;
+        }
+        synchronized (checkpointMonitor) {
+            long startedAt = System.nanoTime();
+            long checkpointLsn = wal.appendedLsn();
+            // 디스크에 기록된 쓰기만 매핑 파일에 반영해야 하므로 체크포인트 LSN 까지 WAL fsync 를 먼저 기다림
+            wal.awaitDurable(checkpointLsn);
+
+            List<MappedByteBuffer> snapshot;
+            lock.writeLock().lock();
+            try {
+                applyPending(checkpointLsn);
+                snapshot = List.copyOf(segments);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            long lockedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            snapshot.forEach(MappedByteBuffer::force);
+            emailIndex.force();
+
+            MappedByteBuffer header = snapshot.get(0);
+            lock.writeLock().lock();
+            try {
+                header.putLong(HEADER_CHECKPOINT_LSN, checkpointLsn);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            header.force(0, UserRecordLayout.RECORD_SIZE);
+
+            wal.truncate(checkpointLsn);
+            log.debug("체크포인트 완료: lsn={}, elapsed={}ms, locked={}ms", checkpointLsn,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), lockedMillis);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (checkpointScheduler != null) {
+            checkpointScheduler.shutdown();
+        }
+        checkpoint();
+
+        lock.writeLock().lock();
+        try {
+            segments.forEach(MappedByteBuffer::force);
+            if (wal != null) {
+                wal.close();
+            }
+            emailIndex.close();
+            recordChannel.close();
+            log.info("Mapped 저장소 닫힘: users={}", nextId - 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 레코드를 ID 순서로 순회하며 조건에 맞는 회원 반환
+     */
+    private List<User> scan(Predicate<User> filter) {
+        lock.readLock().lock();
+        try {
+            List<User> users = new ArrayList<>();
+            for (long id = 1; id < nextId; id++) {
+                if (!isStored(id)) {
+                    continue;
+                }
+                User user = UserRecordLayout.read(segmentOf(id), offsetOf(id));
+                if (filter.test(user)) {
+                    users.add(user);
+                }
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long findIdByEmail(String email) {
+        return emailIndex.find(email,
+            id -> email.equals(UserRecordLayout.readEmail(segmentOf(id), offsetOf(id))));
+    }
+
+    private Optional<User> readRecord(Long id) {
+        if (id == null || !isStored(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(UserRecordLayout.read(segmentOf(id), offsetOf(id)));
+    }
+
+    /**
+     * 슬롯에 해당 ID 의 레코드가 있는지 (비정상 종료로 레코드 페이지가 남지 않은 빈 슬롯 제외)
+     */
+    private boolean isStored(long id) {
+        return id > 0 && id < nextId
+            && id / RECORDS_PER_SEGMENT < segments.size()
+            && UserRecordLayout.readId(segmentOf(id), offsetOf(id)) == id;
+    }
+
+    /**
+     * 헤더의 nextId 가 가리키는 끝부분 슬롯이 비어 있으면 nextId 를 마지막 레코드 다음으로 되돌림
+     */
+    private void trimEmptyTail() {
+        long headerNextId = nextId;
+        while (nextId > 1 && !isStored(nextId - 1)) {
+            nextId--;
+        }
+        if (nextId != headerNextId) {
+            log.warn("끝부분 빈 슬롯 제외: nextId {} -> {}", headerNextId, nextId);
+            segments.get(0).putLong(HEADER_NEXT_ID, nextId);
+        }
+    }
+
+    /**
+     * 회원 저장 (검사 → WAL 기록 → 매핑 파일 반영)
+     *
+     * 목록 전체가 검사(이메일 유니크, 버전)를 통과해야 기록을 시작하므로 일부만 저장된 채 실패하지 않는다.
+     * WAL 모드는 락 안에서 검사와 WAL 추가만 하고 fsync 는 락 밖에서 기다려(그룹 커밋) 동시에 들어온 쓰기들이
+     * 한 번의 fsync 를 공유한다. fsync 가 끝난 쓰기만 LSN 순서로 매핑 파일과 헤더에 반영한다.
+     */
+    private List<User> store(List<User> users) {
+        List<User> stored = new ArrayList<>(users.size());
+        List<byte[]> records = new ArrayList<>(users.size());
+        long lsn = 0;
+
+        lock.writeLock().lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, User> batchById = new HashMap<>();
+            Set<String> batchEmails = new HashSet<>();
+            long id = allocatedId;
+
+            for (User user : users) {
+                User image;
+                if (user.getId() == null) {
+                    if (!batchEmails.add(user.getEmail())
+                            || findIdByEmail(user.getEmail()) != 0 || pendingEmails.containsKey(user.getEmail())) {
+                        throw new DataIntegrityViolationException("이메일 유니크 제약 위반: " + user.getEmail());
+                    }
+                    image = copyOf(user, id++, now, now, 0L);
+                } else {
+                    User existing = Optional.ofNullable(batchById.get(user.getId()))
+                        .or(() -> Optional.ofNullable(pendingById.get(user.getId())))
+                        .or(() -> readRecord(user.getId()))
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + user.getId()));
+                    if (user.getVersion() != null && !user.getVersion().equals(existing.getVersion())) {
+                        throw new OptimisticLockingFailureException("회원 버전 충돌: id=" + user.getId()
+                            + ", version=" + user.getVersion() + ", current=" + existing.getVersion());
+                    }
+                    image = copyOf(user, existing.getId(), existing.getCreatedAt(), now, existing.getVersion() + 1);
+                }
+                byte[] record = new byte[UserRecordLayout.RECORD_SIZE];
+                UserRecordLayout.write(ByteBuffer.wrap(record), 0, image);
+                batchById.put(image.getId(), image);
+                stored.add(image);
+                records.add(record);
+            }
+            allocatedId = id;
+
+            for (int i = 0; i < stored.size(); i++) {
+                User image = stored.get(i);
+                byte[] record = records.get(i);
+                if (wal == null) {
+                    applyRecord(image.getId(), record);
+                    continue;
+                }
+                lsn = wal.append(record);
+                pendingWrites.add(new PendingWrite(lsn, image, record));
+                pendingById.put(image.getId(), image);
+                if (image.getVersion() == 0L) { // 새 회원
+                    pendingEmails.put(image.getEmail(), image.getId());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("회원 저장 실패", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (wal != null && lsn > 0) {
+            wal.awaitDurable(lsn);
+
+            lock.writeLock().lock();
+            try {
+                applyPending(lsn);
+            } catch (IOException e) {
+                throw new UncheckedIOException("회원 저장 실패", e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * 디스크에 기록된(LSN 이하) 대기 쓰기를 LSN 순서로 매핑 파일에 반영
+     *
+     * 먼저 깨어난 스레드가 앞선 쓰기까지 함께 반영한다.
+     */
+    private void applyPending(long upToLsn) throws IOException {
+        PendingWrite head;
+        while ((head = pendingWrites.peek()) != null && head.lsn() <= upToLsn) {
+            applyRecord(head.user().getId(), head.record());
+            pendingWrites.poll();
+            pendingById.remove(head.user().getId(), head.user());
+            pendingEmails.remove(head.user().getEmail(), head.user().getId());
+        }
+    }
+
+    /**
+     * 레코드를 매핑 파일에 기록하고, 새 회원이면 이메일 인덱스와 헤더의 nextId 를 갱신
+     */
+    private void applyRecord(long id, byte[] record) throws IOException {
+        putRecord(id, record);
+        if (id >= nextId) {
+            emailIndex.put(UserRecordLayout.readEmail(ByteBuffer.wrap(record), 0), id);
+            nextId = id + 1;
+            segments.get(0).putLong(HEADER_NEXT_ID, nextId);
+        }
+    }
+
+    private void putRecord(long id, byte[] record) throws IOException {
+        while (id / RECORDS_PER_SEGMENT >= segments.size()) {
+            mapNextSegment();
+        }
+        segmentOf(id).put(offsetOf(id), record);
+    }
+
+    /**
+     * WAL 엔트리 재적용 (시작 시 복구)
+     */
+    private void applyLogEntry(ByteBuffer payload) {
+        byte[] record = new byte[payload.remaining()];
+        payload.get(record);
+
+        long id = UserRecordLayout.readId(ByteBuffer.wrap(record), 0);
+        try {
+            putRecord(id, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("WAL 재적용 실패: id=" + id, e);
+        }
+        if (id >= nextId) {
+            nextId = id + 1;
+            segments.get(0).putLong(HEADER_NEXT_ID, nextId);
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (IOException | RuntimeException e) {
+            log.error("체크포인트 실패", e);
+        }
+    }
+
+    private void rebuildEmailIndex() throws IOException {
+        log.info("이메일 인덱스 재구성: users={}", nextId - 1);
+        emailIndex.clear();
+        for (long id = 1; id < nextId; id++) {
+            if (!isStored(id)) {
+                continue;
+            }
+            emailIndex.put(UserRecordLayout.readEmail(segmentOf(id), offsetOf(id)), id);
+        }
+    }
+
+    private void mapNextSegment() throws IOException {
+        long position = (long) segments.size() * SEGMENT_SIZE;
+        segments.add(recordChannel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_SIZE));
+    }
+
+    private MappedByteBuffer segmentOf(long id) {
+        return segments.get((int) (id / RECORDS_PER_SEGMENT));
+    }
+
+    private static int offsetOf(long id) {
+        return (int) (id % RECORDS_PER_SEGMENT) * UserRecordLayout.RECORD_SIZE;
+    }
+
+    /**
+     * WAL 에 추가되어 fsync 를 기다리는 쓰기
+     */
+    private record PendingWrite(long lsn, User user, byte[] record) {
+    }
+
+    private static User copyOf(User user, long id, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        return User.builder()
+                .id(id)
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .name(user.getName())
+                .phoneNumber(user.getPhoneNumber())
+                .status(user.getStatus())
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.study.grpc.user.repository.mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongPredicate;
+
+/**
+ * 오프힙 이메일 인덱스
+ *
+ * 메모리 매핑 파일 위의 개방 주소법(linear probing) 해시 테이블.
+ * 슬롯 = (long 해시, long 회원 ID), ID 0 은 빈 슬롯이다.
+ * 해시는 대소문자를 무시하고 계산하므로 대소문자만 다른 이메일은 같은 탐색 구간에 놓이며,
+ * 해시 충돌과 대소문자 구분 여부는 호출자가 넘긴 검증 함수(레코드의 이메일 비교)로 가린다.
+ * 이메일은 변경/삭제되지 않으므로(소프트 삭제) 삭제 연산은 없다.
+ *
+ * 스레드 안전하지 않으며 MappedUserStore 의 락 안에서만 사용한다.
+ */
+final class OffHeapEmailIndex implements Closeable {
+
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 16;
+    private static final int MAGIC = 0x45494432; // "EID2" (대소문자 무시 해시)
+    private static final double MAX_LOAD_FACTOR = 0.6;
+    private static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer table;
+    private int capacity;
+    private int size;
+
+    private OffHeapEmailIndex(Path path) {
+        this.path = path;
+    }
+
+    static OffHeapEmailIndex open(Path path, int initialCapacity) throws IOException {
+        OffHeapEmailIndex index = new OffHeapEmailIndex(path);
+        index.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (index.channel.size() >= HEADER_SIZE) {
+            MappedByteBuffer header = index.channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(0) == MAGIC) {
+                index.capacity = header.getInt(4);
+                index.size = header.getInt(8);
+                index.table = index.channel.map(FileChannel.MapMode.READ_WRITE, 0, tableBytes(index.capacity));
+                return index;
+            }
+        }
+
+        index.initialize(index.channel, roundUpToPowerOfTwo(initialCapacity));
+        return index;
+    }
+
+    /**
+     * 대소문자를 무시한 이메일 해시 (String.equalsIgnoreCase 와 같은 문자 비교 기준)
+     */
+    static long hash(String email) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            h ^= Character.toLowerCase(Character.toUpperCase(email.charAt(i)));
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * 이메일로 회원 ID 조회
+     *
+     * @param matches 후보 ID 의 레코드가 실제로 같은 이메일인지 확인하는 함수
+     * @return 회원 ID, 없으면 0
+     */
+    long find(String email, LongPredicate matches) {
+        long hash = hash(email);
+        int mask = capacity - 1;
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            int offset = HEADER_SIZE + slot * SLOT_SIZE;
+            long id = table.getLong(offset + 8);
+            if (id == 0) {
+                return 0;
+            }
+            if (table.getLong(offset) == hash && matches.test(id)) {
+                return id;
+            }
+        }
+    }
+
+    void put(String email, long id) throws IOException {
+        if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+            resize();
+        }
+        insert(table, capacity, hash(email), id);
+        size++;
+        table.putInt(8, size);
+    }
+
+    void clear() throws IOException {
+        initialize(channel, capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void force() {
+        table.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void initialize(FileChannel target, int newCapacity) throws IOException {
+        target.truncate(0);
+        MappedByteBuffer newTable = target.map(FileChannel.MapMode.READ_WRITE, 0, tableBytes(newCapacity));
+        newTable.putInt(0, MAGIC);
+        newTable.putInt(4, newCapacity);
+        newTable.putInt(8, 0);
+        this.channel = target;
+        this.table = newTable;
+        this.capacity = newCapacity;
+        this.size = 0;
+    }
+
+    /**
+     * 2배 크기의 새 파일로 재해싱 후 교체
+     */
+    private void resize() throws IOException {
+        if (capacity >= MAX_CAPACITY / 2) {
+            throw new IllegalStateException("이메일 인덱스 최대 크기 초과: capacity=" + capacity);
+        }
+        int newCapacity = capacity * 2;
+        Path tempPath = path.resolveSibling(path.getFileName() + ".resize");
+        FileChannel tempChannel = FileChannel.open(tempPath,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        MappedByteBuffer oldTable = table;
+        int oldCapacity = capacity;
+        int oldSize = size;
+        FileChannel oldChannel = channel;
+
+        initialize(tempChannel, newCapacity);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int offset = HEADER_SIZE + slot * SLOT_SIZE;
+            long id = oldTable.getLong(offset + 8);
+            if (id != 0) {
+                insert(table, capacity, oldTable.getLong(offset), id);
+            }
+        }
+        size = oldSize;
+        table.putInt(8, size);
+        table.force();
+
+        oldChannel.close();
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void insert(MappedByteBuffer target, int targetCapacity, long hash, long id) {
+        int mask = targetCapacity - 1;
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            int offset = HEADER_SIZE + slot * SLOT_SIZE;
+            if (target.getLong(offset + 8) == 0) {
+                target.putLong(offset, hash);
+                target.putLong(offset + 8, id);
+                return;
+            }
+        }
+    }
+
+    private static long tableBytes(int capacity) {
+        return HEADER_SIZE + (long) capacity * SLOT_SIZE;
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int capacity = Integer.highestOneBit(Math.max(16, value));
+        return capacity < value ? capacity << 1 : capacity;
+    }
+}
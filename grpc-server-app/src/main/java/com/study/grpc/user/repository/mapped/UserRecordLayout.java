@@ -0,0 +1,164 @@
+package com.study.grpc.user.repository.mapped;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * 고정 길이 회원 레코드 레이아웃
+ *
+ * 레코드 하나는 RECORD_SIZE 바이트이며 문자열은 (short 길이 + UTF-8 바이트)로 저장한다.
+ * 길이 -1 은 null 을 의미한다. 시간 값은 UTC 기준 epoch 마이크로초로 저장한다.
+ *
+ * <pre>
+ *   0  long   id (0 = 빈 슬롯)
+ *   8  byte   status (ordinal + 1)
+ *  16  long   createdAt
+ *  24  long   updatedAt
+ *  32  long   version      (레이아웃 1 에서 비어 있던 영역이므로 기존 레코드는 0 으로 읽힘)
+ *  64  string email        (최대 200 바이트)
+ * 266  string password     (최대 400 바이트)
+ * 668  string name         (최대 200 바이트)
+ * 870  string phoneNumber  (최대 80 바이트)
+ * </pre>
+ */
+final class UserRecordLayout {
+
+    static final int RECORD_SIZE = 1024;
+
+    static final int ID = 0;
+    static final int STATUS = 8;
+    static final int CREATED_AT = 16;
+    static final int UPDATED_AT = 24;
+    static final int VERSION = 32;
+
+    static final int EMAIL = 64;
+    static final int EMAIL_MAX = 200;
+    static final int PASSWORD = EMAIL + 2 + EMAIL_MAX;
+    static final int PASSWORD_MAX = 400;
+    static final int NAME = PASSWORD + 2 + PASSWORD_MAX;
+    static final int NAME_MAX = 200;
+    static final int PHONE_NUMBER = NAME + 2 + NAME_MAX;
+    static final int PHONE_NUMBER_MAX = 80;
+
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    private UserRecordLayout() {
+    }
+
+    /**
+     * 레코드 쓰기
+     */
+    static void write(ByteBuffer buffer, int offset, User user) {
+        buffer.putLong(offset + ID, user.getId());
+        buffer.put(offset + STATUS, (byte) (user.getStatus().ordinal() + 1));
+        buffer.putLong(offset + CREATED_AT, toEpochMicros(user.getCreatedAt()));
+        buffer.putLong(offset + UPDATED_AT, toEpochMicros(user.getUpdatedAt()));
+        buffer.putLong(offset + VERSION, user.getVersion() != null ? user.getVersion() : 0L);
+        writeString(buffer, offset + EMAIL, EMAIL_MAX, user.getEmail());
+        writeString(buffer, offset + PASSWORD, PASSWORD_MAX, user.getPassword());
+        writeString(buffer, offset + NAME, NAME_MAX, user.getName());
+        writeString(buffer, offset + PHONE_NUMBER, PHONE_NUMBER_MAX, user.getPhoneNumber());
+    }
+
+    /**
+     * 레코드 읽기
+     */
+    static User read(ByteBuffer buffer, int offset) {
+        return User.builder()
+                .id(buffer.getLong(offset + ID))
+                .status(readStatus(buffer, offset))
+                .createdAt(fromEpochMicros(buffer.getLong(offset + CREATED_AT)))
+                .updatedAt(fromEpochMicros(buffer.getLong(offset + UPDATED_AT)))
+                .version(buffer.getLong(offset + VERSION))
+                .email(readString(buffer, offset + EMAIL))
+                .password(readString(buffer, offset + PASSWORD))
+                .name(readString(buffer, offset + NAME))
+                .phoneNumber(readString(buffer, offset + PHONE_NUMBER))
+                .build();
+    }
+
+    /**
+     * 레코드에서 요청 필드만 읽기 (나머지 필드는 디코딩하지 않음)
+     */
+    static User readProjected(ByteBuffer buffer, int offset, Set<UserField> fields) {
+        User.UserBuilder builder = User.builder();
+        for (UserField field : fields) {
+            switch (field) {
+                case ID -> builder.id(buffer.getLong(offset + ID));
+                case EMAIL -> builder.email(readString(buffer, offset + EMAIL));
+                case NAME -> builder.name(readString(buffer, offset + NAME));
+                case PHONE_NUMBER -> builder.phoneNumber(readString(buffer, offset + PHONE_NUMBER));
+                case STATUS -> builder.status(readStatus(buffer, offset));
+                case CREATED_AT -> builder.createdAt(fromEpochMicros(buffer.getLong(offset + CREATED_AT)));
+                case UPDATED_AT -> builder.updatedAt(fromEpochMicros(buffer.getLong(offset + UPDATED_AT)));
+                case VERSION -> builder.version(buffer.getLong(offset + VERSION));
+            }
+        }
+        return builder.build();
+    }
+
+    static long readId(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + ID);
+    }
+
+    static UserStatus readStatus(ByteBuffer buffer, int offset) {
+        return STATUSES[buffer.get(offset + STATUS) - 1];
+    }
+
+    static long readVersion(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + VERSION);
+    }
+
+    static long readCreatedAt(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + CREATED_AT);
+    }
+
+    static String readEmail(ByteBuffer buffer, int offset) {
+        return readString(buffer, offset + EMAIL);
+    }
+
+    static String readName(ByteBuffer buffer, int offset) {
+        return readString(buffer, offset + NAME);
+    }
+
+    static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000L),
+            (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+            ZoneOffset.UTC);
+    }
+
+    private static void writeString(ByteBuffer buffer, int offset, int maxBytes, String value) {
+        if (value == null) {
+            buffer.putShort(offset, (short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("필드 길이 초과: " + bytes.length + " > " + maxBytes);
+        }
+        buffer.putShort(offset, (short) bytes.length);
+        buffer.put(offset + 2, bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer buffer, int offset) {
+        short length = buffer.getShort(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
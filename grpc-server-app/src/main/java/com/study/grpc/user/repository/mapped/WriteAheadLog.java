@@ -0,0 +1,300 @@
+package com.study.grpc.user.repository.mapped;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 추가 전용(write-ahead) 로그
+ *
+ * 엔트리 = [long lsn][int crc32][int payload 길이][payload]
+ * payload 는 변경된 회원 레코드 전체 이미지(UserRecordLayout)이므로 재적용해도 결과가 같다(멱등 redo).
+ *
+ * 그룹 커밋: 쓰기 스레드는 append() 로 메모리 버퍼에 엔트리를 쌓고 awaitDurable() 로 기다린다.
+ * 전용 커밋 스레드가 쌓인 엔트리를 한 번의 write + fsync 로 내려보내므로
+ * 동시에 들어온 쓰기들이 fsync 비용을 나눠 갖는다.
+ */
+@Slf4j
+final class WriteAheadLog implements Closeable {
+
+    static final int ENTRY_HEADER_SIZE = 16;
+
+    private final Path path;
+    private final Thread committer;
+
+    private FileChannel channel;
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long nextLsn;
+    private long appendedLsn;
+    private long durableLsn;
+    private boolean committing;
+    private boolean closed;
+    private IOException failure;
+
+    private WriteAheadLog(Path path, FileChannel channel, long lastLsn) {
+        this.path = path;
+        this.channel = channel;
+        this.nextLsn = lastLsn + 1;
+        this.appendedLsn = lastLsn;
+        this.durableLsn = lastLsn;
+        this.committer = new Thread(this::commitLoop, "user-wal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * 로그 파일을 열고 afterLsn 이후 엔트리를 재적용
+     *
+     * 끝부분의 깨진(쓰다 만) 엔트리는 잘라낸다.
+     *
+     * @param afterLsn 이 LSN 이하의 엔트리는 이미 스냅샷에 반영되어 건너뛴다
+     * @param apply    엔트리 payload 적용 함수
+     * @return 쓰기 가능한 상태로 열린 로그
+     */
+    static WriteAheadLog openAndReplay(Path path, long afterLsn, Consumer<ByteBuffer> apply) throws IOException {
+        // 정리 도중 종료되어 남은 임시 파일은 교체 전이므로 원본 로그가 온전하다
+        Files.deleteIfExists(tempPath(path));
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long lastLsn = afterLsn;
+        long validLength = 0;
+        long replayed = 0;
+        long size = channel.size();
+
+        if (size > 0) {
+            ByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+
+            while (entries.remaining() >= ENTRY_HEADER_SIZE) {
+                int start = entries.position();
+                long lsn = entries.getLong();
+                int checksum = entries.getInt();
+                int length = entries.getInt();
+                if (length < 0 || length > entries.remaining()) {
+                    break;
+                }
+
+                ByteBuffer payload = entries.slice(entries.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                if (lsn > afterLsn) {
+                    apply.accept(payload);
+                    replayed++;
+                }
+                lastLsn = Math.max(lastLsn, lsn);
+                entries.position(start + ENTRY_HEADER_SIZE + length);
+                validLength = entries.position();
+            }
+        }
+
+        if (validLength < size) {
+            log.warn("WAL 끝의 손상된 엔트리 제거: {} bytes", size - validLength);
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+
+        log.info("WAL 재적용 완료: replayed={}, lastLsn={}", replayed, lastLsn);
+        return new WriteAheadLog(path, channel, lastLsn);
+    }
+
+    /**
+     * 엔트리 추가 (디스크 기록은 커밋 스레드가 수행)
+     *
+     * @return 엔트리의 LSN
+     */
+    synchronized long append(byte[] payload) {
+        long lsn = nextLsn++;
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+        header.putLong(lsn).putInt((int) crc.getValue()).putInt(payload.length);
+        pending.write(header.array(), 0, ENTRY_HEADER_SIZE);
+        pending.write(payload, 0, payload.length);
+
+        appendedLsn = lsn;
+        notifyAll();
+        return lsn;
+    }
+
+    /**
+     * 해당 LSN 까지 디스크에 기록될 때까지 대기
+     */
+    synchronized void awaitDurable(long lsn) {
+        while (durableLsn < lsn) {
+            if (failure != null) {
+                throw new UncheckedIOException("WAL 기록 실패", failure);
+            }
+            if (closed) {
+                throw new IllegalStateException("WAL 이 닫혔습니다");
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("WAL 기록 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 이후 로그 정리: upToLsn 이하 엔트리를 버리고 그 뒤 엔트리만 남긴다
+     *
+     * upToLsn 까지의 엔트리는 스냅샷(매핑 파일)에 이미 반영·fsync 되어 있어야 한다.
+     * 남길 엔트리가 있으면 임시 파일에 복사·fsync 한 뒤 원자적으로 바꿔치우므로
+     * 도중에 비정상 종료해도 이전 로그나 새 로그 중 하나가 온전히 남는다.
+     */
+    synchronized void truncate(long upToLsn) throws IOException {
+        while (committing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("WAL 정리 대기 중 인터럽트", e);
+            }
+        }
+
+        long size = channel.size();
+        long keepFrom = offsetAfter(upToLsn, size);
+        if (keepFrom == 0) {
+            return;
+        }
+        if (keepFrom == size) {
+            channel.truncate(0);
+            channel.force(true);
+            return;
+        }
+
+        Path temp = tempPath(path);
+        try (FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (long copied = 0; copied < size - keepFrom; ) {
+                copied += channel.transferTo(keepFrom + copied, size - keepFrom - copied, target);
+            }
+            target.force(true);
+        }
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(path.getParent());
+
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+    }
+
+    synchronized long appendedLsn() {
+        return appendedLsn;
+    }
+
+    /**
+     * LSN 이 upToLsn 보다 큰 첫 엔트리의 파일 위치 (없으면 파일 끝)
+     */
+    private long offsetAfter(long upToLsn, long size) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+        long position = 0;
+        while (position + ENTRY_HEADER_SIZE <= size) {
+            header.clear();
+            while (header.hasRemaining() && channel.read(header, position + header.position()) >= 0) {
+                // 헤더 전체를 읽을 때까지
+            }
+            long lsn = header.getLong(0);
+            if (lsn > upToLsn) {
+                return position;
+            }
+            position += ENTRY_HEADER_SIZE + header.getInt(12);
+        }
+        return size;
+    }
+
+    private static Path tempPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    /**
+     * 파일 교체(rename)가 디스크에 남도록 디렉터리 fsync (지원하지 않는 플랫폼에서는 생략)
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 fsync 생략: {}", directory, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void commitLoop() {
+        while (true) {
+            ByteArrayOutputStream batch;
+            long batchLsn;
+
+            synchronized (this) {
+                while (pending.size() == 0 && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.size() == 0) {
+                    return;
+                }
+                batch = pending;
+                batchLsn = appendedLsn;
+                pending = new ByteArrayOutputStream();
+                committing = true;
+            }
+
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                log.error("WAL 기록 실패", e);
+                synchronized (this) {
+                    failure = e;
+                    committing = false;
+                    notifyAll();
+                }
+                return;
+            }
+
+            synchronized (this) {
+                durableLsn = Math.max(durableLsn, batchLsn);
+                committing = false;
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.study.grpc.user.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중인 파일 대량 적재 1건
+ *
+ * 병렬 작업들이 LongAdder 카운터에 진행 상황을 더하고, 호출자는 언제든 현재 값을 읽을 수 있다.
+ * 거부된 줄의 사유는 처음 MAX_SAMPLE_ERRORS 건만 보관한다.
+ */
+public class UserBulkLoad {
+
+    private static final int MAX_SAMPLE_ERRORS = 100;
+
+    private final String path;
+    private final long totalBytes;
+    private final long startedAt = System.nanoTime();
+
+    private final LongAdder processedBytes = new LongAdder();
+    private final LongAdder parsedRows = new LongAdder();
+    private final LongAdder insertedRows = new LongAdder();
+    private final LongAdder rejectedRows = new LongAdder();
+    private final ConcurrentLinkedQueue<String> sampleErrors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sampleErrorCount = new AtomicInteger();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private volatile boolean cancelled;
+    private volatile long finishedAt;
+
+    UserBulkLoad(String path, long totalBytes) {
+        this.path = path;
+        this.totalBytes = totalBytes;
+    }
+
+    void addProcessedBytes(long bytes) {
+        processedBytes.add(bytes);
+    }
+
+    void addParsedRows(int rows) {
+        parsedRows.add(rows);
+    }
+
+    void addInsertedRows(int rows) {
+        insertedRows.add(rows);
+    }
+
+    void reject(String reason) {
+        rejectedRows.increment();
+        if (sampleErrorCount.getAndIncrement() < MAX_SAMPLE_ERRORS) {
+            sampleErrors.add(reason);
+        }
+    }
+
+    void complete(Throwable error) {
+        finishedAt = System.nanoTime();
+        if (error == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 적재 중단 요청 (이미 커밋된 배치는 유지)
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 완료될 때까지 최대 timeout 만큼 대기
+     *
+     * @return 완료되었으면 true
+     * @throws ExecutionException 적재가 실패한 경우 (cause 에 원인)
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException {
+        try {
+            completion.get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getProcessedBytes() {
+        return processedBytes.sum();
+    }
+
+    public long getParsedRows() {
+        return parsedRows.sum();
+    }
+
+    public long getInsertedRows() {
+        return insertedRows.sum();
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows.sum();
+    }
+
+    public List<String> getSampleErrors() {
+        return List.copyOf(sampleErrors);
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    public long getElapsedMillis() {
+        long end = completion.isDone() ? finishedAt : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - startedAt);
+    }
+}
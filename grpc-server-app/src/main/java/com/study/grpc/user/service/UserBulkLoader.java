@@ -0,0 +1,319 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.dto.UserCreateRequest;
+import com.study.grpc.user.repository.UserStore;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 로컬 파일 회원 대량 적재
+ *
+ * 서버 로컬의 CSV/NDJSON 파일을 메모리 매핑해 줄 경계에 맞춘 구간으로 나누고,
+ * 전용 fork-join 풀에서 구간별로 병렬 파싱/검증한 뒤 배치 INSERT 한다.
+ * - 구간 분할: 구간이 range-size 보다 크면 가운데 다음 줄바꿈에서 둘로 나눈다 (줄이 구간 사이에서 잘리지 않음)
+ * - 검증: UserCreateRequest 의 Bean Validation 제약을 그대로 적용하고, 실패한 줄은 거부 건수로만 센다
+ * - 적재: 구간마다 batch-size 건씩 독립 트랜잭션으로 넣는다. 배치에 중복 이메일이 있으면
+ *   그 배치만 1건씩 다시 넣어 중복 행만 거부한다
+ * 적재는 저장소에 직접 쓰므로 끝나면 미존재 ID 캐시를 비우고 통계 카운터를 DB 로 다시 맞춘다.
+ * 이미 커밋된 배치는 중단/실패해도 남는다 (재실행 시 중복 행은 거부된다).
+ * 운영용 기능이므로 시작 시 만들지 않고 첫 적재 요청에서 만든다 (@Lazy, fork-join 풀 생성도 그때).
+ */
+@Slf4j
+@Lazy
+@Service
+public class UserBulkLoader {
+
+    public enum FileFormat {
+        CSV, NDJSON
+    }
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final UserStore userStore;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserMissCache userMissCache;
+    private final UserStatsReconciler userStatsReconciler;
+    private final UserPasswordHasher userPasswordHasher;
+    private final Path directory;
+    private final long rangeSize;
+    private final ForkJoinPool pool;
+
+    public UserBulkLoader(
+            UserStore userStore,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            UserMissCache userMissCache,
+            UserStatsReconciler userStatsReconciler,
+            UserPasswordHasher userPasswordHasher,
+            @Value("${user.bulk-load.directory:./data/import}") Path directory,
+            @Value("${user.bulk-load.parallelism:4}") int parallelism,
+            @Value("${user.bulk-load.range-size:16777216}") long rangeSize) {
+        this.userStore = userStore;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.userMissCache = userMissCache;
+        this.userStatsReconciler = userStatsReconciler;
+        this.userPasswordHasher = userPasswordHasher;
+        this.directory = directory.toAbsolutePath().normalize();
+        // 매핑 1회는 2GB 미만이어야 하므로 구간 크기도 그 안으로 제한
+        this.rangeSize = Math.clamp(rangeSize, SCAN_BUFFER_SIZE, Integer.MAX_VALUE);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("user-bulk-load-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 적재 시작 (비동기)
+     *
+     * @param path      적재 디렉터리 기준 상대 경로
+     * @param batchSize 트랜잭션 1개당 행 수 (0 이하면 기본값)
+     * @throws IllegalArgumentException 경로가 적재 디렉터리 밖이거나 파일이 없는 경우
+     */
+    public UserBulkLoad start(String path, FileFormat format, int batchSize) throws IOException {
+        Path file = resolve(path);
+        int effectiveBatchSize = batchSize > 0 ? Math.min(batchSize, MAX_BATCH_SIZE) : DEFAULT_BATCH_SIZE;
+
+        // 모든 행이 같은 임시 비밀번호이므로 해시는 적재마다 한 번만 계산
+        String passwordHash = userPasswordHasher.hash(UserFileRowParser.TEMP_PASSWORD).join();
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        UserBulkLoad load = new UserBulkLoad(path, channel.size());
+        log.info("회원 대량 적재 시작: file={}, format={}, size={}, batchSize={}, parallelism={}",
+            file, format, load.getTotalBytes(), effectiveBatchSize, pool.getParallelism());
+
+        LoadRange root = new LoadRange(channel, format, effectiveBatchSize, passwordHash, load, 0, load.getTotalBytes());
+        CompletableFuture.runAsync(root::invoke, pool)
+            .whenComplete((ignored, error) -> finish(channel, load, error));
+        return load;
+    }
+
+    private Path resolve(String path) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("파일 경로는 필수입니다");
+        }
+        Path file = directory.resolve(path).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IllegalArgumentException("적재 디렉터리 밖의 파일은 읽을 수 없습니다: " + path);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("파일이 없습니다: " + path);
+        }
+        return file;
+    }
+
+    private void finish(FileChannel channel, UserBulkLoad load, Throwable error) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("적재 파일 닫기 실패: path={}", load.getPath(), e);
+        }
+
+        if (load.getInsertedRows() > 0) {
+            userMissCache.clear();
+            try {
+                userStatsReconciler.reconcile();
+            } catch (RuntimeException e) {
+                log.warn("대량 적재 후 통계 대사 실패 (다음 주기에 보정)", e);
+            }
+        }
+
+        load.complete(error);
+        if (error != null) {
+            log.error("회원 대량 적재 실패: path={}, inserted={}", load.getPath(), load.getInsertedRows(), error);
+        } else {
+            log.info("회원 대량 적재 완료: path={}, parsed={}, inserted={}, rejected={}, cancelled={}, elapsed={}ms",
+                load.getPath(), load.getParsedRows(), load.getInsertedRows(), load.getRejectedRows(),
+                load.isCancelled(), load.getElapsedMillis());
+        }
+    }
+
+    /**
+     * 파일의 [start, end) 구간 (start 는 항상 줄의 시작)
+     */
+    private final class LoadRange extends RecursiveAction {
+
+        private final FileChannel channel;
+        private final FileFormat format;
+        private final int batchSize;
+        private final String passwordHash;
+        private final UserBulkLoad load;
+        private final long start;
+        private final long end;
+
+        LoadRange(FileChannel channel, FileFormat format, int batchSize, String passwordHash, UserBulkLoad load,
+                  long start, long end) {
+            this.channel = channel;
+            this.format = format;
+            this.batchSize = batchSize;
+            this.passwordHash = passwordHash;
+            this.load = load;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                if (end - start > rangeSize) {
+                    long split = nextLineStart(start + (end - start) / 2);
+                    if (split < end) {
+                        invokeAll(
+                            new LoadRange(channel, format, batchSize, passwordHash, load, start, split),
+                            new LoadRange(channel, format, batchSize, passwordHash, load, split, end));
+                        return;
+                    }
+                }
+                loadLines();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * position 이후 첫 줄바꿈 다음 위치 (줄바꿈이 없으면 end)
+         */
+        private long nextLineStart(long position) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long offset = position;
+            while (offset < end) {
+                buffer.clear();
+                int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return offset + i + 1;
+                    }
+                }
+                offset += read;
+            }
+            return end;
+        }
+
+        private void loadLines() throws IOException {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            List<User> batch = new ArrayList<>(batchSize);
+            byte[] line = new byte[256];
+            int length = 0;
+            long lineStart = start;
+            long flushedAt = start;
+            int parsed = 0;
+
+            for (int i = 0, size = mapped.limit(); i <= size && !load.isCancelled(); i++) {
+                byte b = i < size ? mapped.get(i) : (byte) '\n';
+                if (b != '\n') {
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, length * 2);
+                    }
+                    line[length++] = b;
+                    continue;
+                }
+
+                int textLength = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+                if (textLength > 0) {
+                    String text = new String(line, 0, textLength, StandardCharsets.UTF_8);
+                    if (!(lineStart == 0 && format == FileFormat.CSV && UserFileRowParser.isCsvHeader(text))) {
+                        parsed++;
+                        User user = toUser(text, lineStart);
+                        if (user != null) {
+                            batch.add(user);
+                        }
+                    }
+                }
+                length = 0;
+                lineStart = start + i + 1;
+
+                if (batch.size() == batchSize) {
+                    insert(batch);
+                    batch = new ArrayList<>(batchSize);
+                    load.addParsedRows(parsed);
+                    load.addProcessedBytes(Math.min(lineStart, end) - flushedAt);
+                    parsed = 0;
+                    flushedAt = Math.min(lineStart, end);
+                }
+            }
+
+            if (!batch.isEmpty() && !load.isCancelled()) {
+                insert(batch);
+            }
+            load.addParsedRows(parsed);
+            load.addProcessedBytes(Math.min(lineStart, end) - flushedAt);
+        }
+
+        /**
+         * @return 검증을 통과한 회원, 거부된 줄이면 null
+         */
+        private User toUser(String text, long offset) {
+            UserCreateRequest request;
+            try {
+                request = format == FileFormat.CSV
+                    ? UserFileRowParser.parseCsv(text)
+                    : UserFileRowParser.parseNdjson(text);
+            } catch (IllegalArgumentException e) {
+                load.reject("offset=" + offset + ": " + e.getMessage());
+                return null;
+            }
+
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                load.reject("offset=" + offset + ": " + violations.iterator().next().getMessage());
+                return null;
+            }
+            return request.toEntity(passwordHash);
+        }
+
+        private void insert(List<User> batch) {
+            try {
+                Integer inserted = transactionTemplate.execute(status -> userStore.insertAll(batch));
+                load.addInsertedRows(inserted == null ? 0 : inserted);
+            } catch (DataIntegrityViolationException e) {
+                // 중복 이메일이 섞인 배치: insertAll 은 전부 저장하거나 아무것도 저장하지 않으므로 1건씩 다시 넣어 중복만 거부
+                for (User user : batch) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> userStore.insertAll(List.of(user)));
+                        load.addInsertedRows(1);
+                    } catch (DataIntegrityViolationException duplicate) {
+                        load.reject("이미 사용 중인 이메일입니다: " + user.getEmail());
+                    }
+                }
+            }
+        }
+    }
+}
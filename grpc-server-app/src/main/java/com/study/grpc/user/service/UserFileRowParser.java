@@ -0,0 +1,213 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.user.dto.UserCreateRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 적재 파일의 한 줄 → 회원 가입 요청 변환
+ *
+ * CSV: email,name,phone_number (따옴표 필드와 "" 이스케이프 지원, phone_number 생략 가능)
+ * NDJSON: 한 줄에 평평한 JSON 객체 1개 ({"email": ..., "name": ..., "phone_number": ...})
+ * 비밀번호는 BatchCreateUsers 와 같이 임시 비밀번호로 채운다.
+ */
+final class UserFileRowParser {
+
+    static final String TEMP_PASSWORD = "TempPassword123!";
+
+    private UserFileRowParser() {
+    }
+
+    /**
+     * CSV 헤더 줄인지 (첫 줄이 email 로 시작하면 헤더로 본다)
+     */
+    static boolean isCsvHeader(String line) {
+        return line.regionMatches(true, 0, "email", 0, 5) && !line.contains("@");
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 줄
+     */
+    static UserCreateRequest parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 2 || fields.size() > 3) {
+            throw new IllegalArgumentException("CSV 필드 수가 올바르지 않습니다: " + fields.size());
+        }
+        return UserCreateRequest.builder()
+            .email(fields.get(0).trim())
+            .password(TEMP_PASSWORD)
+            .name(fields.get(1).trim())
+            .phoneNumber(fields.size() == 3 && !fields.get(2).isBlank() ? fields.get(2).trim() : null)
+            .build();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 줄
+     */
+    static UserCreateRequest parseNdjson(String line) {
+        JsonLine json = new JsonLine(line);
+        String email = null;
+        String name = null;
+        String phoneNumber = null;
+
+        json.expect('{');
+        if (!json.consume('}')) {
+            do {
+                String key = json.readString();
+                json.expect(':');
+                String value = json.readValue();
+                switch (key) {
+                    case "email" -> email = value;
+                    case "name" -> name = value;
+                    case "phone_number", "phoneNumber" -> phoneNumber = value;
+                    default -> {
+                        // 알 수 없는 필드는 무시
+                    }
+                }
+            } while (json.consume(','));
+            json.expect('}');
+        }
+        json.expectEnd();
+
+        return UserCreateRequest.builder()
+            .email(email)
+            .password(TEMP_PASSWORD)
+            .name(name)
+            .phoneNumber(phoneNumber == null || phoneNumber.isBlank() ? null : phoneNumber)
+            .build();
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 평평한 JSON 객체 1줄 읽기 (중첩 객체/배열 값은 지원하지 않음)
+     */
+    private static final class JsonLine {
+
+        private final String text;
+        private int pos;
+
+        JsonLine(String text) {
+            this.text = text;
+        }
+
+        void expect(char c) {
+            if (!consume(c)) {
+                throw new IllegalArgumentException("JSON 형식 오류: '" + c + "' 위치=" + pos);
+            }
+        }
+
+        boolean consume(char c) {
+            skipWhitespace();
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw new IllegalArgumentException("JSON 형식 오류: 객체 뒤에 내용이 있습니다");
+            }
+        }
+
+        /**
+         * 문자열은 값 그대로, null 은 null, 숫자/불리언은 문자열로 반환
+         */
+        String readValue() {
+            skipWhitespace();
+            if (pos < text.length() && text.charAt(pos) == '"') {
+                return readString();
+            }
+            int start = pos;
+            while (pos < text.length() && ",}".indexOf(text.charAt(pos)) < 0) {
+                char c = text.charAt(pos);
+                if (c == '{' || c == '[') {
+                    throw new IllegalArgumentException("JSON 형식 오류: 중첩 값은 지원하지 않습니다");
+                }
+                pos++;
+            }
+            String literal = text.substring(start, pos).trim();
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("JSON 형식 오류: 값이 없습니다 위치=" + start);
+            }
+            return "null".equals(literal) ? null : literal;
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 't' -> value.append('\t');
+                    case 'r' -> value.append('\r');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) {
+                            throw new IllegalArgumentException("JSON 형식 오류: 잘못된 유니코드 이스케이프");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                    }
+                    default -> value.append(escaped);
+                }
+            }
+            throw new IllegalArgumentException("JSON 형식 오류: 닫히지 않은 문자열");
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.study.grpc.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 존재하지 않는 회원 ID 캐시 (negative lookup cache)
+ *
+ * 없는 ID 를 반복 조회하는 요청이 매번 저장소까지 내려가지 않도록 짧은 시간(ttl) 동안 "없음"을 기억한다.
+ * - 회원이 생성되면 커밋 후 해당 ID 를 제거한다
+ * - replica 에서 읽은 미존재는 복제 지연일 수 있으므로 기록하지 않는다 (UserService)
+ * - 최대 개수(max-entries)에 도달하면 만료 항목을 정리하고, 그래도 가득 차면 전부 비운다
+ * - ttl 을 0 으로 두면 캐시를 사용하지 않는다
+ */
+@Slf4j
+@Component
+public class UserMissCache {
+
+    private final ConcurrentHashMap<Long, Long> expiresAt = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    public UserMissCache(
+            @Value("${user.miss-cache.max-entries:100000}") int maxEntries,
+            @Value("${user.miss-cache.ttl:2s}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 최근에 없다고 확인된 ID 인지
+     */
+    public boolean isMissing(Long id) {
+        Long expiry = expiresAt.get(id);
+        if (expiry == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiry >= 0) {
+            expiresAt.remove(id, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 없는 ID 기록
+     */
+    public void recordMiss(Long id) {
+        if (ttlNanos <= 0 || id == null) {
+            return;
+        }
+        if (expiresAt.size() >= maxEntries) {
+            evict();
+        }
+        expiresAt.put(id, System.nanoTime() + ttlNanos);
+    }
+
+    /**
+     * 생성된 회원 ID 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidate(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    expiresAt.remove(id);
+                }
+            });
+        } else {
+            expiresAt.remove(id);
+        }
+    }
+
+    /**
+     * 전체 비우기 (저장소를 직접 일괄 변경한 경우)
+     */
+    public void clear() {
+        expiresAt.clear();
+    }
+
+    public int size() {
+        return expiresAt.size();
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        expiresAt.entrySet().removeIf(entry -> now - entry.getValue() >= 0);
+        if (expiresAt.size() >= maxEntries) {
+            log.debug("미존재 ID 캐시 가득 참, 전체 비움: size={}", expiresAt.size());
+            expiresAt.clear();
+        }
+    }
+}
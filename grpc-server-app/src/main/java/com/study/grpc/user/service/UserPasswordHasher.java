@@ -0,0 +1,217 @@
+package com.study.grpc.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시 전용 풀
+ *
+ * BCrypt 해시는 건당 수십 ms 의 CPU 를 쓰므로 gRPC 핸들러 스레드가 아닌 전용 스레드(threads 개)에서 계산한다.
+ * - 대기열: 요청은 레인(lane)별 FIFO 에 쌓이고, 작업자는 대기 중인 레인을 돌아가며 1건씩 꺼낸다.
+ *   단건 가입은 공용 레인을, BatchCreateUsers/SyncUsers 스트림은 스트림마다 자기 레인을 쓰므로
+ *   스트림 하나가 몰아서 보내도 다른 요청과 번갈아 처리된다
+ * - 상한: 전체 대기 건수가 max-queued 에 닿으면 RejectedExecutionException 으로 바로 실패시킨다.
+ *   스트림은 레인당 lane-window 건까지만 요청을 받아(gRPC 흐름 제어) 상한에 닿지 않도록 한다
+ * - 완료: 결과 Future 는 가상 스레드에서 완료하므로 이어지는 DB 저장이 해시 스레드를 점유하지 않는다
+ */
+@Slf4j
+@Component
+public class UserPasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int maxQueued;
+    private final int laneWindow;
+    private final Lane sharedLane = new Lane("shared");
+    private final List<Thread> workers = new ArrayList<>();
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // lock 으로 보호: 대기 작업이 있는 레인 (돌아가며 처리)
+    private final Object lock = new Object();
+    private final Deque<Lane> readyLanes = new ArrayDeque<>();
+    private int queued;
+    private int maxObservedQueued;
+    private boolean shutdown;
+
+    private final LongAdder hashedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong since = new AtomicLong(System.currentTimeMillis());
+
+    public UserPasswordHasher(
+            @Value("${user.password-hash.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${user.password-hash.threads:2}") int threads,
+            @Value("${user.password-hash.max-queued:1000}") int maxQueued,
+            @Value("${user.password-hash.lane-window:16}") int laneWindow) {
+        this.passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        this.maxQueued = Math.max(1, maxQueued);
+        this.laneWindow = Math.max(1, laneWindow);
+
+        for (int i = 0; i < Math.max(1, threads); i++) {
+            workers.add(Thread.ofPlatform()
+                .name("user-password-hash-" + i)
+                .daemon()
+                .start(this::work));
+        }
+        log.info("비밀번호 해시 풀 시작: bcryptStrength={}, threads={}, maxQueued={}, laneWindow={}",
+            bcryptStrength, workers.size(), this.maxQueued, this.laneWindow);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+        workers.forEach(Thread::interrupt);
+        completionExecutor.shutdown();
+    }
+
+    /**
+     * 공용 레인에서 해시 (단건 가입)
+     */
+    public CompletableFuture<String> hash(String rawPassword) {
+        return sharedLane.hash(rawPassword);
+    }
+
+    /**
+     * 스트림 1개가 쓸 레인 (대기 작업이 없으면 따로 정리할 필요 없음)
+     */
+    public Lane newLane(String name) {
+        return new Lane(name);
+    }
+
+    /**
+     * 스트림이 한 번에 맡길 수 있는 해시 건수 (흐름 제어 창 크기)
+     */
+    public int getLaneWindow() {
+        return laneWindow;
+    }
+
+    public Stats stats() {
+        synchronized (lock) {
+            return new Stats(hashedCount.sum(), rejectedCount.sum(), TimeUnit.NANOSECONDS.toMicros(hashNanos.sum()),
+                queued, maxObservedQueued, readyLanes.size(), workers.size(), since.get());
+        }
+    }
+
+    /**
+     * 누적 건수와 최대 대기 건수 초기화
+     */
+    public void resetStats() {
+        synchronized (lock) {
+            hashedCount.reset();
+            rejectedCount.reset();
+            hashNanos.reset();
+            maxObservedQueued = queued;
+            since.set(System.currentTimeMillis());
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Task task;
+            synchronized (lock) {
+                while (readyLanes.isEmpty() && !shutdown) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        if (shutdown) {
+                            return;
+                        }
+                    }
+                }
+                if (shutdown) {
+                    return;
+                }
+                Lane lane = readyLanes.pollFirst();
+                task = lane.tasks.pollFirst();
+                if (!lane.tasks.isEmpty()) {
+                    readyLanes.addLast(lane);
+                }
+                queued--;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                String hash = passwordEncoder.encode(task.rawPassword);
+                hashNanos.add(System.nanoTime() - startedAt);
+                hashedCount.increment();
+                completionExecutor.execute(() -> task.result.complete(hash));
+            } catch (RuntimeException e) {
+                task.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 해시 대기열 레인
+     */
+    public final class Lane {
+
+        private final String name;
+        private final Deque<Task> tasks = new ArrayDeque<>();
+
+        private Lane(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return 해시가 끝나면 완료되는 Future (대기열이 가득 차면 RejectedExecutionException 으로 실패)
+         */
+        public CompletableFuture<String> hash(String rawPassword) {
+            Task task = new Task(rawPassword);
+            synchronized (lock) {
+                if (shutdown || queued >= maxQueued) {
+                    rejectedCount.increment();
+                    return CompletableFuture.failedFuture(new RejectedExecutionException(
+                        "비밀번호 해시 대기열이 가득 찼습니다: lane=" + name + ", queued=" + queued));
+                }
+                if (tasks.isEmpty()) {
+                    readyLanes.addLast(this);
+                }
+                tasks.addLast(task);
+                queued++;
+                maxObservedQueued = Math.max(maxObservedQueued, queued);
+                lock.notify();
+            }
+            return task.result;
+        }
+    }
+
+    private static final class Task {
+
+        private final String rawPassword;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        Task(String rawPassword) {
+            this.rawPassword = rawPassword;
+        }
+    }
+
+    /**
+     * 해시 풀 현황
+     *
+     * @param totalHashMicros 해시 계산에 쓴 시간 합계 (대기 시간 제외)
+     * @param activeLanes     대기 작업이 있는 레인 수
+     * @param since           누적 시작 시각 (epoch millis)
+     */
+    public record Stats(long hashedCount, long rejectedCount, long totalHashMicros, int queueDepth,
+                        int maxQueueDepth, int activeLanes, int threads, long since) {
+    }
+}
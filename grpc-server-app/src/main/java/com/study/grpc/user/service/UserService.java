@@ -1,20 +1,38 @@
 package com.study.grpc.user.service;
 
+import com.study.grpc.common.datasource.ReadConsistencyInterceptor;
+import com.study.grpc.common.datasource.ReadWriteRoutingDataSource;
 import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
 import com.study.grpc.user.domain.UserStatus;
+import com.study.grpc.user.dto.UserBatchUpdateResult;
+import com.study.grpc.user.dto.UserBulkStatusUpdateResult;
 import com.study.grpc.user.dto.UserCreateRequest;
 import com.study.grpc.user.dto.UserResponse;
 import com.study.grpc.user.dto.UserUpdateRequest;
 import com.study.grpc.user.exception.DuplicateEmailException;
 import com.study.grpc.user.exception.InvalidUserStatusException;
 import com.study.grpc.user.exception.UserNotFoundException;
-import com.study.grpc.user.repository.UserRepository;
+import com.study.grpc.user.exception.UserVersionConflictException;
+import com.study.grpc.user.repository.UserStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,33 +46,59 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final UserStore userStore;
+    private final UserStatsCounter userStatsCounter;
+    private final UserMissCache userMissCache;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 일괄 상태 변경 UPDATE 1문장당 ID 수 (IN 목록 크기)
+     */
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1_000;
 
     /**
      * 회원 가입
      *
-     * @param request 회원 가입 요청 DTO
+     * @param request      회원 가입 요청 DTO
+     * @param passwordHash 요청 비밀번호의 해시 (UserPasswordHasher 에서 미리 계산)
      * @return 생성된 회원 정보
      * @throws DuplicateEmailException 이메일이 이미 존재하는 경우
      */
     @Transactional
-    public UserResponse createUser(UserCreateRequest request) {
+    public UserResponse createUser(UserCreateRequest request, String passwordHash) {
         log.info("회원 가입 시도: email={}", request.getEmail());
 
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // 이메일 중복 확인 (대소문자만 다른 이메일도 같은 주소로 본다)
+        if (userStore.existsByEmailIgnoringCase(request.getEmail())) {
             log.warn("이메일 중복: {}", request.getEmail());
             throw new DuplicateEmailException(request.getEmail());
         }
 
         // Entity 생성 및 저장
-        User user = request.toEntity();
-        User savedUser = userRepository.save(user);
+        User user = request.toEntity(passwordHash);
+        User savedUser = userStore.save(user);
+        userStatsCounter.recordCreated(savedUser.getStatus());
+        userMissCache.invalidate(savedUser.getId());
 
         log.info("회원 가입 완료: id={}, email={}", savedUser.getId(), savedUser.getEmail());
         return UserResponse.from(savedUser);
     }
 
+    /**
+     * 이미 사용 중인 이메일 조회 (대소문자 무시, 가입 시 중복 확인과 같은 기준)
+     *
+     * @param emails 확인할 이메일 목록
+     * @return 요청 중 이미 사용 중인 이메일 (요청 순서, 요청에 적힌 그대로, 항상 primary 에서 조회)
+     */
+    public List<String> findTakenEmails(Collection<String> emails) {
+        log.debug("이메일 사용 여부 조회: count={}", emails.size());
+
+        // 중복 확인이므로 복제 지연으로 방금 생성된 회원을 놓치지 않도록 primary 에서 읽음
+        return ReadConsistencyInterceptor.onPrimary(() -> emails.stream()
+                .filter(userStore::existsByEmailIgnoringCase)
+                .toList());
+    }
+
     /**
      * ID로 회원 조회
      *
@@ -65,12 +109,75 @@ public class UserService {
     public UserResponse getUserById(Long id) {
         log.debug("회원 조회: id={}", id);
 
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(id));
+        if (userMissCache.isMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+        User user = userStore.findById(id)
+                .orElseThrow(() -> notFound(id));
+
+        return UserResponse.from(user);
+    }
+
+    /**
+     * ID로 회원 조회 (요청 필드만 조회)
+     *
+     * @param id     회원 ID
+     * @param fields 조회할 필드
+     * @return fields 에 포함된 필드만 채워진 회원 정보
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
+     */
+    public UserResponse getUserById(Long id, Set<UserField> fields) {
+        log.debug("회원 조회: id={}, fields={}", id, fields);
+
+        if (userMissCache.isMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+        User user = userStore.findProjectedById(id, fields)
+                .orElseThrow(() -> notFound(id));
 
         return UserResponse.from(user);
     }
 
+    /**
+     * ID 목록으로 회원 조회 (요청 필드만 조회)
+     *
+     * @param ids    회원 ID 목록
+     * @param fields 조회할 필드
+     * @return 존재하는 회원 목록 (순서 보장 없음)
+     */
+    public List<UserResponse> getUsersByIds(Collection<Long> ids, Set<UserField> fields) {
+        log.debug("회원 일괄 조회: count={}, fields={}", ids.size(), fields);
+
+        return userStore.findProjectedAllById(ids, fields).stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원 버전 조회 (엔티티를 로딩하지 않음)
+     *
+     * @param id 회원 ID
+     * @return 현재 버전
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
+     */
+    public long getUserVersion(Long id) {
+        if (userMissCache.isMissing(id)) {
+            throw new UserNotFoundException(id);
+        }
+        return userStore.findVersionById(id)
+                .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * 회원 ID별 버전 조회 (엔티티를 로딩하지 않음)
+     *
+     * @param ids 회원 ID 목록
+     * @return 회원 ID별 현재 버전 (존재하지 않는 ID 는 제외)
+     */
+    public Map<Long, Long> getUserVersions(Collection<Long> ids) {
+        return userStore.findVersionsById(ids);
+    }
+
     /**
      * 전체 회원 목록 조회
      *
@@ -79,7 +186,56 @@ public class UserService {
     public List<UserResponse> getAllUsers() {
         log.debug("전체 회원 목록 조회");
 
-        return userRepository.findAll().stream()
+        return userStore.findAll().stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원 목록 페이지 조회 (요청 필드만 조회)
+     *
+     * @param status 상태 필터 (null 이면 전체)
+     * @param sort   정렬 기준
+     * @param page   페이지 번호 (0부터)
+     * @param size   페이지 크기
+     * @param fields 조회할 필드
+     * @return fields 에 포함된 필드만 채워진 회원 목록
+     */
+    public List<UserResponse> getUsers(UserStatus status, UserSortOrder sort, int page, int size, Set<UserField> fields) {
+        log.debug("회원 목록 조회: status={}, sort={}, page={}, size={}, fields={}", status, sort, page, size, fields);
+
+        return userStore.findProjectedPage(status, sort, page, size, fields).stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 워터마크 이후 변경된 회원 조회 (삭제된 회원 포함)
+     *
+     * @param updatedAfter  워터마크 변경 시각
+     * @param cursor        워터마크 시각 안에서 마지막으로 받은 ID
+     * @param settledBefore 이 시각 이후 변경분은 제외
+     * @param limit         최대 건수
+     * @return (updatedAt, id) 순서의 변경된 회원 목록 (항상 primary 에서 조회)
+     */
+    public List<UserResponse> getUsersChangedSince(
+            LocalDateTime updatedAfter, long cursor, LocalDateTime settledBefore, int limit) {
+        log.debug("회원 변경분 조회: updatedAfter={}, cursor={}, limit={}", updatedAfter, cursor, limit);
+
+        // 워터마크 뒤로 누락이 생기지 않도록 replica 지연 없이 primary 에서 읽음
+        return ReadConsistencyInterceptor.onPrimary(() ->
+                userStore.findChangedSince(updatedAfter, cursor, settledBefore, limit)).stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * afterId 이후 회원을 ID 순서로 조회 (내보내기용 keyset 순회)
+     *
+     * @param status null 이면 전체 (삭제된 회원 포함)
+     */
+    public List<UserResponse> getUsersAfterId(long afterId, UserStatus status, int limit) {
+        return userStore.findAfterId(afterId, status, limit).stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
     }
@@ -92,7 +248,7 @@ public class UserService {
     public List<UserResponse> getActiveUsers() {
         log.debug("활성 회원 목록 조회");
 
-        return userRepository.findAllActiveUsers().stream()
+        return userStore.findAllActiveUsers().stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
     }
@@ -106,7 +262,7 @@ public class UserService {
     public List<UserResponse> searchUsersByName(String name) {
         log.debug("회원 검색: name={}", name);
 
-        return userRepository.findByNameContaining(name).stream()
+        return userStore.findByNameContaining(name).stream()
                 .map(UserResponse::from)
                 .collect(Collectors.toList());
     }
@@ -119,23 +275,72 @@ public class UserService {
      * @return 수정된 회원 정보
      * @throws UserNotFoundException 회원을 찾을 수 없는 경우
      * @throws InvalidUserStatusException 삭제된 회원인 경우
+     * @throws UserVersionConflictException 기대 버전과 현재 버전이 다른 경우
      */
     @Transactional
     public UserResponse updateUser(Long id, UserUpdateRequest request) {
         log.info("회원 정보 수정: id={}", id);
 
-        User user = userRepository.findById(id)
+        User user = userStore.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
 
         // 삭제된 회원은 수정 불가
         if (user.getStatus() == UserStatus.DELETED) {
             throw new InvalidUserStatusException("삭제된 회원은 수정할 수 없습니다.");
         }
+        checkVersion(user, request.getExpectedVersion());
 
         user.updateInfo(request.getName(), request.getPhoneNumber());
+        User savedUser = userStore.save(user);
+        userStore.flush();
 
         log.info("회원 정보 수정 완료: id={}", id);
-        return UserResponse.from(user);
+        return UserResponse.from(savedUser);
+    }
+
+    /**
+     * 회원 정보 일괄 수정
+     *
+     * 여러 회원의 수정 요청을 한 트랜잭션에서 처리한다.
+     * 회원별 실패(미존재, 삭제됨)는 전체를 롤백하지 않고 결과에 담아 반환한다.
+     *
+     * @param requests 회원 ID별 수정 요청
+     * @return 수정 결과
+     */
+    @Transactional
+    public UserBatchUpdateResult updateUsers(Map<Long, UserUpdateRequest> requests) {
+        log.info("회원 정보 일괄 수정: count={}", requests.size());
+
+        Map<Long, User> users = userStore.findAllById(requests.keySet()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<User> savedUsers = new ArrayList<>();
+        Map<Long, RuntimeException> failures = new LinkedHashMap<>();
+
+        requests.forEach((id, request) -> {
+            User user = users.get(id);
+            if (user == null) {
+                failures.put(id, new UserNotFoundException(id));
+            } else if (user.getStatus() == UserStatus.DELETED) {
+                failures.put(id, new InvalidUserStatusException("삭제된 회원은 수정할 수 없습니다."));
+            } else if (request.getExpectedVersion() != null
+                    && !request.getExpectedVersion().equals(user.getVersion())) {
+                failures.put(id, new UserVersionConflictException(id, request.getExpectedVersion(), user.getVersion()));
+            } else {
+                user.updateInfo(request.getName(), request.getPhoneNumber());
+                savedUsers.add(userStore.save(user));
+            }
+        });
+
+        // 변경된 버전이 응답에 반영되도록 한 번에 flush 후 변환
+        userStore.flush();
+        Map<Long, UserResponse> updated = new LinkedHashMap<>();
+        for (User savedUser : savedUsers) {
+            updated.put(savedUser.getId(), UserResponse.from(savedUser));
+        }
+
+        log.info("회원 정보 일괄 수정 완료: updated={}, failed={}", updated.size(), failures.size());
+        return new UserBatchUpdateResult(updated, failures);
     }
 
     /**
@@ -148,10 +353,14 @@ public class UserService {
     public void deleteUser(Long id) {
         log.info("회원 삭제: id={}", id);
 
-        User user = userRepository.findById(id)
+        User user = userStore.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
 
+        UserStatus previousStatus = user.getStatus();
         user.delete();
+        userStore.save(user);
+        userStore.flush();
+        userStatsCounter.recordStatusChange(previousStatus, UserStatus.DELETED);
 
         log.info("회원 삭제 완료: id={}", id);
     }
@@ -166,15 +375,163 @@ public class UserService {
      */
     @Transactional
     public UserResponse updateUserStatus(Long id, UserStatus status) {
+        return updateUserStatus(id, status, null);
+    }
+
+    /**
+     * 회원 상태 변경 (기대 버전 확인)
+     *
+     * @param id 회원 ID
+     * @param status 변경할 상태
+     * @param expectedVersion 기대 버전 (null 이면 확인하지 않음)
+     * @return 수정된 회원 정보
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
+     * @throws UserVersionConflictException 기대 버전과 현재 버전이 다른 경우
+     */
+    @Transactional
+    public UserResponse updateUserStatus(Long id, UserStatus status, Long expectedVersion) {
         log.info("회원 상태 변경: id={}, status={}", id, status);
 
-        User user = userRepository.findById(id)
+        User user = userStore.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
+        checkVersion(user, expectedVersion);
 
+        UserStatus previousStatus = user.getStatus();
         user.updateStatus(status);
+        User savedUser = userStore.save(user);
+        userStore.flush();
+        userStatsCounter.recordStatusChange(previousStatus, status);
 
         log.info("회원 상태 변경 완료: id={}, status={}", id, status);
-        return UserResponse.from(user);
+        return UserResponse.from(savedUser);
     }
-}
 
+    /**
+     * 회원 상태 일괄 변경 (ID 목록)
+     *
+     * 엔티티를 읽지 않고 STATUS_UPDATE_CHUNK_SIZE 개씩 집합 기반 UPDATE 로 바꾼다.
+     * 청크마다 UPDATE 가 반환한 변경 전 상태별 수(행을 잠근 뒤 집계)를 통계 카운터 변경분으로 쓴다.
+     * ID 를 정렬해 처리하므로 동시에 실행된 일괄 변경끼리 행 잠금 순서가 엇갈리지 않는다.
+     *
+     * 청크마다 따로 커밋하고 updatedAt 도 청크를 쓰는 시각으로 찍는다. 작업 전체를 한 트랜잭션으로 묶으면
+     * 작업 시작 시각이 찍힌 행이 한참 뒤에 커밋되어, 그 사이 워터마크를 넘긴 변경분 동기화(SyncUsers delta)가
+     * 이 행들을 건너뛴다. 중간에 실패하면 이미 커밋된 청크는 남으며, 같은 요청을 다시 보내면 나머지만 바뀐다.
+     *
+     * @param ids 회원 ID 목록 (없는 ID 는 무시)
+     * @param status 변경할 상태
+     * @return 변경 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserBulkStatusUpdateResult updateUserStatuses(Collection<Long> ids, UserStatus status) {
+        log.info("회원 상태 일괄 변경: count={}, status={}", ids.size(), status);
+
+        List<Long> sortedIds = new ArrayList<>(new TreeSet<>(ids));
+        Map<UserStatus, Long> previousCounts = new EnumMap<>(UserStatus.class);
+        long matched = 0;
+        long updated = 0;
+
+        for (int from = 0; from < sortedIds.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = sortedIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, sortedIds.size()));
+            Map<UserStatus, Long> counts = transactionTemplate.execute(tx -> updateStatusChunk(chunk, status));
+            for (Map.Entry<UserStatus, Long> entry : counts.entrySet()) {
+                matched += entry.getValue();
+                if (entry.getKey() != status) {
+                    updated += entry.getValue();
+                    previousCounts.merge(entry.getKey(), entry.getValue(), Long::sum);
+                }
+            }
+        }
+
+        log.info("회원 상태 일괄 변경 완료: matched={}, updated={}, status={}", matched, updated, status);
+        return new UserBulkStatusUpdateResult(matched, updated, previousCounts);
+    }
+
+    /**
+     * 회원 상태 일괄 변경 (조건)
+     *
+     * 현재 상태가 currentStatus 인 회원 ID 를 ID 순서로 STATUS_UPDATE_CHUNK_SIZE 개씩 읽어(keyset)
+     * 집합 기반 UPDATE 로 바꾼다. 바뀐 회원은 조건에서 빠지므로 다음 청크는 마지막 ID 이후부터 읽는다.
+     * ID 목록 변경과 같이 청크(ID 읽기 + UPDATE)마다 따로 커밋하고 updatedAt 도 청크를 쓰는 시각으로 찍는다.
+     *
+     * @param currentStatus 현재 상태
+     * @param updatedBefore 이 시각 이전에 마지막으로 변경된 회원만 (null 이면 조건 없음)
+     * @param status 변경할 상태
+     * @return 변경 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserBulkStatusUpdateResult updateUserStatuses(
+            UserStatus currentStatus, LocalDateTime updatedBefore, UserStatus status) {
+        log.info("회원 상태 일괄 변경: currentStatus={}, updatedBefore={}, status={}",
+            currentStatus, updatedBefore, status);
+
+        Map<UserStatus, Long> previousCounts = new EnumMap<>(UserStatus.class);
+        long matched = 0;
+        long updated = 0;
+        long afterId = 0;
+
+        while (true) {
+            long cursor = afterId;
+            StatusChunk chunk = transactionTemplate.execute(tx -> {
+                List<Long> chunkIds =
+                    userStore.findIdsAfterId(cursor, currentStatus, updatedBefore, STATUS_UPDATE_CHUNK_SIZE);
+                return new StatusChunk(chunkIds, chunkIds.isEmpty() ? Map.of() : updateStatusChunk(chunkIds, status));
+            });
+            if (chunk.ids().isEmpty()) {
+                break;
+            }
+            matched += chunk.ids().size();
+            // ID 를 읽은 뒤 다른 트랜잭션이 상태를 바꿨을 수 있으므로 UPDATE 가 집계한 변경 전 상태를 그대로 씀
+            for (Map.Entry<UserStatus, Long> entry : chunk.previousCounts().entrySet()) {
+                if (entry.getKey() != status) {
+                    updated += entry.getValue();
+                    previousCounts.merge(entry.getKey(), entry.getValue(), Long::sum);
+                }
+            }
+            afterId = chunk.ids().getLast();
+            if (chunk.ids().size() < STATUS_UPDATE_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        log.info("회원 상태 일괄 변경 완료: matched={}, updated={}, status={}", matched, updated, status);
+        return new UserBulkStatusUpdateResult(matched, updated, previousCounts);
+    }
+
+    /**
+     * 청크 하나의 상태 변경 (호출자의 트랜잭션 안에서 실행, 통계 카운터는 커밋 후 반영)
+     */
+    private Map<UserStatus, Long> updateStatusChunk(List<Long> ids, UserStatus status) {
+        Map<UserStatus, Long> counts = userStore.updateStatusByIdIn(ids, status);
+        counts.forEach((previousStatus, count) -> userStatsCounter.recordStatusChanges(previousStatus, status, count));
+        return counts;
+    }
+
+    /**
+     * 조건 일괄 변경에서 한 트랜잭션으로 처리한 청크 (읽은 ID, 변경 전 상태별 수)
+     */
+    private record StatusChunk(List<Long> ids, Map<UserStatus, Long> previousCounts) {
+    }
+
+    /**
+     * 조회 실패한 ID 를 미존재 캐시에 기록하고 예외 생성
+     * replica 는 복제 지연으로 방금 생성된 회원을 못 볼 수 있으므로 primary 에서 확인한 미존재만 기록한다.
+     */
+    private UserNotFoundException notFound(Long id) {
+        if (!ReadWriteRoutingDataSource.isReplicaRead()) {
+            userMissCache.recordMiss(id);
+        }
+        return new UserNotFoundException(id);
+    }
+
+    /**
+     * 기대 버전 확인 (낙관적 락)
+     *
+     * 동시에 수정된 경우는 저장 시 @Version 검사에서 다시 한 번 걸러진다.
+     */
+    private void checkVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            log.warn("회원 버전 충돌: id={}, expected={}, current={}", user.getId(), expectedVersion, user.getVersion());
+            throw new UserVersionConflictException(user.getId(), expectedVersion, user.getVersion());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.user.domain.UserStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 통계 카운터
+ *
+ * 상태별 회원 수와 전체 회원 수를 메모리(LongAdder)에 유지한다.
+ * UserService 가 생성/삭제/상태 변경 시 트랜잭션 커밋 후에 갱신하고,
+ * UserStatsReconciler 가 시작 시와 주기적으로 DB 집계값으로 맞춘다.
+ * 대시보드 조회(GetUserStats)는 DB 를 전혀 읽지 않는다.
+ */
+@Component
+public class UserStatsCounter {
+
+    private final Map<UserStatus, LongAdder> statusCounts = new EnumMap<>(UserStatus.class);
+    private final LongAdder totalCount = new LongAdder();
+    private volatile long reconciledAt;
+
+    public UserStatsCounter() {
+        for (UserStatus status : UserStatus.values()) {
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+
+    /**
+     * 회원 생성 반영
+     */
+    public void recordCreated(UserStatus status) {
+        afterCommit(() -> {
+            statusCounts.get(status).increment();
+            totalCount.increment();
+        });
+    }
+
+    /**
+     * 회원 상태 변경 반영 (소프트 삭제 포함)
+     */
+    public void recordStatusChange(UserStatus from, UserStatus to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            statusCounts.get(from).decrement();
+            statusCounts.get(to).increment();
+        });
+    }
+
+    /**
+     * 일괄 상태 변경 반영 (from 상태였던 count 명이 to 로 바뀜)
+     */
+    public void recordStatusChanges(UserStatus from, UserStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        afterCommit(() -> {
+            statusCounts.get(from).add(-count);
+            statusCounts.get(to).add(count);
+        });
+    }
+
+    /**
+     * DB 집계값으로 카운터 재설정
+     */
+    public void reset(Map<UserStatus, Long> counts) {
+        long total = 0;
+        for (UserStatus status : UserStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            LongAdder adder = statusCounts.get(status);
+            adder.reset();
+            adder.add(count);
+            total += count;
+        }
+        totalCount.reset();
+        totalCount.add(total);
+        reconciledAt = System.currentTimeMillis();
+    }
+
+    public long countOf(UserStatus status) {
+        return statusCounts.get(status).sum();
+    }
+
+    public long total() {
+        return totalCount.sum();
+    }
+
+    public long getReconciledAt() {
+        return reconciledAt;
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 실행 (롤백된 변경은 반영하지 않음)
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.common.datasource.ReadConsistencyInterceptor;
+import com.study.grpc.user.domain.UserStatus;
+import com.study.grpc.user.repository.UserStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 회원 통계 대사(reconcile)
+ *
+ * 시작 시와 주기적으로 DB 의 상태별 집계를 읽어 UserStatsCounter 를 맞춘다.
+ * 카운터 갱신이 누락되거나(예: 직접 SQL 수정) 어긋나도 다음 대사에서 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserStatsReconciler {
+
+    private final UserStore userStore;
+    private final UserStatsCounter userStatsCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        initialDelayString = "${user.stats.reconcile-interval:PT5M}",
+        fixedDelayString = "${user.stats.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        // replica 지연이 카운터 보정값에 섞이지 않도록 primary 에서 집계
+        Map<UserStatus, Long> counts = ReadConsistencyInterceptor.onPrimary(userStore::countGroupByStatus);
+        userStatsCounter.reset(counts);
+        log.debug("회원 통계 대사 완료: total={}, counts={}", userStatsCounter.total(), counts);
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.user.dto.UserBatchUpdateResult;
+import com.study.grpc.user.dto.UserResponse;
+import com.study.grpc.user.dto.UserUpdateRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원 정보 수정 병합 버퍼 (Write-Behind)
+ *
+ * 짧은 시간(window) 안에 같은 회원에 대해 들어온 UPDATE 는 마지막 값만 남기고(last-write-wins)
+ * 모아서 한 트랜잭션(UserService.updateUsers)으로 반영한다.
+ *
+ * 보장 사항
+ * - 응답(Future 완료)은 병합된 수정이 커밋된 뒤에만 나간다. 응답을 받은 수정은 DB 에 반영된 것이다.
+ * - 응답 전의 수정은 메모리에만 있으므로 프로세스가 비정상 종료되면 유실될 수 있다.
+ *   (정상 종료 시에는 남은 버퍼를 모두 반영한다.) 클라이언트는 응답을 못 받은 요청을 멱등 키와 함께 재전송한다.
+ * - 반영은 한 번에 하나씩(flushLock) 순서대로 일어나므로 같은 회원의 수정이 뒤바뀌지 않는다.
+ * - CREATE/DELETE 등 다른 쓰기 전에 flush() 를 호출하면 이전 수정이 먼저 반영된다.
+ */
+@Slf4j
+@Component
+public class UserUpdateCoalescer {
+
+    private final UserService userService;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Object pendingLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Map<Long, PendingUpdate> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    // 쓰기 증폭 측정용 카운터
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder flushedRowCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+
+    public UserUpdateCoalescer(
+            UserService userService,
+            @Value("${user.sync.write-behind.enabled:false}") boolean enabled,
+            @Value("${user.sync.write-behind.window:20ms}") Duration window,
+            @Value("${user.sync.write-behind.max-batch-size:500}") int maxBatchSize) {
+        this.userService = userService;
+        this.enabled = enabled;
+        this.windowMillis = Math.max(1, window.toMillis());
+        this.maxBatchSize = maxBatchSize;
+
+        if (enabled) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "user-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+            log.info("Write-behind 모드 활성화: window={}ms, maxBatchSize={}", windowMillis, maxBatchSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 수정 요청을 버퍼에 추가
+     *
+     * @return 병합된 수정이 커밋되면 완료되는 Future
+     */
+    public CompletableFuture<UserResponse> submit(Long id, UserUpdateRequest request) {
+        CompletableFuture<UserResponse> future = new CompletableFuture<>();
+        boolean full;
+
+        synchronized (pendingLock) {
+            PendingUpdate update = pending.computeIfAbsent(id, key -> new PendingUpdate());
+            update.request = request;
+            update.waiters.add(future);
+            full = pending.size() >= maxBatchSize;
+        }
+        submittedCount.increment();
+
+        if (full) {
+            scheduler.execute(this::flushQuietly);
+        }
+        return future;
+    }
+
+    /**
+     * 버퍼에 쌓인 수정을 즉시 반영 (호출 스레드에서 실행)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, PendingUpdate> batch;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            Map<Long, UserUpdateRequest> requests = new LinkedHashMap<>();
+            batch.forEach((id, update) -> requests.put(id, update.request));
+
+            try {
+                UserBatchUpdateResult result = userService.updateUsers(requests);
+                flushCount.increment();
+                flushedRowCount.add(result.getUpdated().size());
+
+                batch.forEach((id, update) -> {
+                    UserResponse updated = result.getUpdated().get(id);
+                    if (updated != null) {
+                        update.waiters.forEach(waiter -> waiter.complete(updated));
+                    } else {
+                        RuntimeException failure = result.getFailures().get(id);
+                        update.waiters.forEach(waiter -> waiter.completeExceptionally(failure));
+                    }
+                });
+
+                log.debug("Write-behind flush: rows={}, failed={}",
+                    result.getUpdated().size(), result.getFailures().size());
+
+            } catch (RuntimeException e) {
+                log.error("Write-behind flush 실패: rows={}", batch.size(), e);
+                batch.values().forEach(update ->
+                    update.waiters.forEach(waiter -> waiter.completeExceptionally(e)));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 들어온 수정 요청 수
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * 커밋된 병합 수정 행 수
+     */
+    public long getFlushedRowCount() {
+        return flushedRowCount.sum();
+    }
+
+    /**
+     * 커밋된 병합 트랜잭션 수
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * 쓰기 증폭 비율 (반영된 행 수 / 요청 수)
+     */
+    public double writeAmplification() {
+        long submitted = submittedCount.sum();
+        return submitted == 0 ? 1.0 : (double) flushedRowCount.sum() / submitted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        flush();
+        log.info("Write-behind 종료: submitted={}, flushedRows={}, transactions={}, amplification={}",
+            submittedCount.sum(), flushedRowCount.sum(), flushCount.sum(), writeAmplification());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush 오류", e);
+        }
+    }
+
+    private static final class PendingUpdate {
+        private UserUpdateRequest request;
+        private final List<CompletableFuture<UserResponse>> waiters = new ArrayList<>();
+    }
+}
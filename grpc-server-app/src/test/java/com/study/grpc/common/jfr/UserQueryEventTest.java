@@ -0,0 +1,103 @@
+package com.study.grpc.common.jfr;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.repository.UserStore;
+import com.study.grpc.user.repository.mapped.MappedUserStore;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserQueryEvent 기록 테스트
+ *
+ * 이벤트는 UserStore 경계에서 기록되므로 jpa 엔진(컨텍스트의 UserStore 빈)과
+ * mapped 엔진(같은 BeanPostProcessor 로 감싼 저장소) 모두 호출마다 남아야 한다.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "logging.level.com.study.grpc=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserQueryEventTest {
+
+    @Autowired
+    private UserStore userStore;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recordsJpaStoreCalls() throws Exception {
+        List<RecordedEvent> events = record(tempDir.resolve("jpa.jfr"), () -> {
+            userStore.save(newUser("jfr-jpa@query.test"));
+            userStore.findByEmail("jfr-jpa@query.test");
+        });
+
+        assertThat(events).extracting(event -> event.getString("query"))
+            .contains("JpaUserStore.save", "JpaUserStore.findByEmail");
+        assertThat(events).filteredOn(event -> event.getString("query").equals("JpaUserStore.findByEmail"))
+            .extracting(event -> event.getLong("rowCount"))
+            .containsExactly(1L);
+    }
+
+    @Test
+    void recordsMappedStoreCalls() throws Exception {
+        MappedUserStore target = new MappedUserStore(
+            tempDir.resolve("mapped").toString(), 1024, "none", Duration.ofHours(1));
+        try {
+            UserStore store = (UserStore) JfrEventConfig.userQueryEventPostProcessor()
+                .postProcessAfterInitialization(target, "userStore");
+
+            List<RecordedEvent> events = record(tempDir.resolve("mapped.jfr"), () -> {
+                store.save(newUser("jfr-mapped@query.test"));
+                store.existsByEmailIgnoringCase("JFR-MAPPED@query.test");
+            });
+
+            assertThat(events).extracting(event -> event.getString("query"))
+                .contains("MappedUserStore.save", "MappedUserStore.existsByEmailIgnoringCase");
+        } finally {
+            target.close();
+        }
+    }
+
+    /**
+     * UserQueryEvent 만 켜고 작업을 실행한 뒤 현재 스레드가 남긴 이벤트 반환
+     */
+    private static List<RecordedEvent> record(Path file, Runnable work) throws Exception {
+        String thread = Thread.currentThread().getName();
+        try (Recording recording = new Recording()) {
+            recording.enable(UserQueryEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getThread() != null && thread.equals(event.getThread().getJavaName()))
+            .toList();
+    }
+
+    private static User newUser(String email) {
+        return User.builder()
+            .email(email)
+            .password("TempPassword123!")
+            .name("회원")
+            .phoneNumber("010-0000-0000")
+            .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.study.grpc.common.startup;
+
+import com.study.grpc.proto.CreateUserRequest;
+import com.study.grpc.proto.GetUserRequest;
+import com.study.grpc.proto.GetUserResponse;
+import com.study.grpc.proto.UserServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 서버 시작 시간 벤치마크
+ *
+ * 풀어 둔 bootJar(build/fast-start)를 모드별로 새 JVM 에서 띄우고, 프로세스 시작부터 첫 GetUser 성공 응답까지 걸린 시간을 잰다.
+ * - jit: 기본 설정 그대로
+ * - aot: Spring AOT + fast-start 프로필 (지연 저장소 초기화)
+ * - aot-cache: aot + 학습 실행으로 만든 JDK AOT 캐시
+ * 시작 직후 DB 는 비어 있으므로 실행마다 첫 요청으로 CreateUser 를 보내 회원을 만들고, 그 회원의 GetUser 가 성공할 때까지 잰다.
+ * (NOT_FOUND 는 미존재 캐시에서 끝날 수 있어 조회 경로를 거치지 않으므로 성공으로 보지 않는다. 측정값에는 CreateUser 1건이 포함된다)
+ *
+ * 실행: ./gradlew :grpc-server-app:startupBenchmark (aotCacheTraining 에 의존, check/test 에서는 제외)
+ */
+@Tag("startup")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StartupTimeBenchmark {
+
+    private static final int RUNS = 5;
+    private static final long STARTUP_TIMEOUT_MILLIS = 120_000;
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    private final Map<String, long[]> results = new LinkedHashMap<>();
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void compareStartupModes() throws Exception {
+        String java = System.getProperty("startup.java");
+        String jar = System.getProperty("startup.jar");
+        String aotCache = System.getProperty("startup.aotCache");
+        assumeTrue(java != null && jar != null && aotCache != null, "startupBenchmark 태스크로 실행해야 합니다");
+        assertThat(Path.of(aotCache)).exists();
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jit", List.of());
+        modes.put("aot", List.of("-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast-start"));
+        modes.put("aot-cache", List.of("-XX:AOTCache=" + aotCache,
+            "-Dspring.aot.enabled=true", "-Dspring.profiles.active=fast-start"));
+
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            long[] millis = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                millis[i] = timeToFirstGetUser(java, jar, mode.getValue());
+            }
+            results.put(mode.getKey(), millis);
+        }
+    }
+
+    /**
+     * 서버 프로세스 1개를 띄워 회원 1명을 만들고 첫 GetUser 성공 응답까지의 시간(ms)을 잰 뒤 종료
+     */
+    private long timeToFirstGetUser(String java, String jar, List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar, "--grpc.server.port=" + port, "--logging.level.root=WARN",
+            "--logging.level.com.study.grpc=WARN", "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            awaitListening(process, port, startedAt);
+            ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", port)
+                .usePlaintext()
+                .build();
+            try {
+                UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+                CreateUserRequest seed = CreateUserRequest.newBuilder()
+                    .setEmail("startup-" + port + "-" + System.nanoTime() + "@startup.local")
+                    .setName("시작측정")
+                    .setPhoneNumber("010-6000-0000")
+                    .build();
+                long userId = untilAvailable(process, startedAt,
+                    () -> stub.withDeadlineAfter(5, TimeUnit.SECONDS).createUser(seed).getId());
+
+                GetUserResponse user = untilAvailable(process, startedAt,
+                    () -> stub.withDeadlineAfter(5, TimeUnit.SECONDS)
+                        .getUser(GetUserRequest.newBuilder().setId(userId).build()));
+                assertThat(user.getId()).isEqualTo(userId);
+            } finally {
+                channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    /**
+     * 서버가 요청을 받을 수 있을 때까지(UNAVAILABLE 이 아닐 때까지) 호출 반복, 그 밖의 오류는 그대로 던짐
+     */
+    private static <T> T untilAvailable(Process process, long startedAt, Supplier<T> call) throws InterruptedException {
+        while (true) {
+            try {
+                return call.get();
+            } catch (StatusRuntimeException e) {
+                if (e.getStatus().getCode() != Status.Code.UNAVAILABLE) {
+                    throw e;
+                }
+                checkAlive(process, startedAt);
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 포트가 열릴 때까지 대기 (채널 재연결 backoff 가 측정값에 섞이지 않도록 TCP 연결로 먼저 확인)
+     */
+    private static void awaitListening(Process process, int port, long startedAt) throws InterruptedException {
+        while (true) {
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 100);
+                return;
+            } catch (IOException e) {
+                checkAlive(process, startedAt);
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    private static void checkAlive(Process process, long startedAt) {
+        if (!process.isAlive()) {
+            throw new IllegalStateException("서버 프로세스가 종료되었습니다: exitCode=" + process.exitValue());
+        }
+        if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) > STARTUP_TIMEOUT_MILLIS) {
+            throw new IllegalStateException("서버 시작 대기 시간 초과: " + STARTUP_TIMEOUT_MILLIS + "ms");
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void printTable() {
+        System.out.printf("[startup] %-10s %10s %10s %10s%n", "mode", "min(ms)", "median(ms)", "max(ms)");
+        results.forEach((mode, millis) -> {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            System.out.printf("[startup] %-10s %10d %10d %10d%n", mode, sorted[0], sorted[sorted.length / 2],
+                sorted[sorted.length - 1]);
+        });
+    }
+
+    private void writeResults() throws IOException {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        results.forEach((mode, millis) -> {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            properties.setProperty(mode + ".minMillis", String.valueOf(sorted[0]));
+            properties.setProperty(mode + ".medianMillis", String.valueOf(sorted[sorted.length / 2]));
+            properties.setProperty(mode + ".maxMillis", String.valueOf(sorted[sorted.length - 1]));
+        });
+
+        Path file = Path.of(System.getProperty("startup.resultFile", "build/perf/startup-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Time to first successful GetUser of a freshly created user (ms)");
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.study.grpc.common.transport;
+
+import com.study.grpc.proto.*;
+import com.study.grpc.user.grpc.UserGrpcService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Netty 전송 프로필 비교 벤치마크
+ *
+ * application.yml 의 user.transport.profiles 와 grpc-netty 기본값(default)마다 localhost TCP 서버를 띄우고,
+ * 같은 프로필을 적용한 NettyChannelBuilder 클라이언트로 기존 RPC 워크로드를 실행해 표로 출력한다.
+ * 기준값 비교 없이 측정만 하며, 결과는 build/perf/transport-results.properties 에 남긴다.
+ *
+ * 실행: ./gradlew :grpc-server-app:transportBenchmark (check/test 에서는 제외)
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "user.users.stream-delay=0",
+        "user.password-hash.bcrypt-strength=4",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransportProfileBenchmark {
+
+    private static final String DEFAULT_PROFILE = "default";
+    private static final int SEED_USERS = 100_000;
+    private static final int SEQUENTIAL_CALLS = 5_000;
+    private static final int CONCURRENT_CHANNELS = 32;
+    private static final int CONCURRENT_CALLS_PER_CHANNEL = 1_000;
+    private static final int STREAM_ROWS = 50_000;
+    private static final int EXPORT_BLOCK_SIZE = 10_000;
+
+    @Autowired
+    private UserGrpcService userGrpcService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    private final Map<String, List<Measurement>> results = new LinkedHashMap<>();
+    private long seedMinId;
+    private long seedMaxId;
+
+    @BeforeAll
+    void setUp() {
+        seedUsers();
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void compareProfiles() throws Exception {
+        Map<String, TransportProfile> profiles = new LinkedHashMap<>();
+        profiles.put(DEFAULT_PROFILE, null);
+        profiles.putAll(Binder.get(environment)
+            .bind("user.transport.profiles", Bindable.mapOf(String.class, TransportProfile.class))
+            .orElse(Map.of()));
+        assertThat(profiles).hasSizeGreaterThan(1);
+
+        for (Map.Entry<String, TransportProfile> entry : profiles.entrySet()) {
+            results.put(entry.getKey(), runProfile(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * 프로필 1개로 서버/클라이언트를 띄워 워크로드를 순서대로 실행 (profile 이 null 이면 grpc-netty 기본값)
+     */
+    private List<Measurement> runProfile(String name, TransportProfile profile) throws Exception {
+        NettyServerTransport serverTransport = profile != null ? new NettyServerTransport(name, profile) : null;
+        EventLoopGroup clientGroup = profile != null ? clientEventLoopGroup(name, profile, serverTransport.isEpoll()) : null;
+
+        NettyServerBuilder serverBuilder = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0))
+            .addService(userGrpcService);
+        if (serverTransport != null) {
+            serverTransport.apply(serverBuilder);
+        }
+        Server server = serverBuilder.build().start();
+
+        List<ManagedChannel> channels = new ArrayList<>(CONCURRENT_CHANNELS);
+        try {
+            for (int i = 0; i < CONCURRENT_CHANNELS; i++) {
+                NettyChannelBuilder channelBuilder = NettyChannelBuilder.forAddress("127.0.0.1", server.getPort())
+                    .usePlaintext();
+                if (profile != null) {
+                    applyClient(channelBuilder, profile, clientGroup, serverTransport.isEpoll());
+                }
+                channels.add(channelBuilder.build());
+            }
+
+            List<Measurement> measurements = new ArrayList<>();
+            measurements.add(sequentialGetUser(channels.getFirst()));
+            measurements.add(concurrentGetUser(channels));
+            measurements.add(getUsersStream(channels.getFirst()));
+            measurements.add(exportUsers(channels.getFirst()));
+            return measurements;
+        } finally {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            }
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            if (clientGroup != null) {
+                clientGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).await(5, TimeUnit.SECONDS);
+            }
+            if (serverTransport != null) {
+                serverTransport.close();
+            }
+        }
+    }
+
+    /**
+     * 단건 GetUser 를 하나씩 호출해 호출별 지연 분포 측정
+     */
+    private Measurement sequentialGetUser(ManagedChannel channel) {
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SEQUENTIAL_CALLS / 10; i++) {
+            stub.getUser(GetUserRequest.newBuilder().setId(randomSeedId(random)).build());
+        }
+
+        long[] latencies = new long[SEQUENTIAL_CALLS];
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < SEQUENTIAL_CALLS; i++) {
+            long callStartedAt = System.nanoTime();
+            GetUserResponse response = stub.getUser(GetUserRequest.newBuilder().setId(randomSeedId(random)).build());
+            latencies[i] = System.nanoTime() - callStartedAt;
+            assertThat(response.getId()).isPositive();
+        }
+        return Measurement.of("get-user-sequential", SEQUENTIAL_CALLS, System.nanoTime() - startedAt, latencies);
+    }
+
+    /**
+     * 채널(연결)마다 스레드 1개로 GetUser 를 동시에 호출해 연결 수가 많을 때의 처리량 측정
+     */
+    private Measurement concurrentGetUser(List<ManagedChannel> channels) throws Exception {
+        int operations = channels.size() * CONCURRENT_CALLS_PER_CHANNEL;
+        long[] latencies = new long[operations];
+        long startedAt;
+        try (ExecutorService executor = Executors.newFixedThreadPool(channels.size())) {
+            List<Future<?>> futures = new ArrayList<>(channels.size());
+            startedAt = System.nanoTime();
+            for (int c = 0; c < channels.size(); c++) {
+                int offset = c * CONCURRENT_CALLS_PER_CHANNEL;
+                UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channels.get(c));
+                SplittableRandom random = new SplittableRandom(c);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < CONCURRENT_CALLS_PER_CHANNEL; i++) {
+                        long callStartedAt = System.nanoTime();
+                        stub.getUser(GetUserRequest.newBuilder().setId(randomSeedId(random)).build());
+                        latencies[offset + i] = System.nanoTime() - callStartedAt;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.MINUTES);
+            }
+        }
+        return Measurement.of("get-user-concurrent", operations, System.nanoTime() - startedAt, latencies);
+    }
+
+    /**
+     * GetUsers 서버 스트리밍으로 한 페이지를 끝까지 받는 처리량 측정
+     */
+    private Measurement getUsersStream(ManagedChannel channel) {
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+        long startedAt = System.nanoTime();
+        Iterator<GetUsersResponse> responses = stub.getUsers(GetUsersRequest.newBuilder()
+            .setPage(0)
+            .setSize(STREAM_ROWS)
+            .build());
+
+        int received = 0;
+        while (responses.hasNext()) {
+            responses.next();
+            received++;
+        }
+        assertThat(received).isEqualTo(STREAM_ROWS);
+        return Measurement.of("get-users-stream", received, System.nanoTime() - startedAt, null);
+    }
+
+    /**
+     * ExportUsers 로 전체 회원을 압축 블록으로 받는 처리량 측정 (작업 단위: 회원 수)
+     */
+    private Measurement exportUsers(ManagedChannel channel) {
+        UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+        long startedAt = System.nanoTime();
+        Iterator<ExportUsersChunk> chunks = stub.exportUsers(ExportUsersRequest.newBuilder()
+            .setBlockSize(EXPORT_BLOCK_SIZE)
+            .build());
+
+        int users = 0;
+        while (chunks.hasNext()) {
+            users += chunks.next().getUserCount();
+        }
+        assertThat(users).isGreaterThanOrEqualTo(SEED_USERS);
+        return Measurement.of("export-users", users, System.nanoTime() - startedAt, null);
+    }
+
+    /**
+     * 서버 프로필과 같은 전송 방식, 흐름 제어 창, 수신 크기 제한을 클라이언트에 적용
+     * (grpc-client-app 의 NettyChannelTransport 와 같은 설정)
+     */
+    private static void applyClient(NettyChannelBuilder builder, TransportProfile profile,
+                                    EventLoopGroup eventLoopGroup, boolean epoll) {
+        builder.eventLoopGroup(eventLoopGroup)
+            .channelType(epoll ? EpollSocketChannel.class : NioSocketChannel.class)
+            .maxInboundMessageSize((int) profile.maxInboundMessageSize().toBytes())
+            .maxInboundMetadataSize((int) profile.maxInboundMetadataSize().toBytes());
+
+        int window = (int) profile.flowControlWindow().toBytes();
+        if (profile.autoTuneFlowControl()) {
+            builder.initialFlowControlWindow(window);
+        } else {
+            builder.flowControlWindow(window);
+        }
+    }
+
+    private static EventLoopGroup clientEventLoopGroup(String name, TransportProfile profile, boolean epoll) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory("bench-client-" + name, true);
+        int threads = Math.max(0, profile.workerThreads());
+        return epoll ? new EpollEventLoopGroup(threads, threadFactory) : new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    private void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = new ArrayList<>(SEED_USERS);
+        for (int i = 0; i < SEED_USERS; i++) {
+            rows.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+            rows, 1_000, (ps, i) -> {
+                ps.setString(1, "transport-" + i + "@perf.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-1000-" + String.format("%04d", i % 10_000));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+
+        seedMinId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        seedMaxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    private long randomSeedId(SplittableRandom random) {
+        return random.nextLong(seedMinId, seedMaxId + 1);
+    }
+
+    private void printTable() {
+        System.out.printf("[transport] %-18s %-22s %14s %10s %10s%n", "profile", "workload", "ops/s", "p50(us)", "p99(us)");
+        results.forEach((profile, measurements) -> measurements.forEach(m ->
+            System.out.printf("[transport] %-18s %-22s %14.1f %10s %10s%n", profile, m.workload(), m.opsPerSecond(),
+                m.p50Micros() < 0 ? "-" : String.valueOf(m.p50Micros()),
+                m.p99Micros() < 0 ? "-" : String.valueOf(m.p99Micros()))));
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        results.forEach((profile, measurements) -> measurements.forEach(m -> {
+            String prefix = profile + "." + m.workload() + ".";
+            properties.setProperty(prefix + "opsPerSecond", String.format("%.1f", m.opsPerSecond()));
+            if (m.p50Micros() >= 0) {
+                properties.setProperty(prefix + "p50Micros", String.valueOf(m.p50Micros()));
+                properties.setProperty(prefix + "p99Micros", String.valueOf(m.p99Micros()));
+            }
+        }));
+
+        Path file = Path.of(System.getProperty("perf.transportResultFile", "build/perf/transport-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Transport profile benchmark (localhost)");
+        }
+    }
+
+    /**
+     * 워크로드 1개 측정 결과 (지연 분포가 없는 스트리밍 워크로드는 p50/p99 = -1)
+     */
+    private record Measurement(String workload, int operations, long elapsedNanos, long p50Micros, long p99Micros) {
+
+        static Measurement of(String workload, int operations, long elapsedNanos, long[] latencies) {
+            if (latencies == null) {
+                return new Measurement(workload, operations, elapsedNanos, -1, -1);
+            }
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return new Measurement(workload, operations, elapsedNanos,
+                percentile(sorted, 0.50) / 1_000, percentile(sorted, 0.99) / 1_000);
+        }
+
+        double opsPerSecond() {
+            return operations * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.clamp(index, 0, sorted.length - 1)];
+        }
+    }
+}
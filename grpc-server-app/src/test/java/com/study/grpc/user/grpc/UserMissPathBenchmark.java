@@ -0,0 +1,285 @@
+package com.study.grpc.user.grpc;
+
+import com.study.grpc.proto.GetUserRequest;
+import com.study.grpc.proto.GetUserResponse;
+import com.study.grpc.proto.UserServiceGrpc;
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.repository.UserStore;
+import io.grpc.BindableService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GetUser 미존재(miss) 위주 트래픽 처리량 비교 벤치마크 (user-035 전/후)
+ *
+ * 임의 ID 를 훑는 요청을 흉내 내 perf.missRatio(기본 90%)는 없는 ID, 나머지는 있는 ID 로 GetUser 를 호출한다.
+ * 없는 ID 는 MISS_PROBES 개를 돌려 쓰므로 미존재 캐시 ttl 안에 같은 ID 가 다시 온다.
+ * - before: 변경 전 미존재 경로를 그대로 옮긴 서비스 (스택 트레이스가 있는 예외, 트레이스를 포함한 ERROR 로그,
+ *   예외를 그대로 onError 에 넘겨 UNKNOWN, 미존재 캐시 없음)
+ * - after: 컨텍스트의 UserGrpcService (스택 없는 도메인 예외, NOT_FOUND, 빈도 제한 WARN 로그, 미존재 캐시)
+ * 두 모드 모두 in-process directExecutor 로 호출 스레드에서 서버까지 처리하므로,
+ * 처리량과 함께 호출 스레드의 할당량으로 호출당 할당 바이트를 잰다.
+ * 로그는 실제와 같이 기록하되 콘솔 대신 build/perf/miss-path.log 파일로 보낸다.
+ * 기준값 비교 없이 build/perf/miss-path-results.properties 에 결과만 남긴다.
+ *
+ * 실행: ./gradlew :grpc-server-app:missPathBenchmark [-PmissRatio=0.9] (check/test 에서는 제외)
+ */
+@Tag("miss-path")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "logging.file.name=build/perf/miss-path.log",
+        "logging.threshold.console=OFF",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserMissPathBenchmark {
+
+    private static final int SEED_USERS = 10_000;
+    private static final int MISS_PROBES = 10_000;
+    private static final int WARMUP_CALLS = 20_000;
+
+    @Autowired
+    private UserGrpcService userGrpcService;
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final int calls = Integer.getInteger("perf.missPathCalls", 200_000);
+    private final double missRatio = Double.parseDouble(System.getProperty("perf.missRatio", "0.9"));
+    private final List<Measurement> results = new ArrayList<>();
+    private long minId;
+    private long maxId;
+
+    @BeforeAll
+    void setUp() {
+        seedUsers();
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void compareMissPath() throws Exception {
+        Measurement before = run("before", new PreviousMissPathService(userStore));
+        Measurement after = run("after", userGrpcService);
+        results.add(before);
+        results.add(after);
+
+        assertThat(before.codes()).containsKey(Status.Code.UNKNOWN).doesNotContainKey(Status.Code.NOT_FOUND);
+        assertThat(after.codes()).containsKey(Status.Code.NOT_FOUND).doesNotContainKey(Status.Code.UNKNOWN);
+    }
+
+    /**
+     * 서비스 1개를 in-process 서버에 올려 워밍업 후 calls 회 GetUser 호출
+     */
+    private Measurement run(String mode, BindableService service) throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        Server server = InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(service)
+            .build()
+            .start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(serverName)
+            .directExecutor()
+            .build();
+
+        try {
+            UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+            call(stub, new SplittableRandom(7), WARMUP_CALLS, new EnumMap<>(Status.Code.class));
+
+            Map<Status.Code, Long> codes = new EnumMap<>(Status.Code.class);
+            com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long startedAt = System.nanoTime();
+            call(stub, new SplittableRandom(42), calls, codes);
+            long elapsed = System.nanoTime() - startedAt;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            return new Measurement(mode, calls, elapsed, allocated, codes);
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * missRatio 비율로 없는 ID(MISS_PROBES 개 중 하나), 나머지는 있는 ID 로 호출하고 응답 상태별 수 집계
+     */
+    private void call(UserServiceGrpc.UserServiceBlockingStub stub, SplittableRandom random, int count,
+                      Map<Status.Code, Long> codes) {
+        for (int i = 0; i < count; i++) {
+            long id = random.nextDouble() < missRatio
+                ? maxId + 1 + random.nextInt(MISS_PROBES)
+                : random.nextLong(minId, maxId + 1);
+            Status.Code code;
+            try {
+                GetUserResponse response = stub.getUser(GetUserRequest.newBuilder().setId(id).build());
+                assertThat(response.getId()).isEqualTo(id);
+                code = Status.Code.OK;
+            } catch (StatusRuntimeException e) {
+                code = e.getStatus().getCode();
+            }
+            codes.merge(code, 1L, Long::sum);
+        }
+    }
+
+    private void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = new ArrayList<>(SEED_USERS);
+        for (int i = 0; i < SEED_USERS; i++) {
+            rows.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+            rows, 1_000, (ps, i) -> {
+                ps.setString(1, "miss-path-" + i + "@perf.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-1000-" + String.format("%04d", i % 10_000));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+
+        minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    private void printTable() {
+        System.out.printf("[miss-path] %-7s %10s %12s %16s %28s%n", "mode", "calls", "ops/s", "bytes/call", "codes");
+        results.forEach(m -> System.out.printf(Locale.ROOT, "[miss-path] %-7s %10d %12.1f %16.0f %28s%n",
+            m.mode(), m.calls(), m.opsPerSecond(), m.bytesPerCall(), m.codes()));
+        if (results.size() == 2) {
+            System.out.printf(Locale.ROOT, "[miss-path] after/before throughput: %.2fx%n",
+                results.get(1).opsPerSecond() / results.get(0).opsPerSecond());
+        }
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        results.forEach(m -> {
+            String prefix = m.mode() + ".";
+            properties.setProperty(prefix + "calls", String.valueOf(m.calls()));
+            properties.setProperty(prefix + "opsPerSecond", String.format(Locale.ROOT, "%.1f", m.opsPerSecond()));
+            properties.setProperty(prefix + "bytesPerCall", String.format(Locale.ROOT, "%.0f", m.bytesPerCall()));
+            m.codes().forEach((code, count) -> properties.setProperty(prefix + "code." + code, String.valueOf(count)));
+        });
+
+        Path file = Path.of(System.getProperty("perf.missPathResultFile", "build/perf/miss-path-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "GetUser miss path benchmark (missRatio=" + missRatio + ", probes=" + MISS_PROBES + ")");
+        }
+    }
+
+    /**
+     * 변경 전 GetUser 미존재 경로 (비교용, 응답 필드 채우기는 단순화)
+     */
+    private static final class PreviousMissPathService extends UserServiceGrpc.UserServiceImplBase {
+
+        private static final Logger log = LoggerFactory.getLogger(UserGrpcService.class);
+
+        private final UserStore userStore;
+
+        PreviousMissPathService(UserStore userStore) {
+            this.userStore = userStore;
+        }
+
+        @Override
+        public void getUser(GetUserRequest request, StreamObserver<GetUserResponse> responseObserver) {
+            try {
+                User user = userStore.findProjectedById(request.getId(), UserField.ALL)
+                    .orElseThrow(() -> new PreviousUserNotFoundException(request.getId()));
+
+                responseObserver.onNext(GetUserResponse.newBuilder()
+                    .setId(user.getId())
+                    .setEmail(user.getEmail())
+                    .setName(user.getName())
+                    .setPhoneNumber(user.getPhoneNumber())
+                    .setStatus(user.getStatus().name())
+                    .setVersion(user.getVersion())
+                    .build());
+                responseObserver.onCompleted();
+
+            } catch (Exception e) {
+                log.error("gRPC GetUser error", e);
+                responseObserver.onError(e);
+            }
+        }
+    }
+
+    /**
+     * 변경 전 UserNotFoundException (스택 트레이스를 채우는 일반 RuntimeException)
+     */
+    private static final class PreviousUserNotFoundException extends RuntimeException {
+
+        PreviousUserNotFoundException(Long id) {
+            super("회원을 찾을 수 없습니다. ID: " + id);
+        }
+    }
+
+    /**
+     * 모드 1개 측정 결과
+     */
+    private record Measurement(String mode, int calls, long elapsedNanos, long allocatedBytes,
+                               Map<Status.Code, Long> codes) {
+
+        double opsPerSecond() {
+            return calls * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double bytesPerCall() {
+            return (double) allocatedBytes / calls;
+        }
+    }
+}
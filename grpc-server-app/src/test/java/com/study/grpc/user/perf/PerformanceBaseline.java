@@ -0,0 +1,149 @@
+package com.study.grpc.user.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * 저장된 성능 기준값과 측정 결과 비교
+ *
+ * 기준값 파일 키
+ * - tolerance: 허용 악화 비율 (0.30 = 30%)
+ * - {workload}.throughput: 처리량 기준 (ops/s), 기준 × (1 - tolerance) 미만이면 실패
+ * - {workload}.alloc-per-op: 작업당 할당 기준 (bytes), 기준 × (1 + tolerance) 초과면 실패
+ * 기준값이 없는 워크로드는 실패한다 (새 워크로드는 기준값을 기록해야 회귀 검사에 들어간다).
+ *
+ * 측정 결과는 perf.resultFile 시스템 속성 경로에 같은 형식으로 저장된다.
+ * 기록 모드(perf.recordBaseline=true, recordPerformanceBaseline 태스크)에서는 비교하지 않고
+ * 측정값으로 perf.baselineFile 의 기준값을 다시 쓴다 (주석과 tolerance 는 유지).
+ */
+final class PerformanceBaseline {
+
+    private final Properties baseline;
+    private final double tolerance;
+    private final boolean recording = Boolean.getBoolean("perf.recordBaseline");
+    private final Properties results = new Properties();
+
+    private PerformanceBaseline(Properties baseline) {
+        this.baseline = baseline;
+        this.tolerance = Double.parseDouble(baseline.getProperty("tolerance", "0.30"));
+    }
+
+    static PerformanceBaseline load(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBaseline.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("성능 기준값 파일이 없습니다: " + resource);
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PerformanceBaseline(properties);
+    }
+
+    /**
+     * 측정 결과 기록 후 기준값 대비 악화 여부 확인
+     *
+     * @throws AssertionError 기준값보다 허용 범위 이상 나빠진 경우
+     */
+    void verify(WorkloadResult result) {
+        results.setProperty(result.name() + ".throughput", String.format(Locale.ROOT, "%.1f", result.throughput()));
+        results.setProperty(result.name() + ".alloc-per-op", String.valueOf(result.bytesPerOperation()));
+
+        if (recording) {
+            return;
+        }
+
+        String expectedThroughput = baseline.getProperty(result.name() + ".throughput");
+        String expectedAllocation = baseline.getProperty(result.name() + ".alloc-per-op");
+        if (expectedThroughput == null || expectedAllocation == null) {
+            throw new AssertionError("성능 기준값 없음: " + result.name()
+                + " (기준 장비에서 ./gradlew :grpc-server-app:recordPerformanceBaseline 으로 기록)");
+        }
+
+        List<String> regressions = new ArrayList<>();
+
+        double floor = Double.parseDouble(expectedThroughput) * (1 - tolerance);
+        if (result.throughput() < floor) {
+            regressions.add(String.format("throughput %.1f ops/s < %.1f (baseline %s)",
+                result.throughput(), floor, expectedThroughput));
+        }
+
+        double ceiling = Long.parseLong(expectedAllocation) * (1 + tolerance);
+        if (result.bytesPerOperation() > ceiling) {
+            regressions.add(String.format("alloc %d B/op > %.0f (baseline %s)",
+                result.bytesPerOperation(), ceiling, expectedAllocation));
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new AssertionError("성능 회귀: " + result.name() + " - " + String.join(", ", regressions));
+        }
+    }
+
+    /**
+     * 측정 결과 저장 (perf.resultFile 미지정 시 생략), 기록 모드면 기준값 파일도 갱신
+     */
+    void writeResults() {
+        String resultFile = System.getProperty("perf.resultFile");
+        try {
+            if (resultFile != null) {
+                Path path = Path.of(resultFile);
+                Files.createDirectories(path.getParent());
+                try (OutputStream out = Files.newOutputStream(path)) {
+                    results.store(out, "UserGrpcPerformanceTest results (tolerance=" + tolerance + ")");
+                }
+            }
+            if (recording) {
+                recordBaseline(Path.of(System.getProperty("perf.baselineFile")));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 기준값 파일의 주석 머리말과 tolerance 를 두고 워크로드 값을 측정 결과로 바꿔 씀
+     * (이번에 측정하지 않은 워크로드의 기존 값은 유지)
+     */
+    private void recordBaseline(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.startsWith("#")) {
+                break;
+            }
+            lines.add(line);
+        }
+        lines.add("tolerance=" + baseline.getProperty("tolerance", "0.30"));
+
+        Properties recorded = new Properties();
+        recorded.putAll(baseline);
+        recorded.remove("tolerance");
+        recorded.putAll(results);
+        recorded.stringPropertyNames().stream()
+            .sorted()
+            .forEach(key -> lines.add(key + "=" + recorded.getProperty(key)));
+
+        Files.write(file, lines);
+    }
+
+    /**
+     * JVM 시작 이후 전체 스레드의 누적 할당 바이트
+     *
+     * 이미 종료된 스레드의 할당도 포함하고, 가상 스레드의 할당은 캐리어 스레드에 합산되므로
+     * 측정 구간 중에 끝난 스레드나 가상 스레드(DB 쓰기 등)의 할당도 빠지지 않는다.
+     */
+    static long totalAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getTotalThreadAllocatedBytes();
+    }
+}
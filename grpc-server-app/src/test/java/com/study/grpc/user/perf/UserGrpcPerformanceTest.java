@@ -0,0 +1,338 @@
+package com.study.grpc.user.perf;
+
+import com.study.grpc.common.idempotency.IdempotencyKeyInterceptor;
+import com.study.grpc.proto.*;
+import com.study.grpc.user.grpc.UserGrpcService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserGrpcService 성능 회귀 테스트
+ *
+ * UserGrpcService 를 InProcessServerBuilder 에 올리고(네트워크 제외) H2 위에서 RPC 유형별 고정 워크로드를 실행한다.
+ * 워크로드마다 처리량과 작업당 할당량을 측정해 perf/baseline.properties 와 비교하고,
+ * 허용 범위를 넘어 나빠지면 실패한다.
+ *
+ * 실행: ./gradlew :grpc-server-app:performanceTest (check 에 포함, 일반 test 에서는 제외)
+ * 기준값 기록: ./gradlew :grpc-server-app:recordPerformanceBaseline
+ */
+@Tag("performance")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "user.users.stream-delay=0",
+        // RPC 경로 회귀를 보는 테스트이므로 해시 비용은 최소 강도로
+        "user.password-hash.bcrypt-strength=4",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.com.study.grpc.user.perf=INFO",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UserGrpcPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UserGrpcPerformanceTest.class);
+
+    private static final int SEED_USERS = 100_000;
+    private static final int UNARY_READS = 20_000;
+    private static final int UNARY_WRITES = 5_000;
+    private static final int BATCH_ITEMS = 50_000;
+    private static final int SYNC_REQUESTS = 10_000;
+
+    @Autowired
+    private UserGrpcService userGrpcService;
+
+    @Autowired
+    private IdempotencyKeyInterceptor idempotencyKeyInterceptor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final PerformanceBaseline baseline = PerformanceBaseline.load("perf/baseline.properties");
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private Server server;
+    private ManagedChannel channel;
+    private UserServiceGrpc.UserServiceBlockingStub blockingStub;
+    private UserServiceGrpc.UserServiceStub asyncStub;
+    private long seedMinId;
+    private long seedMaxId;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(userGrpcService, idempotencyKeyInterceptor))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(serverName)
+            .directExecutor()
+            .build();
+        blockingStub = UserServiceGrpc.newBlockingStub(channel);
+        asyncStub = UserServiceGrpc.newStub(channel);
+
+        seedUsers();
+    }
+
+    @AfterAll
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        baseline.writeResults();
+    }
+
+    @Test
+    @Order(1)
+    void unaryGetUser() throws Exception {
+        run("unary-get-user", UNARY_READS, count -> {
+            for (int i = 0; i < count; i++) {
+                GetUserResponse response = blockingStub.getUser(GetUserRequest.newBuilder()
+                    .setId(randomSeedId())
+                    .build());
+                assertThat(response.getId()).isPositive();
+            }
+        });
+    }
+
+    @Test
+    @Order(2)
+    void unaryGetUserMiss() throws Exception {
+        run("unary-get-user-miss", UNARY_READS, count -> {
+            for (int i = 0; i < count; i++) {
+                try {
+                    blockingStub.getUser(GetUserRequest.newBuilder()
+                        .setId(seedMaxId + 1_000_000 + random.nextInt(1_000))
+                        .build());
+                } catch (StatusRuntimeException e) {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+                }
+            }
+        });
+    }
+
+    @Test
+    @Order(3)
+    void unaryCreateUser() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        run("unary-create-user", UNARY_WRITES, count -> {
+            for (int i = 0; i < count; i++) {
+                CreateUserResponse response = blockingStub.createUser(createRequest("unary", sequence.incrementAndGet()));
+                assertThat(response.getId()).isPositive();
+            }
+        });
+    }
+
+    @Test
+    @Order(4)
+    void getUsersStream() throws Exception {
+        run("get-users-stream", SEED_USERS, count -> {
+            Iterator<GetUsersResponse> responses = blockingStub.getUsers(GetUsersRequest.newBuilder()
+                .setPage(0)
+                .setSize(count)
+                .build());
+
+            int received = 0;
+            while (responses.hasNext()) {
+                responses.next();
+                received++;
+            }
+            assertThat(received).isEqualTo(count);
+        });
+    }
+
+    @Test
+    @Order(5)
+    void batchCreateUsers() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        run("batch-create-users", BATCH_ITEMS, count -> {
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicReference<BatchCreateUsersResponse> result = new AtomicReference<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            StreamObserver<CreateUserRequest> requests = asyncStub.batchCreateUsers(new StreamObserver<>() {
+                @Override
+                public void onNext(BatchCreateUsersResponse value) {
+                    result.set(value);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    failure.set(t);
+                    done.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    done.countDown();
+                }
+            });
+
+            for (int i = 0; i < count; i++) {
+                requests.onNext(createRequest("batch", sequence.incrementAndGet()));
+            }
+            requests.onCompleted();
+
+            assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+            assertThat(failure.get()).isNull();
+            assertThat(result.get().getCreatedCount()).isEqualTo(count);
+        });
+    }
+
+    /**
+     * CREATE 20%, UPDATE 70%, DELETE 10% 혼합
+     */
+    @Test
+    @Order(6)
+    void syncUsersMixed() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        run("sync-users-mixed", SYNC_REQUESTS, count -> {
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicInteger responses = new AtomicInteger();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+
+            StreamObserver<SyncUsersRequest> requests = asyncStub.syncUsers(new StreamObserver<>() {
+                @Override
+                public void onNext(SyncUsersResponse value) {
+                    responses.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    failure.set(t);
+                    done.countDown();
+                }
+
+                @Override
+                public void onCompleted() {
+                    done.countDown();
+                }
+            });
+
+            for (int i = 0; i < count; i++) {
+                int n = sequence.incrementAndGet();
+                SyncUsersRequest.Builder request = SyncUsersRequest.newBuilder();
+                int kind = i % 10;
+                if (kind < 2) {
+                    request.setAction("CREATE")
+                        .setEmail("sync-" + n + "@perf.test")
+                        .setName("동기화" + n)
+                        .setPhoneNumber("010-2000-" + String.format("%04d", n % 10_000));
+                } else if (kind < 9) {
+                    request.setAction("UPDATE")
+                        .setUserId(randomSeedId())
+                        .setName("수정" + n)
+                        .setPhoneNumber("010-3000-" + String.format("%04d", n % 10_000));
+                } else {
+                    request.setAction("DELETE")
+                        .setUserId(randomSeedId());
+                }
+                requests.onNext(request.build());
+            }
+            requests.onCompleted();
+
+            assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+            assertThat(failure.get()).isNull();
+            assertThat(responses.get()).isEqualTo(count);
+        });
+    }
+
+    /**
+     * 워밍업(작업 수의 10%) 후 본 측정을 실행하고 기준값과 비교
+     */
+    private void run(String name, int operations, Workload workload) throws Exception {
+        workload.run(Math.max(1, operations / 10));
+
+        long allocatedBefore = PerformanceBaseline.totalAllocatedBytes();
+        long startedAt = System.nanoTime();
+        workload.run(operations);
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = PerformanceBaseline.totalAllocatedBytes() - allocatedBefore;
+
+        WorkloadResult result = new WorkloadResult(name, operations, elapsed, allocated);
+        log.info("[perf] {}", result);
+        baseline.verify(result);
+    }
+
+    /**
+     * GetUsers 스트림과 조회 워크로드용 회원을 JDBC 배치로 적재
+     */
+    private void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = new ArrayList<>(SEED_USERS);
+        for (int i = 0; i < SEED_USERS; i++) {
+            rows.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+            rows, 1_000, (ps, i) -> {
+                ps.setString(1, "seed-" + i + "@perf.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-1000-" + String.format("%04d", i % 10_000));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+
+        seedMinId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        seedMaxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+    }
+
+    private long randomSeedId() {
+        return random.nextLong(seedMinId, seedMaxId + 1);
+    }
+
+    private static CreateUserRequest createRequest(String prefix, int n) {
+        return CreateUserRequest.newBuilder()
+            .setEmail(prefix + "-" + n + "@perf.test")
+            .setName("성능" + n)
+            .setPhoneNumber("010-4000-" + String.format("%04d", n % 10_000))
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run(int operations) throws Exception;
+    }
+}
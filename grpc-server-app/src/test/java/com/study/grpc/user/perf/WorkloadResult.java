@@ -0,0 +1,26 @@
+package com.study.grpc.user.perf;
+
+/**
+ * 워크로드 측정 결과
+ *
+ * @param name           워크로드 이름 (기준값 키)
+ * @param operations     처리한 작업 수 (스트림은 행 수)
+ * @param elapsedNanos   소요 시간
+ * @param allocatedBytes 측정 구간 동안 전체 스레드(종료된 스레드, 가상 스레드 포함)가 할당한 바이트
+ */
+record WorkloadResult(String name, long operations, long elapsedNanos, long allocatedBytes) {
+
+    double throughput() {
+        return operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    long bytesPerOperation() {
+        return operations == 0 ? 0 : allocatedBytes / operations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: ops=%d, elapsed=%dms, throughput=%.1f ops/s, alloc=%d B/op",
+            name, operations, elapsedNanos / 1_000_000, throughput(), bytesPerOperation());
+    }
+}
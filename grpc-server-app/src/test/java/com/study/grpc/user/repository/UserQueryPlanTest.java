@@ -0,0 +1,234 @@
+package com.study.grpc.user.repository;
+
+import com.study.grpc.user.domain.UserField;
+import com.study.grpc.user.domain.UserSortOrder;
+import com.study.grpc.user.domain.UserStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 쿼리 실행 계획 회귀 테스트
+ *
+ * UserStore 가 실제로 실행한 SQL 을 StatementInspector 로 받아 H2 EXPLAIN 으로 실행 계획을 확인하고,
+ * User 엔티티에 선언한 인덱스를 타는지(전체 스캔으로 떨어지지 않는지) 검사한다.
+ * GetUsers 가 쓰는 findProjectedPage 는 상태 필터/정렬의 모든 조합을, 변경분 동기화와 일괄 처리 경로
+ * (findChangedSince, findIdsAfterId), 가입 시 대소문자 무시 이메일 중복 확인도 함께 본다.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.study.grpc.user.repository.UserQueryPlanTest$CapturingStatementInspector",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserQueryPlanTest {
+
+    private static final int SEED_USERS = 10_000;
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        seedUsers();
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() {
+        String plan = explain(() -> userStore.findByStatus(UserStatus.ACTIVE));
+
+        assertThat(plan).containsIgnoringCase("idx_users_status_");
+    }
+
+    @Test
+    void findAllActiveUsersUsesStatusIdIndex() {
+        String plan = explain(() -> userStore.findAllActiveUsers());
+
+        assertThat(plan).containsIgnoringCase("idx_users_status_id");
+    }
+
+    @Test
+    void findProjectedPageUsesIndexForEverySortAndStatusFilter() {
+        for (UserStatus status : new UserStatus[] {UserStatus.ACTIVE, null}) {
+            for (UserSortOrder sort : UserSortOrder.values()) {
+                String plan = explain(() -> userStore.findProjectedPage(status, sort, 1, 20, UserField.ALL));
+
+                assertThat(plan).as("status=%s, sort=%s", status, sort)
+                    .containsIgnoringCase(expectedPageIndex(status, sort));
+            }
+        }
+    }
+
+    @Test
+    void findChangedSinceUsesUpdatedAtIdIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        String plan = explain(() -> userStore.findChangedSince(now.minusHours(1), 0, now, 100));
+
+        assertThat(plan).containsIgnoringCase("idx_users_updated_at_id");
+    }
+
+    @Test
+    void findIdsAfterIdUsesStatusIdIndex() {
+        String plan = explain(() -> userStore.findIdsAfterId(0, UserStatus.ACTIVE, null, 100));
+
+        assertThat(plan).containsIgnoringCase("idx_users_status_id");
+    }
+
+    @Test
+    void findIdsAfterIdUpdatedBeforeUsesStatusIdIndex() {
+        String plan = explain(() -> userStore.findIdsAfterId(0, UserStatus.ACTIVE, LocalDateTime.now(), 100));
+
+        assertThat(plan).containsIgnoringCase("idx_users_status_id");
+    }
+
+    @Test
+    void existsByEmailIgnoringCaseUsesEmailLowerIndex() {
+        String plan = explain(() -> userStore.existsByEmailIgnoringCase("PLAN-1@Query.Test"));
+
+        assertThat(plan).containsIgnoringCase("idx_users_email_lower");
+    }
+
+    /**
+     * 필터/정렬 조합별로 타야 하는 인덱스 (필터 없는 ID 정렬은 기본 키 순서로 읽음)
+     */
+    private static String expectedPageIndex(UserStatus status, UserSortOrder sort) {
+        return switch (sort) {
+            case ID_ASC -> status != null ? "idx_users_status_id" : "primary_key";
+            case CREATED_AT_ASC, CREATED_AT_DESC -> status != null
+                ? "idx_users_status_created_at_id"
+                : "idx_users_created_at_id";
+        };
+    }
+
+    /**
+     * 조회를 실행해 현재 스레드가 users 테이블에 보낸 마지막 SELECT 의 실행 계획 반환
+     */
+    private String explain(Runnable query) {
+        CapturingStatementInspector.clear();
+        query.run();
+
+        List<String> selects = CapturingStatementInspector.capturedByCurrentThread();
+        assertThat(selects).as("captured SELECT on users").isNotEmpty();
+        String sql = selects.getLast();
+
+        String plan = jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                bindSampleParameters(statement, sql);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+
+        assertThat(plan).as("plan of %s", sql).doesNotContainIgnoringCase("tableScan");
+        return plan;
+    }
+
+    /**
+     * 실행 계획은 값과 무관하므로 자리 앞 컬럼의 타입에 맞는 아무 값으로 채움
+     * (페이지 크기/오프셋은 숫자, 시각 컬럼은 현재 시각, ID/버전은 0, 나머지(상태/이메일)는 ACTIVE)
+     */
+    private static void bindSampleParameters(PreparedStatement statement, String sql) throws SQLException {
+        String normalized = sql.toLowerCase(Locale.ROOT);
+        int index = 0;
+        for (int position = normalized.indexOf('?'); position >= 0; position = normalized.indexOf('?', position + 1)) {
+            String before = normalized.substring(0, position).stripTrailing();
+            String column = before.replaceAll("[\\s=<>!(]+$", "");
+            index++;
+            if (before.endsWith("offset") || before.endsWith("first") || before.endsWith("next")
+                    || before.endsWith("limit")) {
+                statement.setInt(index, 20);
+            } else if (column.endsWith("_at")) {
+                statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.now()));
+            } else if (column.endsWith(".id") || column.endsWith(".version")) {
+                statement.setLong(index, 0);
+            } else {
+                statement.setString(index, UserStatus.ACTIVE.name());
+            }
+        }
+    }
+
+    private void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        UserStatus[] statuses = UserStatus.values();
+        List<Integer> rows = new ArrayList<>(SEED_USERS);
+        for (int i = 0; i < SEED_USERS; i++) {
+            rows.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+            rows, 1_000, (ps, i) -> {
+                ps.setString(1, "plan-" + i + "@query.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-1000-" + String.format("%04d", i % 10_000));
+                ps.setString(5, statuses[i % statuses.length].name());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+            });
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 스레드별로 기록 (users 테이블 SELECT 만)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<Captured> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String normalized = sql.toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("select") && normalized.contains(" from users ")) {
+                CAPTURED.add(new Captured(Thread.currentThread().threadId(), sql));
+            }
+            return sql;
+        }
+
+        static void clear() {
+            CAPTURED.clear();
+        }
+
+        static List<String> capturedByCurrentThread() {
+            long threadId = Thread.currentThread().threadId();
+            return CAPTURED.stream()
+                .filter(captured -> captured.threadId() == threadId)
+                .map(Captured::sql)
+                .toList();
+        }
+
+        private record Captured(long threadId, String sql) {
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.study.grpc.user.repository;
+
+import com.study.grpc.proto.GetUserRequest;
+import com.study.grpc.proto.GetUserResponse;
+import com.study.grpc.proto.UserServiceGrpc;
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.grpc.UserGrpcService;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장 엔진 비교 벤치마크 (jpa / mapped)
+ *
+ * user.storage.engine 으로 고른 엔진 하나에 perf.engineUsers 명(기본 1천만)을 적재한 뒤
+ * - 적재 후 GC 를 거친 힙 사용량과 매핑/직접 버퍼 크기
+ * - 적재 구간과 GetUser 구간의 GC 횟수, 누적/최대 정지 시간
+ * - in-process gRPC 로 임의 ID 를 GetUser 했을 때의 지연 분포(p50/p99/p99.9/max)와 처리량
+ * 을 재서 표로 출력한다. 힙/GC 를 엔진별로 따로 재야 하므로 JVM 하나에서 엔진 하나만 측정하며,
+ * 기준값 비교 없이 build/perf/storage-engine-{engine}.properties 에 결과만 남긴다.
+ *
+ * 실행: ./gradlew :grpc-server-app:storageEngineBenchmark -Pengine=jpa|mapped [-Pusers=10000000] [-Pheap=8g]
+ * (check/test 에서는 제외)
+ */
+@Tag("storage-engine")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserStoreEngineBenchmark {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+    private static final int WARMUP_CALLS = 20_000;
+    private static final String PASSWORD_HASH = "$2a$04$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm";
+
+    @Autowired
+    private UserStore userStore;
+
+    @Autowired
+    private UserGrpcService userGrpcService;
+
+    @Value("${user.storage.engine:jpa}")
+    private String engine;
+
+    private final int users = Integer.getInteger("perf.engineUsers", 10_000_000);
+    private final int getUserCalls = Integer.getInteger("perf.engineGetUserCalls", 200_000);
+    private final Map<String, String> results = new LinkedHashMap<>();
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void measureEngine() throws Exception {
+        results.put("engine", engine);
+        results.put("users", String.valueOf(users));
+
+        GcRecorder loadGc = GcRecorder.start();
+        long loadStartedAt = System.nanoTime();
+        long maxId = loadUsers();
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartedAt);
+        recordGc("load", loadGc.stop());
+        results.put("load.millis", String.valueOf(loadMillis));
+
+        recordMemory();
+
+        GcRecorder readGc = GcRecorder.start();
+        long[] latencies = getUsers(maxId);
+        recordGc("get-user", readGc.stop());
+        recordLatencies(latencies);
+    }
+
+    /**
+     * 엔진의 일괄 추가(insertAll)로 회원 적재 후 가장 큰 ID 반환 (새 저장소이므로 ID 는 연속)
+     */
+    private long loadUsers() {
+        List<User> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+        for (int i = 0; i < users; i++) {
+            chunk.add(User.builder()
+                .email("engine-" + i + "@perf.test")
+                .password(PASSWORD_HASH)
+                .name("회원" + i)
+                .phoneNumber("010-1000-" + String.format("%04d", i % 10_000))
+                .build());
+            if (chunk.size() == LOAD_CHUNK_SIZE || i == users - 1) {
+                userStore.insertAll(chunk);
+                chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            }
+        }
+
+        List<User> first = userStore.findAfterId(0, null, 1);
+        assertThat(first).isNotEmpty();
+        assertThat(userStore.countActiveUsers()).isEqualTo(users);
+        return first.getFirst().getId() + users - 1;
+    }
+
+    /**
+     * 적재 후 전체 GC 를 거친 힙 사용량과 힙 밖 버퍼(매핑 파일, 직접 버퍼) 크기
+     */
+    private void recordMemory() {
+        System.gc();
+        System.gc();
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        results.put("heap.usedAfterGcMb", String.valueOf(heapUsed >> 20));
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            results.put("buffer." + pool.getName() + ".mb", String.valueOf(pool.getMemoryUsed() >> 20));
+        }
+    }
+
+    /**
+     * 임의 ID 로 GetUser 를 순차 호출해 호출별 지연(ns) 반환 (워밍업 제외)
+     */
+    private long[] getUsers(long maxId) throws Exception {
+        long minId = maxId - users + 1;
+        String serverName = InProcessServerBuilder.generateName();
+        Server server = InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(userGrpcService)
+            .build()
+            .start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(serverName)
+            .directExecutor()
+            .build();
+
+        try {
+            UserServiceGrpc.UserServiceBlockingStub stub = UserServiceGrpc.newBlockingStub(channel);
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < WARMUP_CALLS; i++) {
+                stub.getUser(GetUserRequest.newBuilder().setId(random.nextLong(minId, maxId + 1)).build());
+            }
+
+            long[] latencies = new long[getUserCalls];
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < getUserCalls; i++) {
+                long callStartedAt = System.nanoTime();
+                GetUserResponse response = stub.getUser(GetUserRequest.newBuilder()
+                    .setId(random.nextLong(minId, maxId + 1))
+                    .build());
+                latencies[i] = System.nanoTime() - callStartedAt;
+                assertThat(response.getId()).isPositive();
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            results.put("get-user.opsPerSecond",
+                String.format(Locale.ROOT, "%.1f", getUserCalls * 1_000_000_000.0 / elapsed));
+            return latencies;
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void recordLatencies(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        results.put("get-user.p50Micros", micros(percentile(sorted, 0.50)));
+        results.put("get-user.p99Micros", micros(percentile(sorted, 0.99)));
+        results.put("get-user.p999Micros", micros(percentile(sorted, 0.999)));
+        results.put("get-user.maxMicros", micros(sorted[sorted.length - 1]));
+    }
+
+    private void recordGc(String phase, GcStats stats) {
+        results.put(phase + ".gcCount", String.valueOf(stats.count()));
+        results.put(phase + ".gcPauseTotalMillis", String.valueOf(stats.totalMillis()));
+        results.put(phase + ".gcPauseMaxMillis", String.valueOf(stats.maxMillis()));
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * fraction) - 1)];
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000.0);
+    }
+
+    private void printTable() {
+        results.forEach((key, value) -> System.out.printf("[storage-engine] %-28s %16s%n", key, value));
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(results);
+
+        Path file = Path.of(System.getProperty("perf.engineResultFile",
+            "build/perf/storage-engine-" + engine + ".properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "Storage engine benchmark (engine=" + engine + ", users=" + users + ")");
+        }
+    }
+
+    /**
+     * 구간 동안의 GC 정지 기록 (GC 알림의 duration, 동시 수행 주기(Cycles) 수집기는 정지가 아니므로 제외)
+     */
+    private static final class GcRecorder implements NotificationListener {
+
+        private final List<NotificationEmitter> emitters = new ArrayList<>();
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+
+        static GcRecorder start() {
+            GcRecorder recorder = new GcRecorder();
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter && !collector.getName().endsWith("Cycles")) {
+                    emitter.addNotificationListener(recorder, null, null);
+                    recorder.emitters.add(emitter);
+                }
+            }
+            return recorder;
+        }
+
+        @Override
+        public synchronized void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long duration = info.getGcInfo().getDuration();
+            count++;
+            totalMillis += duration;
+            maxMillis = Math.max(maxMillis, duration);
+        }
+
+        synchronized GcStats stop() throws Exception {
+            for (NotificationEmitter emitter : emitters) {
+                emitter.removeNotificationListener(this);
+            }
+            return new GcStats(count, totalMillis, maxMillis);
+        }
+    }
+
+    private record GcStats(long count, long totalMillis, long maxMillis) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.study.grpc.user.repository.mapped;
+
+import com.study.grpc.user.domain.User;
+import com.study.grpc.user.domain.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MappedUserStore WAL 복구 테스트
+ *
+ * 저장소를 닫지 않은 상태의 파일을 복사해 비정상 종료 시점의 디스크를 흉내 내고,
+ * WAL 꼬리나 레코드 페이지를 잘라낸 뒤 다시 열어 복구 결과를 확인한다.
+ */
+class MappedUserStoreTest {
+
+    private static final int EMAIL_INDEX_CAPACITY = 1024;
+    private static final Duration CHECKPOINT_INTERVAL = Duration.ofHours(1);
+
+    @TempDir
+    Path tempDir;
+
+    private final List<MappedUserStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (MappedUserStore store : stores) {
+            store.close();
+        }
+    }
+
+    @Test
+    void recoversWhenWalTailAndLastRecordPageAreLost() throws IOException {
+        Path dir = tempDir.resolve("live");
+        MappedUserStore store = open(dir);
+        for (int i = 1; i <= 5; i++) {
+            store.save(newUser(i));
+        }
+
+        // 마지막 쓰기의 WAL 엔트리는 쓰다 말았고 레코드 페이지는 디스크에 남지 않았으나 헤더의 nextId 는 남은 상태
+        Path crashed = crashCopy(dir, tempDir.resolve("crashed"));
+        truncateTail(crashed.resolve("users.wal"), 10);
+        zeroRecord(crashed.resolve("users.dat"), 5);
+
+        MappedUserStore recovered = open(crashed);
+
+        assertThat(recovered.findAll()).extracting(User::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(recovered.countActiveUsers()).isEqualTo(4);
+        assertThat(recovered.findAfterId(0, null, 100)).hasSize(4);
+        assertThat(recovered.findByStatus(UserStatus.ACTIVE)).hasSize(4);
+        assertThat(recovered.countGroupByStatus()).containsEntry(UserStatus.ACTIVE, 4L);
+        assertThat(recovered.existsByEmail("user5@mapped.test")).isFalse();
+
+        User saved = recovered.save(newUser(5));
+        assertThat(saved.getId()).isEqualTo(5L);
+        assertThat(recovered.findByEmail("user5@mapped.test")).map(User::getId).contains(5L);
+    }
+
+    @Test
+    void replaysWalOverLostRecordPages() throws IOException {
+        Path dir = tempDir.resolve("live");
+        MappedUserStore store = open(dir);
+        for (int i = 1; i <= 3; i++) {
+            store.save(newUser(i));
+        }
+        User updated = store.findById(2L).orElseThrow();
+        updated.updateStatus(UserStatus.SUSPENDED);
+        store.save(updated);
+
+        // 헤더만 디스크에 남고 레코드 페이지는 모두 유실된 상태
+        Path crashed = crashCopy(dir, tempDir.resolve("crashed"));
+        for (long id = 1; id <= 3; id++) {
+            zeroRecord(crashed.resolve("users.dat"), id);
+        }
+
+        MappedUserStore recovered = open(crashed);
+
+        assertThat(recovered.findAll()).extracting(User::getEmail)
+            .containsExactly("user1@mapped.test", "user2@mapped.test", "user3@mapped.test");
+        User replayed = recovered.findById(2L).orElseThrow();
+        assertThat(replayed.getStatus()).isEqualTo(UserStatus.SUSPENDED);
+        assertThat(replayed.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void replaysWritesMadeAfterCheckpoint() throws IOException {
+        Path dir = tempDir.resolve("live");
+        MappedUserStore store = open(dir);
+        for (int i = 1; i <= 3; i++) {
+            store.save(newUser(i));
+        }
+        store.checkpoint();
+        for (int i = 4; i <= 5; i++) {
+            store.save(newUser(i));
+        }
+
+        // 체크포인트 이후 쓰기의 레코드 페이지는 디스크에 남지 않은 상태
+        Path crashed = crashCopy(dir, tempDir.resolve("crashed"));
+        zeroRecord(crashed.resolve("users.dat"), 4);
+        zeroRecord(crashed.resolve("users.dat"), 5);
+
+        MappedUserStore recovered = open(crashed);
+
+        assertThat(recovered.findAll()).extracting(User::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(recovered.findByEmail("user5@mapped.test")).map(User::getId).contains(5L);
+    }
+
+    @Test
+    void walTruncateKeepsEntriesAfterCheckpointLsn() throws IOException {
+        Path file = tempDir.resolve("users.wal");
+        WriteAheadLog wal = WriteAheadLog.openAndReplay(file, 0, payload -> { });
+        long lsn = 0;
+        for (int i = 1; i <= 5; i++) {
+            lsn = wal.append(new byte[] {(byte) i});
+        }
+        wal.awaitDurable(lsn);
+        wal.truncate(3);
+        wal.close();
+
+        List<Byte> replayed = new ArrayList<>();
+        WriteAheadLog reopened = WriteAheadLog.openAndReplay(file, 0, payload -> replayed.add(payload.get(0)));
+        reopened.close();
+
+        assertThat(replayed).containsExactly((byte) 4, (byte) 5);
+        assertThat(Files.exists(file.resolveSibling("users.wal.tmp"))).isFalse();
+    }
+
+    @Test
+    void insertAllStoresNothingWhenAnyEmailIsDuplicate() {
+        MappedUserStore store = open(tempDir.resolve("live"));
+        store.save(newUser(3));
+
+        assertThatThrownBy(() -> store.insertAll(List.of(newUser(1), newUser(2), newUser(3))))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(store.findAll()).extracting(User::getEmail).containsExactly("user3@mapped.test");
+        assertThat(store.insertAll(List.of(newUser(1), newUser(2)))).isEqualTo(2);
+        assertThat(store.findAll()).extracting(User::getId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void findsEmailIgnoringCaseOnlyWhenAsked() {
+        MappedUserStore store = open(tempDir.resolve("live"));
+        store.save(newUser(1));
+
+        assertThat(store.existsByEmail("USER1@Mapped.Test")).isFalse();
+        assertThat(store.existsByEmailIgnoringCase("USER1@Mapped.Test")).isTrue();
+        assertThat(store.existsByEmailIgnoringCase("user2@mapped.test")).isFalse();
+        assertThat(store.findByEmail("user1@mapped.test")).map(User::getId).contains(1L);
+    }
+
+    private MappedUserStore open(Path dir) {
+        MappedUserStore store = new MappedUserStore(dir.toString(), EMAIL_INDEX_CAPACITY, "wal", CHECKPOINT_INTERVAL);
+        stores.add(store);
+        return store;
+    }
+
+    /**
+     * 열려 있는 저장소의 파일 복사 (닫기/체크포인트 없이 종료된 시점의 디스크)
+     */
+    private static Path crashCopy(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        for (String file : List.of("users.dat", "users.wal", "email.idx")) {
+            Files.copy(source.resolve(file), target.resolve(file));
+        }
+        return target;
+    }
+
+    private static void truncateTail(Path file, int bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - bytes);
+        }
+    }
+
+    private static void zeroRecord(Path file, long id) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(UserRecordLayout.RECORD_SIZE), id * UserRecordLayout.RECORD_SIZE);
+        }
+    }
+
+    private static User newUser(int n) {
+        return User.builder()
+            .email("user" + n + "@mapped.test")
+            .password("TempPassword123!")
+            .name("회원" + n)
+            .phoneNumber("010-0000-" + String.format("%04d", n))
+            .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.user.domain.UserStatus;
+import com.study.grpc.user.dto.UserBulkStatusUpdateResult;
+import com.study.grpc.user.dto.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 상태 변경 도중의 변경분 동기화 테스트
+ *
+ * 두 번째 청크의 행을 다른 트랜잭션이 잠가 일괄 변경을 중간에 멈춰 두고, 그 사이 다른 회원을 바꾼 뒤
+ * 변경분을 동기화해 워터마크를 앞으로 보낸다. 잠금을 풀고 일괄 변경이 끝난 뒤 그 워터마크에서 이어 받아도
+ * 두 번째 청크가 빠지지 않아야 한다 (청크별 커밋, 청크를 쓰는 시각으로 updatedAt 기록).
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        // 잠금 대기가 기본 제한 시간(1초)에 걸리지 않도록
+        "spring.datasource.url=jdbc:h2:mem:bulk-status-delta;LOCK_TIMEOUT=30000",
+        "logging.level.com.study.grpc=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserBulkStatusDeltaSyncTest {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int BULK_USERS = CHUNK_SIZE + 500;
+    private static final int SYNC_LIMIT = 10_000;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void deltaSyncDuringBulkUpdateDoesNotSkipLaterChunks() throws Exception {
+        LocalDateTime seededAt = LocalDateTime.now().minusHours(1).withNano(0);
+        List<Long> bulkIds = seedUsers("bulk", BULK_USERS, seededAt);
+        long otherId = seedUsers("other", 1, seededAt).getFirst();
+        List<Long> firstChunk = bulkIds.subList(0, CHUNK_SIZE);
+        List<Long> secondChunk = bulkIds.subList(CHUNK_SIZE, BULK_USERS);
+
+        CompletableFuture<UserBulkStatusUpdateResult> bulk;
+        UserResponse watermark;
+        try (Connection locker = dataSource.getConnection()) {
+            locker.setAutoCommit(false);
+            lockRow(locker, secondChunk.getFirst());
+
+            bulk = CompletableFuture.supplyAsync(() -> userService.updateUserStatuses(bulkIds, UserStatus.SUSPENDED));
+            awaitStatus(firstChunk.getLast(), UserStatus.SUSPENDED);
+
+            // 일괄 변경이 두 번째 청크 잠금을 기다리는 동안 다른 회원 변경이 커밋됨
+            jdbcTemplate.update("UPDATE users SET name = ?, updated_at = ?, version = version + 1 WHERE id = ?",
+                "변경됨", Timestamp.valueOf(LocalDateTime.now()), otherId);
+            TimeUnit.MILLISECONDS.sleep(20);
+
+            // 적재 시점 워터마크(seededAt, 마지막 적재 ID)부터 동기화
+            List<UserResponse> changes =
+                userService.getUsersChangedSince(seededAt, otherId, LocalDateTime.now(), SYNC_LIMIT);
+            assertThat(changes).extracting(UserResponse::getId)
+                .containsAll(firstChunk)
+                .contains(otherId)
+                .doesNotContainAnyElementsOf(secondChunk);
+            assertThat(bulk).isNotDone();
+            watermark = changes.getLast();
+
+            locker.commit();
+        }
+
+        assertThat(bulk.get(30, TimeUnit.SECONDS).getUpdatedCount()).isEqualTo(BULK_USERS);
+        TimeUnit.MILLISECONDS.sleep(20);
+
+        List<UserResponse> resumed = userService.getUsersChangedSince(
+            watermark.getUpdatedAt(), watermark.getId(), LocalDateTime.now(), SYNC_LIMIT);
+        assertThat(resumed).extracting(UserResponse::getId).containsAll(secondChunk);
+        assertThat(resumed).extracting(UserResponse::getStatus).containsOnly(UserStatus.SUSPENDED);
+    }
+
+    private List<Long> seedUsers(String prefix, int count, LocalDateTime updatedAt) {
+        List<Integer> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(i);
+        }
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+            rows, CHUNK_SIZE, (ps, i) -> {
+                ps.setString(1, prefix + "-" + i + "@delta.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-2000-" + String.format("%04d", i % 10_000));
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+            });
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, prefix + "-%@delta.test");
+    }
+
+    private static void lockRow(Connection connection, long id) throws Exception {
+        String sql = "SELECT id FROM users WHERE id = ? FOR UPDATE";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertThat(resultSet.next()).isTrue();
+            }
+        }
+    }
+
+    /**
+     * 첫 청크가 커밋되어 다른 연결에서 보일 때까지 대기
+     */
+    private void awaitStatus(long id, UserStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!status.name().equals(
+                jdbcTemplate.queryForObject("SELECT status FROM users WHERE id = ?", String.class, id))) {
+            assertThat(System.nanoTime()).as("chunk committed before deadline").isLessThan(deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
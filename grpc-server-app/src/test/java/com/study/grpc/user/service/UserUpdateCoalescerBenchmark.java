@@ -0,0 +1,280 @@
+package com.study.grpc.user.service;
+
+import com.study.grpc.common.idempotency.IdempotencyStore;
+import com.study.grpc.proto.*;
+import com.study.grpc.user.grpc.SyncAckBatcher;
+import com.study.grpc.user.grpc.UserGrpcService;
+import io.grpc.BindableService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SyncUsers write-behind 쓰기 증폭 비교 벤치마크
+ *
+ * 적은 수의 회원에게 UPDATE 가 몰리는 SyncUsers 스트림을 write-behind 끔/켬 두 가지로 실행하고
+ * 커밋된 트랜잭션 수와 UPDATE 1건당 반영된 행 수를 비교한다.
+ * - 끔: 컨텍스트의 UserGrpcService (UPDATE 마다 updateUser 트랜잭션 1개)
+ * - 켬: 같은 빈들에 병합 버퍼만 켠 UserUpdateCoalescer 를 붙인 UserGrpcService
+ * 두 모드 모두 Hibernate 통계로 트랜잭션/수정 행 수를 재고, 켬 모드는 UserUpdateCoalescer 카운터도 함께 기록한다.
+ * 기준값 비교 없이 측정만 하며, 결과는 build/perf/write-behind-results.properties 에 남긴다.
+ *
+ * 실행: ./gradlew :grpc-server-app:writeBehindBenchmark (check/test 에서는 제외)
+ */
+@Tag("write-behind")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "grpc.server.port=-1",
+        "user.sync.write-behind.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "logging.level.com.study.grpc=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.orm.jdbc.bind=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+    })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserUpdateCoalescerBenchmark {
+
+    private static final int HOT_USERS = 100;
+    private static final int UPDATES = 20_000;
+    private static final Duration WINDOW = Duration.ofMillis(20);
+    private static final int MAX_BATCH_SIZE = 500;
+
+    @Autowired
+    private UserGrpcService userGrpcService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private UserStatsCounter userStatsCounter;
+
+    @Autowired
+    private SyncAckBatcher syncAckBatcher;
+
+    @Autowired
+    private UserPasswordHasher userPasswordHasher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Measurement> results = new ArrayList<>();
+    private Statistics statistics;
+    private long hotMinId;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        seedUsers();
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        printTable();
+        writeResults();
+    }
+
+    @Test
+    void compareWriteBehind() throws Exception {
+        results.add(run("off", userGrpcService, null));
+
+        UserUpdateCoalescer coalescer = new UserUpdateCoalescer(userService, true, WINDOW, MAX_BATCH_SIZE);
+        try {
+            UserGrpcService writeBehindService = new UserGrpcService(userService, idempotencyStore, coalescer,
+                userStatsCounter, syncAckBatcher, userPasswordHasher);
+            results.add(run("on", writeBehindService, coalescer));
+        } finally {
+            coalescer.shutdown();
+        }
+
+        Measurement off = results.get(0);
+        Measurement on = results.get(1);
+        assertThat(on.transactions()).isLessThan(off.transactions());
+    }
+
+    /**
+     * 서비스 1개를 in-process 서버에 올려 UPDATE 스트림을 끝까지 보내고 커밋 통계 측정
+     */
+    private Measurement run(String mode, BindableService service, UserUpdateCoalescer coalescer) throws Exception {
+        String serverName = InProcessServerBuilder.generateName();
+        Server server = InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(service)
+            .build()
+            .start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(serverName)
+            .directExecutor()
+            .build();
+
+        try {
+            UserServiceGrpc.UserServiceStub stub = UserServiceGrpc.newStub(channel);
+            statistics.clear();
+
+            long startedAt = System.nanoTime();
+            int acknowledged = sendUpdates(stub, mode);
+            long elapsed = System.nanoTime() - startedAt;
+            assertThat(acknowledged).isEqualTo(UPDATES);
+
+            return new Measurement(mode, UPDATES, elapsed,
+                statistics.getSuccessfulTransactionCount(), statistics.getEntityUpdateCount(),
+                coalescer != null ? coalescer.getFlushCount() : -1,
+                coalescer != null ? coalescer.getFlushedRowCount() : -1);
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 인기 회원 HOT_USERS 명에게 UPDATE 를 UPDATES 건 보내고 성공 응답 수 반환
+     */
+    private int sendUpdates(UserServiceGrpc.UserServiceStub stub, String mode) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        StreamObserver<SyncUsersRequest> requests = stub.syncUsers(new StreamObserver<>() {
+            @Override
+            public void onNext(SyncUsersResponse value) {
+                if ("SUCCESS".equals(value.getStatus())) {
+                    succeeded.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                failure.set(t);
+                done.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                done.countDown();
+            }
+        });
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < UPDATES; i++) {
+            requests.onNext(SyncUsersRequest.newBuilder()
+                .setAction("UPDATE")
+                .setUserId(hotMinId + random.nextInt(HOT_USERS))
+                .setName(mode + "-" + i)
+                .setPhoneNumber("010-3000-" + String.format("%04d", i % 10_000))
+                .build());
+        }
+        requests.onCompleted();
+
+        assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+        assertThat(failure.get()).isNull();
+        return succeeded.get();
+    }
+
+    private void seedUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = new ArrayList<>(HOT_USERS);
+        for (int i = 0; i < HOT_USERS; i++) {
+            rows.add(i);
+        }
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO users (email, password, name, phone_number, status, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, 0)",
+            rows, 1_000, (ps, i) -> {
+                ps.setString(1, "write-behind-" + i + "@perf.test");
+                ps.setString(2, "TempPassword123!");
+                ps.setString(3, "회원" + i);
+                ps.setString(4, "010-1000-" + String.format("%04d", i));
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+
+        hotMinId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+    }
+
+    private void printTable() {
+        System.out.printf("[write-behind] %-5s %10s %12s %14s %14s %14s %18s%n",
+            "mode", "updates", "ops/s", "transactions", "rows", "rows/update", "coalescer(tx/rows)");
+        results.forEach(m -> System.out.printf(Locale.ROOT, "[write-behind] %-5s %10d %12.1f %14d %14d %14.3f %18s%n",
+            m.mode(), m.updates(), m.opsPerSecond(), m.transactions(), m.committedRows(), m.rowsPerUpdate(),
+            m.coalescerFlushes() < 0 ? "-" : m.coalescerFlushes() + "/" + m.coalescerRows()));
+    }
+
+    private void writeResults() throws IOException {
+        Properties properties = new Properties();
+        results.forEach(m -> {
+            String prefix = m.mode() + ".";
+            properties.setProperty(prefix + "updates", String.valueOf(m.updates()));
+            properties.setProperty(prefix + "opsPerSecond", String.format(Locale.ROOT, "%.1f", m.opsPerSecond()));
+            properties.setProperty(prefix + "transactions", String.valueOf(m.transactions()));
+            properties.setProperty(prefix + "committedRows", String.valueOf(m.committedRows()));
+            properties.setProperty(prefix + "rowsPerUpdate", String.format(Locale.ROOT, "%.3f", m.rowsPerUpdate()));
+            if (m.coalescerFlushes() >= 0) {
+                properties.setProperty(prefix + "coalescerTransactions", String.valueOf(m.coalescerFlushes()));
+                properties.setProperty(prefix + "coalescerRows", String.valueOf(m.coalescerRows()));
+            }
+        });
+
+        Path file = Path.of(System.getProperty("perf.writeBehindResultFile", "build/perf/write-behind-results.properties"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, "SyncUsers write-behind benchmark (hot users=" + HOT_USERS + ")");
+        }
+    }
+
+    /**
+     * 모드 1개 측정 결과 (끔 모드는 coalescer 카운터 = -1)
+     */
+    private record Measurement(String mode, int updates, long elapsedNanos, long transactions, long committedRows,
+                               long coalescerFlushes, long coalescerRows) {
+
+        double opsPerSecond() {
+            return updates * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double rowsPerUpdate() {
+            return (double) committedRows / updates;
+        }
+    }
+}